@@ -0,0 +1,51 @@
+package com.mockify.backend.common.pagination;
+
+import com.mockify.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by {@code (createdAt DESC, id DESC)}.
+ *
+ * <p>The next page is everything strictly before the last row returned, so a
+ * page costs an index range scan of {@code size} rows wherever it is in the
+ * listing, unlike {@code OFFSET}. The id breaks ties between rows created in
+ * the same instant.</p>
+ *
+ * <p>Clients get it as an opaque URL-safe token and pass it back unchanged.</p>
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    /** Sorts before every real row; used for the first page. */
+    public static final KeysetCursor START = new KeysetCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            new UUID(-1L, -1L)
+    );
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A missing token means the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for API Key system
  * Loaded from application.yml under app.api-key prefix
@@ -54,4 +56,17 @@ public class ApiKeyConfig {
      */
     @Min(value = 1, message = "Max rate limit must be at least 1")
     private int maxRateLimit = 100000;
-}
\ No newline at end of file
+
+    /**
+     * How long a verified key stays in the in-memory authentication cache.
+     * Revocations are broadcast immediately; this only bounds staleness
+     * when a broadcast is lost.
+     */
+    private Duration authCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of verified keys held in the authentication cache per node
+     */
+    @Min(value = 1, message = "Auth cache size must be at least 1")
+    private int authCacheMaxSize = 10000;
+}
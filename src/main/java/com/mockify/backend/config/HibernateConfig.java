@@ -0,0 +1,27 @@
+package com.mockify.backend.config;
+
+import com.mockify.backend.infrastructure.SqlStatementCounter;
+import com.mockify.backend.infrastructure.SqlTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks the per-request SQL counters into Hibernate.
+ *
+ * The statement inspector is shared by all sessions; the timing listener is
+ * created by Hibernate for each session. Both only record while a
+ * {@link com.mockify.backend.infrastructure.SqlStatementStats} scope is open.
+ */
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementStatsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+}
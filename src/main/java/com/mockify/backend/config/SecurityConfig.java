@@ -1,25 +1,39 @@
 package com.mockify.backend.config;
 
+import com.mockify.backend.infrastructure.PasswordHashingExecutor;
 import com.mockify.backend.security.ApiKeyAuthenticationFilter;
 import com.mockify.backend.security.ApiKeyRateLimitFilter;
+import com.mockify.backend.security.BoundedPasswordEncoder;
 import com.mockify.backend.security.CustomAuthenticationEntryPoint;
 import com.mockify.backend.security.JwtAuthenticationFilter;
 import com.mockify.backend.security.RateLimitFilter;
+import com.mockify.backend.security.ScrapeSecretEncoder;
 import com.mockify.backend.security.oauth2.CustomOAuth2UserService;
 import com.mockify.backend.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,6 +47,12 @@ import java.util.Arrays;
  * 2. API Key Filter checks for X-API-Key header
  *
  * Priority: JWT > API Key
+ *
+ * {@code /actuator/prometheus} has its own HTTP Basic chain for the scraper.
+ *
+ * Public mock traffic ({@code /api/mock/**}) is matched before the main chain by a separate
+ * chain that only applies CORS and IP rate limiting. It never authenticates,
+ * so no JWT parsing, API key lookup or SecurityContext work happens there.
  */
 @Configuration
 @EnableWebSecurity
@@ -45,9 +65,10 @@ public class SecurityConfig {
     private final ApiKeyRateLimitFilter apiKeyRateLimitFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+    // BCrypt runs on a bounded pool so a login burst cannot take every core
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(10), passwordHashingExecutor);
     }
 
     @Bean
@@ -56,7 +77,81 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * Chain for the Prometheus scrape endpoint. Ordered before all other chains.
+     * The scraper authenticates with HTTP Basic as a single in-memory user, so it
+     * needs neither a JWT nor an admin account. Its password is checked with
+     * {@link ScrapeSecretEncoder} on the request thread, not on the BCrypt
+     * hashing pool, so a login burst cannot make scrapes fail. With no password
+     * configured the endpoint rejects every request.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain prometheusSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${app.metrics.scrape.username:prometheus}") String username,
+            @Value("${app.metrics.scrape.password:}") String password) throws Exception {
+
+        boolean configured = StringUtils.hasText(password);
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.disable())
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> {
+                    if (configured) {
+                        auth.anyRequest().hasRole("METRICS");
+                    } else {
+                        auth.anyRequest().denyAll();
+                    }
+                });
+
+        if (configured) {
+            PasswordEncoder passwordEncoder = new ScrapeSecretEncoder();
+            UserDetails scraper = User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles("METRICS")
+                    .build();
+            DaoAuthenticationProvider provider =
+                    new DaoAuthenticationProvider(new InMemoryUserDetailsManager(scraper));
+            provider.setPasswordEncoder(passwordEncoder);
+            http.authenticationManager(new ProviderManager(provider));
+        }
+
+        return http.build();
+    }
+
+    /**
+     * Chain for the public mock-serving namespace. Ordered before the main chain.
+     * No authorization rules are configured, so every request is permitted.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain mockApiSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/api/mock/**")
+                .csrf(csrf -> csrf.disable())
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+
+                // Stateless and anonymous — skip context, session and request-cache machinery
+                .securityContext(context -> context.disable())
+                .sessionManagement(session -> session.disable())
+                .requestCache(cache -> cache.disable())
+                .anonymous(anonymous -> anonymous.disable())
+                .exceptionHandling(ex -> ex.disable())
+                .logout(logout -> logout.disable())
+
+                // General rate limiting still protects the public namespace
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    CustomOAuth2UserService customOAuth2UserService,
                                                    OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler) throws Exception {
@@ -75,7 +170,6 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/forgot-password").permitAll()
                         .requestMatchers("/api/auth/reset-password").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
-                        .requestMatchers("/api/mock/**").permitAll()
                         .requestMatchers("/api/endpoints/lookup/**").permitAll()
 
                         // Admin-only endpoints
@@ -129,6 +223,35 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // The filters below are @Components, so Boot would also register them as plain
+    // servlet filters for every request. Disable that; they run only in the chains above.
+
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        return disabledRegistration(jwtAuthenticationFilter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ApiKeyAuthenticationFilter> apiKeyAuthenticationFilterRegistration() {
+        return disabledRegistration(apiKeyAuthenticationFilter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        return disabledRegistration(rateLimitFilter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ApiKeyRateLimitFilter> apiKeyRateLimitFilterRegistration() {
+        return disabledRegistration(apiKeyRateLimitFilter);
+    }
+
+    private static <T extends Filter> FilterRegistrationBean<T> disabledRegistration(T filter) {
+        FilterRegistrationBean<T> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
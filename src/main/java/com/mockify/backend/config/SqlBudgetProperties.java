@@ -0,0 +1,61 @@
+package com.mockify.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-request SQL budget, loaded from application.yml under {@code app.sql-budget}.
+ *
+ * <p>A request that prepares more statements or spends more JDBC time than its
+ * route allows is logged as a warning. Routes are matched like rate-limit
+ * groups: the first group with a matching path wins, otherwise the defaults apply.</p>
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-budget")
+@Getter
+@Setter
+public class SqlBudgetProperties {
+
+    /**
+     * Turns per-request counting off entirely
+     */
+    private boolean enabled = true;
+
+    /**
+     * Adds X-Sql-Statements / X-Sql-Time-Ms to every response.
+     * Buffers the response body, so keep it off in production.
+     */
+    private boolean headers = false;
+
+    /**
+     * Publishes mockify.sql.* meters per route
+     */
+    private boolean metrics = true;
+
+    private Budget defaults = new Budget();
+
+    /*
+        Key = route name (schemas, records etc.)
+        Value = paths and budget for that route.
+    */
+    private Map<String, Route> routes = Map.of();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private int statements = 20;
+        private Duration time = Duration.ofMillis(250);
+    }
+
+    @Getter
+    @Setter
+    public static class Route extends Budget {
+        private List<String> paths = List.of();
+    }
+}
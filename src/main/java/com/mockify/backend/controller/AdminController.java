@@ -2,14 +2,10 @@ package com.mockify.backend.controller;
 
 import com.mockify.backend.common.enums.UserRole;
 import com.mockify.backend.dto.response.admin.*;
-import com.mockify.backend.dto.response.page.PageResponse;
+import com.mockify.backend.dto.response.page.CursorPageResponse;
 import com.mockify.backend.service.AdminService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -40,65 +36,64 @@ public class AdminController {
         );
     }
 
+    /*
+         Listings are newest first. Pass the previous page's nextCursor
+         as ?cursor= to get the following page.
+     */
     @GetMapping("/users")
-    public ResponseEntity<PageResponse<AdminUserResponse>> getUsers(
+    public ResponseEntity<CursorPageResponse<AdminUserResponse>> getUsers(
             @RequestParam(required = false) String email,
             @RequestParam(required = false) UserRole role,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
 
-        Page<AdminUserResponse> page =  adminService.listUsers(email, role, pageable);
-
-        return ResponseEntity.ok(PageResponse.from(page));
+        return ResponseEntity.ok(adminService.listUsers(email, role, cursor, size, approximateTotal));
     }
 
     @GetMapping("/organizations")
-    public ResponseEntity<PageResponse<AdminOrganizationResponse>> getOrganizations(
+    public ResponseEntity<CursorPageResponse<AdminOrganizationResponse>> getOrganizations(
             @RequestParam(required = false) UUID userId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
 
-        Page<AdminOrganizationResponse> page = adminService.listOrganizations(userId, pageable);
-
-        return ResponseEntity.ok(PageResponse.from(page));
+        return ResponseEntity.ok(adminService.listOrganizations(userId, cursor, size, approximateTotal));
     }
 
     @GetMapping("/projects")
-    public ResponseEntity<PageResponse<AdminProjectResponse>> getProjects(
+    public ResponseEntity<CursorPageResponse<AdminProjectResponse>> getProjects(
             @RequestParam(required = false) UUID orgId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
 
-        Page<AdminProjectResponse> page = adminService.listProjects(orgId, pageable);
-
-        return ResponseEntity.ok(PageResponse.from(page));
+        return ResponseEntity.ok(adminService.listProjects(orgId, cursor, size, approximateTotal));
     }
 
     @GetMapping("/schemas")
-    public ResponseEntity<PageResponse<AdminMockSchemaResponse>> getSchemas(
+    public ResponseEntity<CursorPageResponse<AdminMockSchemaResponse>> getSchemas(
             @RequestParam(required = false) UUID projectId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
 
-        Page<AdminMockSchemaResponse> page = adminService.listSchemas(projectId, pageable);
-
-        return ResponseEntity.ok(PageResponse.from(page));
+        return ResponseEntity.ok(adminService.listSchemas(projectId, cursor, size, approximateTotal));
     }
 
     @GetMapping("/records")
-    public ResponseEntity<PageResponse<AdminMockRecordResponse>> getRecords(
+    public ResponseEntity<CursorPageResponse<AdminMockRecordResponse>> getRecords(
             @RequestParam(required = false) UUID schemaId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
 
-        Page<AdminMockRecordResponse> page = adminService.listRecords(schemaId, pageable);
-
-        return ResponseEntity.ok(PageResponse.from(page));
+        return ResponseEntity.ok(adminService.listRecords(schemaId, cursor, size, approximateTotal));
     }
 
     // TODO: Add promote/demote users
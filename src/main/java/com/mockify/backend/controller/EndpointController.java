@@ -1,6 +1,6 @@
 package com.mockify.backend.controller;
 
-import com.mockify.backend.repository.EndpointRepository;
+import com.mockify.backend.infrastructure.EndpointPathIndex;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,39 +14,21 @@ import java.util.Map;
 @Tag(name = "Endpoint")
 public class EndpointController {
 
-    private final EndpointRepository endpointRepository;
+    private final EndpointPathIndex endpointPathIndex;
 
+    // Served from the in-memory path index; unknown slugs never reach the database
     @GetMapping("/lookup/{slug}")
     public ResponseEntity<Map<String, Object>> lookupSlug(@PathVariable String slug) {
-        return endpointRepository.findBySlug(slug)
-                .map(endpoint -> {
-                    String type;
-                    Object resourceId;
-
-                    if (endpoint.getOrganization() != null) {
-                        type = "organization";
-                        resourceId = endpoint.getOrganization().getId();
-                    } else if (endpoint.getProject() != null) {
-                        type = "project";
-                        resourceId = endpoint.getProject().getId();
-                    } else if (endpoint.getSchema() != null) {
-                        type = "schema";
-                        resourceId = endpoint.getSchema().getId();
-                    } else {
-                        type = "unknown";
-                        resourceId = null;
-                    }
-
-                    return ResponseEntity.ok(Map.of(
-                            "slug", slug,
-                            "type", type,
-                            "resourceId", resourceId,
-                            "exists", true
-                    ));
-                })
+        return endpointPathIndex.lookup(slug)
+                .map(route -> ResponseEntity.ok(Map.<String, Object>of(
+                        "slug", slug,
+                        "type", route.type().name().toLowerCase(),
+                        "resourceId", route.resourceId(),
+                        "exists", true
+                )))
                 .orElse(ResponseEntity.ok(Map.of(
                         "slug", slug,
                         "exists", false
                 )));
     }
-}
\ No newline at end of file
+}
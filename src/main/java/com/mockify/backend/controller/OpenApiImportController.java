@@ -43,14 +43,16 @@ public class OpenApiImportController {
 
         MultipartFile file = request.getFile();
 
-        log.info("User {} importing OpenAPI file '{}' into org='{}', project='{}'",
+        log.info("User {} importing OpenAPI file '{}' into org='{}', project='{}', reimport={}",
                 userId,
                 file.getOriginalFilename(),
                 org,
-                project
+                project,
+                request.isReimport()
         );
 
-        OpenApiImportResponse response = openApiImportService.importOpenApi(userId, projectId, file);
+        OpenApiImportResponse response =
+                openApiImportService.importOpenApi(userId, projectId, file, request.isReimport());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -1,11 +1,13 @@
 package com.mockify.backend.controller;
 
+import com.mockify.backend.dto.request.schema.ApplyTemplatesRequest;
 import com.mockify.backend.dto.response.schema.MockSchemaResponse;
 import com.mockify.backend.dto.response.schema.SchemaTemplateResponse;
 import com.mockify.backend.security.SecurityUtils;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.SchemaTemplateService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,9 @@ import java.util.UUID;
  * {@link com.mockify.backend.security.MockifyPermissionEvaluator}. Both JWT
  * and API key callers are permitted provided they hold the required permission.</p>
  *
+ * <p>{@code applyTemplates} applies several templates to several projects at once
+ * and requires SCHEMA:WRITE on every project in the request.</p>
+ *
  * <p>{@code getSystemTemplates} is fully public — no authentication required.</p>
  */
 @Slf4j
@@ -68,4 +73,23 @@ public class SchemaTemplateController {
         // applying a template results in a new schema being created for the project.
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Apply several system templates to several projects in one transaction.
+     *
+     * <p>Requires SCHEMA:WRITE on every listed project; nothing is created
+     * if any project or template is missing.</p>
+     */
+    @PostMapping("/bulk-apply")
+    public ResponseEntity<List<MockSchemaResponse>> applyTemplates(
+            @Valid @RequestBody ApplyTemplatesRequest request,
+            Authentication auth) {
+
+        UUID userId = SecurityUtils.resolveUserId(auth);
+
+        List<MockSchemaResponse> response = schemaTemplateService.applyTemplatesToProjects(
+                userId, request.getProjectIds(), request.getTemplateSlugs());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mockify.backend.dto.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Map;
+
+/**
+ * One OpenAPI component after extraction and validation.
+ * {@code skipReason} is null when the component is ready to be saved as a schema.
+ */
+public record ExtractedComponent(
+        String name,
+        String slug,
+        Map<String, Object> schemaJson,
+        String skipReason
+) {
+
+    public static ExtractedComponent ready(String name, String slug, Map<String, Object> schemaJson) {
+        return new ExtractedComponent(name, slug, schemaJson, null);
+    }
+
+    public static ExtractedComponent skipped(String name, String reason) {
+        return new ExtractedComponent(name, null, null, reason);
+    }
+
+    @JsonIgnore
+    public boolean isSkipped() {
+        return skipReason != null;
+    }
+}
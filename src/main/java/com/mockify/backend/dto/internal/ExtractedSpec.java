@@ -0,0 +1,9 @@
+package com.mockify.backend.dto.internal;
+
+import java.util.List;
+
+/**
+ * Result of parsing, validating and extracting one OpenAPI file, in component order.
+ * {@code extractNanos} is how long producing it took, reported as time saved on cache hits.
+ */
+public record ExtractedSpec(List<ExtractedComponent> components, long extractNanos) {}
@@ -0,0 +1,9 @@
+package com.mockify.backend.dto.internal;
+
+import java.util.UUID;
+
+/**
+ * Organization and optional project that own a resource.
+ * Loaded with ID-only projection queries for permission evaluation.
+ */
+public record ResourceScope(UUID organizationId, UUID projectId) {}
@@ -0,0 +1,7 @@
+package com.mockify.backend.dto.internal;
+
+/**
+ * Name and slug of an existing schema in a project.
+ * Loaded in one query to pre-check conflicts for a batch of new schemas.
+ */
+public record SchemaIdentity(String name, String slug) {}
@@ -0,0 +1,21 @@
+package com.mockify.backend.dto.internal;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a system schema template held by the in-memory catalog.
+ *
+ * @param schemaJson deeply immutable; safe to share between schemas created from it
+ */
+public record SystemTemplate(
+        UUID id,
+        String name,
+        String slug,
+        String description,
+        Map<String, Object> schemaJson,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -13,4 +13,7 @@ public class OpenApiImportRequest {
 
     @NotNull(message = "OpenAPI file is required")
     private MultipartFile file;
+
+    // true = update changed schemas that already exist, leave unchanged ones untouched
+    private boolean reimport;
 }
\ No newline at end of file
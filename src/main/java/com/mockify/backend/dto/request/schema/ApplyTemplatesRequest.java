@@ -0,0 +1,23 @@
+package com.mockify.backend.dto.request.schema;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplyTemplatesRequest {
+
+    @NotEmpty(message = "At least one project is required")
+    @Size(max = 50, message = "At most 50 projects per request")
+    private List<UUID> projectIds;
+
+    @NotEmpty(message = "At least one template is required")
+    @Size(max = 50, message = "At most 50 templates per request")
+    private List<String> templateSlugs;
+}
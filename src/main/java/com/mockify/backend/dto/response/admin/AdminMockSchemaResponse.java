@@ -9,7 +9,7 @@ public record AdminMockSchemaResponse(
         String slug,
         UUID projectId,
         String projectName,
-        int recordCount,
+        long recordCount,
         LocalDateTime createdAt
 ) {}
 
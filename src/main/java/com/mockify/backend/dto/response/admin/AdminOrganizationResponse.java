@@ -9,7 +9,7 @@ public record AdminOrganizationResponse(
         String slug,
         UUID ownerId,
         String ownerName,
-        int projectCount,
+        long projectCount,
         LocalDateTime createdAt
 ) {}
 
@@ -9,7 +9,7 @@ public record AdminProjectResponse(
         String slug,
         UUID organizationId,
         String organizationName,
-        int schemaCount,
+        long schemaCount,
         LocalDateTime createdAt
 ) {}
 
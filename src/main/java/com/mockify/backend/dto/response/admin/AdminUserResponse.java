@@ -1,5 +1,6 @@
 package com.mockify.backend.dto.response.admin;
 
+import com.mockify.backend.common.enums.UserRole;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -8,7 +9,7 @@ public record AdminUserResponse(
         String name,
         String email,
         boolean emailVerified,
-        String role,
+        UserRole role,
         String providerName,
         String username,
         LocalDateTime createdAt
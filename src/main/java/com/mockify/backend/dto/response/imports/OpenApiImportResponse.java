@@ -13,17 +13,35 @@ import java.util.List;
 public class OpenApiImportResponse {
 
     private List<MockSchemaResponse> imported;
+    // Re-import only: component names whose schemaJson changed / did not change
+    private List<String> updated;
+    private List<String> unchanged;
     private List<SkippedSchema> skipped;
     private int totalImported;
+    private int totalUpdated;
+    private int totalUnchanged;
     private int totalSkipped;
 
     public static OpenApiImportResponse of(List<MockSchemaResponse> imported, List<SkippedSchema> skipped) {
+        return of(imported, null, null, skipped);
+    }
+
+    public static OpenApiImportResponse of(
+            List<MockSchemaResponse> imported,
+            List<String> updated,
+            List<String> unchanged,
+            List<SkippedSchema> skipped
+    ) {
         OpenApiImportResponse res = new OpenApiImportResponse();
 
         res.imported = imported == null ? Collections.emptyList() : imported;
+        res.updated = updated == null ? Collections.emptyList() : updated;
+        res.unchanged = unchanged == null ? Collections.emptyList() : unchanged;
         res.skipped = skipped == null ? Collections.emptyList() : skipped;
 
         res.totalImported = res.imported.size();
+        res.totalUpdated = res.updated.size();
+        res.totalUnchanged = res.unchanged.size();
         res.totalSkipped = res.skipped.size();
         return res;
     }
@@ -0,0 +1,17 @@
+package com.mockify.backend.dto.response.page;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param nextCursor token for the following page, {@code null} on the last page
+ * @param approximateTotal planner row estimate for unfiltered listings when requested, otherwise {@code null}
+ */
+public record CursorPageResponse<T>(
+        List<T> data,
+        int size,
+        String nextCursor,
+        Long approximateTotal
+) {
+}
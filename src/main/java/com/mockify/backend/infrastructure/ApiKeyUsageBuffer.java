@@ -0,0 +1,119 @@
+package com.mockify.backend.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for API key {@code last_used_at} timestamps.
+ *
+ * <p>The authentication filter calls {@link #recordUsage} on every request.
+ * Calls are coalesced in memory (key ID → latest timestamp), so a key hit
+ * thousands of times between flushes costs one row update. {@link #flush}
+ * writes all pending keys with a single {@code UPDATE ... FROM (VALUES ...)}
+ * per chunk and is driven by {@code ApiKeyUsageFlushScheduler}.</p>
+ *
+ * <p>Pending entries are flushed on shutdown. A crash loses at most one
+ * flush interval of timestamps, which is acceptable for an informational column.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiKeyUsageBuffer {
+
+    // Keeps the bind-parameter count well under the driver limit (32767)
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Records that {@code apiKeyId} was used now. Never touches the database.
+     */
+    public void recordUsage(UUID apiKeyId) {
+        pending.merge(apiKeyId, Instant.now(),
+                (existing, now) -> now.isAfter(existing) ? now : existing);
+    }
+
+    /**
+     * Writes all pending timestamps to the database.
+     *
+     * @return number of keys flushed
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // Only drain entries not updated since we read them; a newer
+        // timestamp recorded concurrently stays for the next flush.
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<UUID, Instant> entry : pending.entrySet()) {
+            UUID id = entry.getKey();
+            Instant usedAt = entry.getValue();
+            if (pending.remove(id, usedAt)) {
+                batch.add(Map.entry(id, usedAt));
+            }
+        }
+
+        for (int from = 0; from < batch.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<UUID, Instant>> chunk =
+                    batch.subList(from, Math.min(from + CHUNK_SIZE, batch.size()));
+            try {
+                writeChunk(chunk);
+            } catch (Exception e) {
+                log.warn("Failed to flush API key last-used timestamps: {} key(s) re-queued", chunk.size(), e);
+                chunk.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                        (newer, failed) -> newer.isAfter(failed) ? newer : failed));
+            }
+        }
+
+        return batch.size();
+    }
+
+    /** Number of keys waiting for the next flush. */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Flushed {} pending API key last-used timestamp(s) on shutdown", flushed);
+    }
+
+    private void writeChunk(List<Map.Entry<UUID, Instant>> chunk) {
+        StringBuilder sql = new StringBuilder("""
+                UPDATE api_keys AS ak
+                SET last_used_at = v.used_at
+                FROM (VALUES\s""");
+
+        Object[] args = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS uuid), CAST(? AS timestamptz))");
+            args[i * 2] = chunk.get(i).getKey();
+            args[i * 2 + 1] = OffsetDateTime.ofInstant(chunk.get(i).getValue(), ZoneOffset.UTC);
+        }
+
+        // Never move the timestamp backwards if another node wrote a newer one
+        sql.append("""
+                ) AS v(id, used_at)
+                WHERE ak.id = v.id
+                  AND (ak.last_used_at IS NULL OR ak.last_used_at < v.used_at)
+                """);
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
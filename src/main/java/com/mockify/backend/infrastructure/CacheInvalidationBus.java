@@ -0,0 +1,91 @@
+package com.mockify.backend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts in-memory cache invalidations to every node using Redis pub/sub.
+ *
+ * <p>Each local cache registers a handler for its own cache name. Publishing
+ * evicts on the current node first and then notifies the other nodes through
+ * the channel {@code cache:invalidate:<cacheName>}. When called inside a
+ * transaction, both steps run only after commit so a rolled-back change never
+ * evicts anything and no node can re-cache the old state before commit.</p>
+ *
+ * <p>Pub/sub is fire-and-forget. Caches using this bus must still keep a short
+ * TTL so a lost message only means bounded staleness.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL_PREFIX = "cache:invalidate:";
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // cacheName -> local eviction handler
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the local eviction handler for {@code cacheName}.
+     * The handler receives the key passed to {@link #publish}.
+     */
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    String key = new String(message.getBody(), StandardCharsets.UTF_8);
+                    try {
+                        handler.accept(key);
+                    } catch (Exception e) {
+                        log.warn("Cache invalidation handler failed: cache={}, key={}", cacheName, key, e);
+                    }
+                },
+                new ChannelTopic(CHANNEL_PREFIX + cacheName)
+        );
+    }
+
+    /**
+     * Evicts {@code key} from {@code cacheName} on this node and all other nodes.
+     * Deferred to after commit when a transaction is active.
+     */
+    public void publish(String cacheName, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doPublish(cacheName, key);
+                }
+            });
+            return;
+        }
+        doPublish(cacheName, key);
+    }
+
+    private void doPublish(String cacheName, String key) {
+        Consumer<String> local = handlers.get(cacheName);
+        if (local != null) {
+            local.accept(key);
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + cacheName, key);
+        } catch (Exception e) {
+            // Other nodes fall back to TTL expiry
+            log.warn("Failed to broadcast cache invalidation: cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
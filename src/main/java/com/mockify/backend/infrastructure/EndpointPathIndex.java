@@ -0,0 +1,113 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.model.Endpoint;
+import com.mockify.backend.repository.EndpointRepository;
+import com.mockify.backend.repository.EndpointRepository.EndpointRoute;
+import com.mockify.backend.service.EndpointService;
+import com.mockify.backend.util.PathTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory index of every endpoint path, mapping it to its resource type and ID.
+ *
+ * <p>Built from a single projection query at startup and rebuilt periodically
+ * by {@code EndpointPathIndexRebuildScheduler}. Between rebuilds it follows
+ * {@link EndpointService#PATH_CACHE_NAME}: each message names a path whose
+ * subtree is dropped and reloaded from the database, so creates, renames and
+ * deletes all reach every node.</p>
+ *
+ * <p>Because the index holds every path, a miss is a definitive "not found"
+ * and unknown paths never reach the database. Until the first build succeeds,
+ * lookups fall back to the repository.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EndpointPathIndex {
+
+    private final EndpointRepository endpointRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile PathTrie<Route> trie;
+
+    // Serializes rebuilds and subtree reloads; lookups never take it
+    private final Object writeLock = new Object();
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        invalidationBus.subscribe(EndpointService.PATH_CACHE_NAME, this::reload);
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Endpoint path index not built at startup; lookups use the database until the next rebuild", e);
+        }
+    }
+
+    /**
+     * Resolves {@code fullPath} to its resource.
+     */
+    public Optional<Route> lookup(String fullPath) {
+        PathTrie<Route> current = trie;
+        if (current == null) {
+            return endpointRepository.findByFullPath(fullPath)
+                    .map(e -> new Route(e.getResourceType(), e.getResourceId()));
+        }
+        return Optional.ofNullable(current.get(fullPath));
+    }
+
+    /**
+     * Replaces the index with a fresh snapshot of the endpoints table.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<EndpointRoute> routes = readTransaction.execute(status -> endpointRepository.findAllRoutes());
+            PathTrie<Route> fresh = new PathTrie<>();
+            routes.forEach(route -> fresh.put(route.getFullPath(), Route.of(route)));
+            trie = fresh;
+            log.debug("Endpoint path index rebuilt with {} path(s)", fresh.size());
+        }
+    }
+
+    // Replaces the subtree at fullPath with whatever the database now holds there.
+    // The new subtree is swapped in whole, so concurrent lookups never see it half loaded.
+    private void reload(String fullPath) {
+        synchronized (writeLock) {
+            PathTrie<Route> current = trie;
+            if (current == null) {
+                return;
+            }
+            List<EndpointRoute> routes = readTransaction.execute(status -> endpointRepository.findRoutesUnder(fullPath));
+            Map<String, Route> subtree = new HashMap<>(routes.size() * 2);
+            routes.forEach(route -> subtree.put(route.getFullPath(), Route.of(route)));
+            current.replaceSubtree(fullPath, subtree);
+            log.debug("Endpoint path index reloaded {}: {} path(s)", fullPath, routes.size());
+        }
+    }
+
+    public record Route(Endpoint.ResourceType type, UUID resourceId) {
+
+        static Route of(EndpointRoute route) {
+            return new Route(Endpoint.ResourceType.valueOf(route.getResourceType()), route.getResourceId());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.util.RateLimitPathMatcher;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers for the request and background hot paths, published on {@code /actuator/prometheus}.
+ *
+ * <p>Every timer carries two tags:</p>
+ * <ul>
+ *   <li>{@code group}: the route group, named like the rate-limit groups in
+ *       {@code mockify.rate-limit.groups} ({@code records}, {@code public-mock} ...).
+ *       For work that is not tied to a route, it names the job or resource type.</li>
+ *   <li>{@code outcome}: how the call ended ({@code success}, {@code error}, or a
+ *       path-specific value such as {@code allowed} / {@code blocked}).</li>
+ * </ul>
+ *
+ * <p>Call sites use {@link #start()} and {@link #stop}, so the measured code does
+ * not move into a lambda.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class HotPathMetrics {
+
+    public static final String SLUG_RESOLUTION = "mockify.slug.resolution";
+    public static final String RECORD_PAGE_READ = "mockify.records.page_read";
+    public static final String RECORD_BULK_INSERT = "mockify.records.bulk_insert";
+    public static final String RECORD_VALIDATION = "mockify.records.validation";
+    public static final String RECORD_GENERATION = "mockify.records.generation";
+    public static final String RATE_LIMIT_CHECK = "mockify.rate_limit.check";
+    public static final String API_KEY_AUTHENTICATION = "mockify.api_key.authentication";
+    public static final String PERMISSION_EVALUATION = "mockify.permission.evaluation";
+    public static final String CLEANUP_RUN = "mockify.cleanup.run";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private static final String UNMATCHED_GROUP = "global";
+
+    private final MeterRegistry meterRegistry;
+    private final RateLimitPathMatcher pathMatcher;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String group, String outcome) {
+        sample.stop(Timer.builder(name)
+                .tag("group", group)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /** Records how many items one batch carried, next to the batch's timer. */
+    public void recordBatchSize(String name, String group, int size) {
+        DistributionSummary.builder(name + ".size")
+                .tag("group", group)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /** Rate-limit group of {@code path}, or {@code global} when no group matches. */
+    public String routeGroup(String path) {
+        RateLimitPathMatcher.RateLimitMatch match = pathMatcher.match(path);
+        return match == null ? UNMATCHED_GROUP : match.groupName();
+    }
+}
@@ -0,0 +1,233 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.model.MailOutboxMessage;
+import com.mockify.backend.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the {@code mail_outbox} table.
+ *
+ * <p>Each batch is claimed in a short transaction: due rows are locked with
+ * {@code SKIP LOCKED} and leased by moving {@code next_attempt_at} forward, so
+ * other nodes skip them while they are being sent. The batch then goes to SMTP
+ * outside any transaction, in a single {@link JavaMailSender#send(MimeMessage...)}
+ * call which opens one connection for the whole batch. Outcomes are written
+ * back in a second transaction.</p>
+ *
+ * <p>Failed messages are retried with exponential backoff until
+ * {@code max-attempts}, then marked {@code FAILED}. Delivery is at least once:
+ * if the node dies between SMTP and the write-back, the lease expires and the
+ * message is sent again.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.from:Mockify <mockify.noreply@gmail.com>}")
+    private String from;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${app.mail.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${app.mail.outbox.lease:5m}")
+    private Duration lease;
+
+    private TransactionTemplate writeTransaction;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+
+    private Counter sent;
+    private Counter retried;
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("mockify.mail.outbox.pending", pending, AtomicLong::get)
+                .description("Messages waiting for delivery, as of the last dispatch")
+                .register(meterRegistry);
+        Gauge.builder("mockify.mail.outbox.oldest_age", oldestPendingSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("Age of the oldest message waiting for delivery")
+                .register(meterRegistry);
+
+        sent = deliveries("sent");
+        retried = deliveries("retry");
+        failed = deliveries("failed");
+    }
+
+    /**
+     * Sends one batch of due messages and refreshes the queue gauges.
+     *
+     * @return number of messages attempted
+     */
+    public int dispatch() {
+        List<MailOutboxMessage> batch = claim();
+        if (!batch.isEmpty()) {
+            deliver(batch);
+        }
+        refreshDepth();
+        return batch.size();
+    }
+
+    private List<MailOutboxMessage> claim() {
+        return writeTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutboxMessage> due = outboxRepository.lockDue(now, batchSize);
+            for (MailOutboxMessage message : due) {
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plus(lease));
+            }
+            return due;
+        });
+    }
+
+    private void deliver(List<MailOutboxMessage> batch) {
+        Map<MimeMessage, MailOutboxMessage> byMime = new IdentityHashMap<>();
+        Map<MailOutboxMessage, String> errors = new IdentityHashMap<>();
+
+        for (MailOutboxMessage message : batch) {
+            try {
+                byMime.put(toMime(message), message);
+            } catch (MessagingException | MailException e) {
+                // Malformed recipient or content: retrying cannot help
+                message.setAttempts(maxAttempts);
+                errors.put(message, describe(e));
+            }
+        }
+
+        if (!byMime.isEmpty()) {
+            try {
+                mailSender.send(byMime.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // Only the listed messages failed; an empty map means none got through
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                for (Map.Entry<MimeMessage, MailOutboxMessage> entry : byMime.entrySet()) {
+                    if (failedMessages.isEmpty() || failedMessages.containsKey(entry.getKey())) {
+                        Exception cause = failedMessages.getOrDefault(entry.getKey(), e);
+                        errors.put(entry.getValue(), describe(cause));
+                    }
+                }
+            } catch (MailException e) {
+                // Authentication or connection failure before anything was sent
+                byMime.values().forEach(message -> errors.put(message, describe(e)));
+            }
+        }
+
+        recordOutcomes(batch, errors);
+    }
+
+    private void recordOutcomes(List<MailOutboxMessage> batch, Map<MailOutboxMessage, String> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> delivered = new ArrayList<>();
+
+        writeTransaction.executeWithoutResult(status -> {
+            for (MailOutboxMessage message : batch) {
+                String error = errors.get(message);
+                if (error == null) {
+                    delivered.add(message.getId());
+                } else if (message.getAttempts() >= maxAttempts) {
+                    outboxRepository.markFailed(message.getId(), error);
+                    failed.increment();
+                    log.error("[Mail] Giving up on message {} to {} after {} attempt(s): {}",
+                            message.getId(), message.getRecipient(), message.getAttempts(), error);
+                } else {
+                    outboxRepository.scheduleRetry(message.getId(), now.plus(backoff(message.getAttempts())), error);
+                    retried.increment();
+                    log.warn("[Mail] Delivery of message {} to {} failed (attempt {}), will retry: {}",
+                            message.getId(), message.getRecipient(), message.getAttempts(), error);
+                }
+            }
+            if (!delivered.isEmpty()) {
+                outboxRepository.markSent(delivered, now);
+            }
+        });
+
+        sent.increment(delivered.size());
+        if (!delivered.isEmpty()) {
+            log.info("[Mail] Delivered {} message(s)", delivered.size());
+        }
+    }
+
+    private void refreshDepth() {
+        pending.set(outboxRepository.countByStatus(MailOutboxMessage.Status.PENDING));
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt();
+        oldestPendingSeconds.set(oldest == null
+                ? 0
+                : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    // initial, 2x, 4x ... capped at max-backoff
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(0, attempts - 1), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private MimeMessage toMime(MailOutboxMessage message) throws MessagingException {
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, true, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getHtmlBody(), true);
+        return mime;
+    }
+
+    private static String describe(Exception e) {
+        String text = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+
+    private Counter deliveries(String result) {
+        return Counter.builder("mockify.mail.outbox.deliveries")
+                .tag("result", result)
+                .description("Outbox delivery attempts by outcome")
+                .register(meterRegistry);
+    }
+}
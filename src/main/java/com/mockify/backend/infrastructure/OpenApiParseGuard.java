@@ -0,0 +1,137 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.exception.BaseException;
+import com.mockify.backend.exception.InternalServerException;
+import com.mockify.backend.exception.InvalidOpenApiException;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Time and memory limits for OpenAPI parsing.
+ *
+ * <p>swagger-parser builds the whole document tree in memory, roughly ten
+ * times the size of the YAML. Before a parse starts it reserves
+ * {@code size * expansion-factor} bytes from a per-node budget and gives them
+ * back when the task returns. Callers run everything that uses the tree
+ * (validation, extraction) inside the task, so the reservation lasts as long
+ * as the tree does. A burst of large uploads therefore waits for room instead
+ * of exhausting the heap.</p>
+ *
+ * <p>Parsing runs on its own threads and the caller waits at most
+ * {@code timeout}. swagger-parser does not react to interrupts, so a parse that
+ * times out finishes in the background and holds its reservation until then.
+ * Runaway parses cannot pile up.</p>
+ */
+@Component
+@Slf4j
+public class OpenApiParseGuard {
+
+    private static final long MB = 1024 * 1024;
+
+    private final Duration timeout;
+    private final int expansionFactor;
+    private final int budgetMb;
+    private final Semaphore budget;
+
+    // Unbounded pool, but every running task holds at least 1 MB of budget
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("openapi-parse-", 0).daemon().factory());
+
+    public OpenApiParseGuard(
+            @Value("${app.openapi-import.max-file-size:50MB}") DataSize maxFileSize,
+            @Value("${app.openapi-import.parser.timeout:60s}") Duration timeout,
+            @Value("${app.openapi-import.parser.memory-budget:768MB}") DataSize memoryBudget,
+            @Value("${app.openapi-import.parser.expansion-factor:12}") int expansionFactor
+    ) {
+        this.timeout = timeout;
+        this.expansionFactor = expansionFactor;
+        this.budgetMb = (int) Math.max(1, memoryBudget.toMegabytes());
+        this.budget = new Semaphore(budgetMb, true);
+
+        // swagger-parser's YAML loader rejects documents over 3M code points by default
+        DeserializationUtils.getOptions().setMaxYamlCodePoints(
+                (int) Math.min(Integer.MAX_VALUE, maxFileSize.toBytes()));
+    }
+
+    /**
+     * Runs {@code parse} for an input of {@code inputBytes} within the time and
+     * memory limits. The reservation is held until {@code parse} returns, so it
+     * should also consume the parsed tree. Runtime exceptions thrown by
+     * {@code parse} propagate unchanged.
+     */
+    public <T> T run(long inputBytes, Supplier<T> parse) {
+        int permits = reservation(inputBytes);
+        acquire(permits);
+
+        // Not cancelled on timeout: the task must run to release its reservation
+        Future<T> future = executor.submit(() -> {
+            try {
+                return parse.get();
+            } finally {
+                budget.release(permits);
+            }
+        });
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("OpenAPI parse exceeded {}s: inputBytes={}", timeout.toSeconds(), inputBytes);
+            throw new InvalidOpenApiException(
+                    "OpenAPI specification took longer than " + timeout.toSeconds() + "s to process");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while parsing OpenAPI file");
+        }
+    }
+
+    /** Megabytes of budget currently free. */
+    public int availableMb() {
+        return budget.availablePermits();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void acquire(int permits) {
+        try {
+            if (!budget.tryAcquire(permits, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("OpenAPI parse budget exhausted: requested={}MB, available={}MB", permits, availableMb());
+                throw new BaseException(
+                        "OpenAPI import capacity is exhausted, try again shortly",
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while waiting to parse OpenAPI file");
+        }
+    }
+
+    // Capped at the whole budget so a single maximum-size file can always run alone
+    private int reservation(long inputBytes) {
+        long bytes = Math.max(1, inputBytes) * expansionFactor;
+        long mb = (bytes + MB - 1) / MB;
+        return (int) Math.min(Math.max(1, mb), budgetMb);
+    }
+}
@@ -0,0 +1,227 @@
+package com.mockify.backend.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.dto.internal.ExtractedSpec;
+import com.mockify.backend.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of extracted OpenAPI specs.
+ *
+ * <p>The key is a SHA-256 of the uploaded file after normalization (UTF-8 BOM
+ * removed, CRLF turned into LF), so the same spec uploaded to many projects
+ * is parsed, validated and extracted once. There are two tiers:</p>
+ * <ul>
+ *   <li>local: Caffeine, bounded by the approximate JSON size of the entries</li>
+ *   <li>Redis: {@code openapi:spec:<format>:<sha256>}, shared by all nodes, with a TTL</li>
+ * </ul>
+ *
+ * <p>Only successful extractions are cached. An invalid spec fails on every
+ * upload. For a given build the output depends only on the file content, so
+ * entries never need invalidation and the TTL only bounds storage. The format
+ * segment covers the rest: bump {@link #FORMAT_VERSION} whenever extraction,
+ * schema validation, slug rules or the {@link ExtractedSpec} shape change, so
+ * nodes on different versions during a rollout never read each other's
+ * entries.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenApiSpecCache {
+
+    static final String FORMAT_VERSION = "v1";
+    private static final String KEY_PREFIX = "openapi:spec:" + FORMAT_VERSION + ":";
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.openapi-import.spec-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.openapi-import.spec-cache.local-max-bytes:67108864}")
+    private long localMaxBytes;
+
+    @Value("${app.openapi-import.spec-cache.redis-ttl:24h}")
+    private Duration redisTtl;
+
+    private Cache<String, Entry> local;
+
+    private Counter localHits;
+    private Counter redisHits;
+    private Counter misses;
+    private Counter timeSaved;
+    private Timer extractTimer;
+
+    @PostConstruct
+    void init() {
+        // Weight ~ serialized size, taken from the JSON already produced for Redis
+        local = Caffeine.newBuilder()
+                .maximumWeight(localMaxBytes)
+                .<String, Entry>weigher((key, entry) -> entry.weight())
+                .build();
+
+        localHits = lookups("local_hit");
+        redisHits = lookups("redis_hit");
+        misses = lookups("miss");
+        timeSaved = Counter.builder("mockify.openapi.spec_cache.time_saved")
+                .baseUnit("seconds")
+                .description("Parse, validate and extract time skipped thanks to cache hits")
+                .register(meterRegistry);
+        extractTimer = Timer.builder("mockify.openapi.spec_cache.extract")
+                .description("Parse, validate and extract time on cache misses")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the extracted spec for {@code file}, running {@code extractor}
+     * and caching its result on a miss. Exceptions from the extractor propagate
+     * and nothing is cached.
+     */
+    public ExtractedSpec getOrCompute(MultipartFile file, Supplier<ExtractedSpec> extractor) {
+        if (!enabled) {
+            return extractor.get();
+        }
+
+        String digest = digest(file);
+
+        Entry cached = local.getIfPresent(digest);
+        if (cached != null) {
+            hit(localHits, cached.spec());
+            return cached.spec();
+        }
+
+        cached = readRedis(digest);
+        if (cached != null) {
+            local.put(digest, cached);
+            hit(redisHits, cached.spec());
+            return cached.spec();
+        }
+
+        misses.increment();
+        ExtractedSpec spec = extractor.get();
+        extractTimer.record(spec.extractNanos(), TimeUnit.NANOSECONDS);
+
+        // Serialized once: the bytes go to Redis and their length is the local weight
+        String json = serialize(spec);
+        if (json != null) {
+            local.put(digest, new Entry(spec, json.length()));
+            writeRedis(digest, json);
+        }
+        return spec;
+    }
+
+    private void hit(Counter counter, ExtractedSpec spec) {
+        counter.increment();
+        timeSaved.increment(spec.extractNanos() / 1e9);
+    }
+
+    private Entry readRedis(String digest) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + digest);
+            return json != null ? new Entry(objectMapper.readValue(json, ExtractedSpec.class), json.length()) : null;
+        } catch (Exception e) {
+            // Fall back to extracting locally
+            log.warn("OpenAPI spec cache read failed: digest={}", digest, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String digest, String json) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + digest, json, redisTtl);
+        } catch (Exception e) {
+            log.warn("OpenAPI spec cache write failed: digest={}", digest, e);
+        }
+    }
+
+    // Null if the spec cannot be serialized; it is then kept out of both tiers
+    private String serialize(ExtractedSpec spec) {
+        try {
+            return objectMapper.writeValueAsString(spec);
+        } catch (JsonProcessingException e) {
+            log.warn("OpenAPI spec cache cannot serialize extracted spec", e);
+            return null;
+        }
+    }
+
+    private Counter lookups(String result) {
+        return Counter.builder("mockify.openapi.spec_cache.lookups")
+                .tag("result", result)
+                .description("OpenAPI spec cache lookups by outcome")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SHA-256 of the file content with a leading UTF-8 BOM removed and CRLF
+     * normalized to LF. Streams the file; the content is never held as a String.
+     */
+    static String digest(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            boolean first = true;
+            boolean pendingCr = false;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int offset = 0;
+                if (first) {
+                    first = false;
+                    if (startsWithBom(buffer, read)) {
+                        offset = UTF8_BOM.length;
+                    }
+                }
+                for (int i = offset; i < read; i++) {
+                    byte b = buffer[i];
+                    if (pendingCr && b != '\n') {
+                        sha.update((byte) '\r');
+                    }
+                    pendingCr = b == '\r';
+                    if (!pendingCr) {
+                        sha.update(b);
+                    }
+                }
+            }
+            if (pendingCr) {
+                sha.update((byte) '\r');
+            }
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (IOException e) {
+            throw new BadRequestException("Unable to read OpenAPI file");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean startsWithBom(byte[] buffer, int length) {
+        return length >= UTF8_BOM.length
+                && buffer[0] == UTF8_BOM[0]
+                && buffer[1] == UTF8_BOM[1]
+                && buffer[2] == UTF8_BOM[2];
+    }
+
+    // Extracted spec with its approximate serialized size in bytes
+    private record Entry(ExtractedSpec spec, int weight) {}
+}
@@ -0,0 +1,162 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.exception.BaseException;
+import com.mockify.backend.exception.InternalServerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a small fixed pool, off the request threads.
+ *
+ * <p>BCrypt costs tens of milliseconds of CPU per call. Run directly on Tomcat
+ * threads, a login burst could take every core and starve mock traffic on the
+ * same node. Here at most {@code concurrency} hashes run at once (half the
+ * cores by default). Callers still block, but they wait instead of burning CPU.</p>
+ *
+ * <p>Work beyond that waits in a bounded queue. A caller whose hash has not
+ * started within {@code queue-timeout}, or who finds the queue full, gets a
+ * 503 immediately and its queued task is cancelled so it never runs.</p>
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final Duration queueTimeout;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public PasswordHashingExecutor(
+            @Value("${app.password-hashing.concurrency:0}") int concurrency,
+            @Value("${app.password-hashing.queue-capacity:256}") int queueCapacity,
+            @Value("${app.password-hashing.queue-timeout:2s}") Duration queueTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        int threads = concurrency > 0
+                ? concurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.queueTimeout = queueTimeout;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        hashTimer = Timer.builder("mockify.password_hashing.duration")
+                .description("Time spent hashing or verifying a password on the hashing pool")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("mockify.password_hashing.queue_wait")
+                .description("Time a hash waited for a free hashing thread")
+                .register(meterRegistry);
+        queueFull = rejections("queue_full", meterRegistry);
+        timedOut = rejections("timeout", meterRegistry);
+        Gauge.builder("mockify.password_hashing.queue", executor, e -> e.getQueue().size())
+                .description("Hashes waiting for a free hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("mockify.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes currently running")
+                .register(meterRegistry);
+
+        log.info("Password hashing pool: threads={}, queueCapacity={}, queueTimeout={}",
+                threads, queueCapacity, queueTimeout);
+    }
+
+    /**
+     * Runs {@code hash} on the hashing pool and returns its result. Runtime
+     * exceptions thrown by {@code hash} propagate unchanged.
+     */
+    public <T> T run(Supplier<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFull.increment();
+            throw overloaded();
+        }
+
+        try {
+            // The deadline covers queueing; a hash that has started is always allowed to finish
+            return future.get(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (future.cancel(false)) {
+                timedOut.increment();
+                throw overloaded();
+            }
+            return awaitRunning(future);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while hashing password");
+        }
+    }
+
+    /** Hashes waiting for a free thread. */
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T awaitRunning(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Interrupted while hashing password");
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static BaseException overloaded() {
+        return new BaseException("Server is busy, please try again shortly", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private static Counter rejections(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("mockify.password_hashing.rejected")
+                .tag("reason", reason)
+                .description("Hashes rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,111 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.dto.internal.SystemTemplate;
+import com.mockify.backend.model.SchemaTemplate;
+import com.mockify.backend.repository.SchemaTemplateRepository;
+import com.mockify.backend.service.SchemaTemplateService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable in-memory catalog of system schema templates.
+ *
+ * <p>System templates are seeded by migrations and almost never change, so the
+ * whole set is loaded once at startup and swapped atomically on refresh.
+ * Reads never touch the database. A refresh is triggered by
+ * {@link SchemaTemplateService#SYSTEM_TEMPLATE_CACHE_NAME} (any payload) and
+ * periodically by {@code SchemaTemplateCatalogRefreshScheduler}.</p>
+ *
+ * <p>Template JSON is frozen on load, so schemas created from a template can
+ * share it without a defensive deep copy.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaTemplateCatalog {
+
+    private final SchemaTemplateRepository schemaTemplateRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final PlatformTransactionManager transactionManager;
+
+    // slug -> template, in database order
+    private volatile Map<String, SystemTemplate> templates = Map.of();
+
+    private TransactionTemplate readTransaction;
+
+    @PostConstruct
+    void init() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+
+        invalidationBus.subscribe(SchemaTemplateService.SYSTEM_TEMPLATE_CACHE_NAME, key -> refresh());
+
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("System template catalog not loaded at startup; it stays empty until the next refresh", e);
+        }
+    }
+
+    /** All system templates. */
+    public Collection<SystemTemplate> all() {
+        return templates.values();
+    }
+
+    public Optional<SystemTemplate> find(String slug) {
+        return Optional.ofNullable(templates.get(slug));
+    }
+
+    /**
+     * Replaces the catalog with a fresh snapshot of the system templates.
+     */
+    public synchronized void refresh() {
+        List<SchemaTemplate> loaded = readTransaction.execute(
+                status -> schemaTemplateRepository.findBySystemTemplateTrue());
+
+        Map<String, SystemTemplate> fresh = new LinkedHashMap<>();
+        for (SchemaTemplate template : loaded) {
+            fresh.put(template.getSlug(), new SystemTemplate(
+                    template.getId(),
+                    template.getName(),
+                    template.getSlug(),
+                    template.getDescription(),
+                    freeze(template.getSchemaJson()),
+                    template.getCreatedAt(),
+                    template.getUpdatedAt()
+            ));
+        }
+
+        templates = Collections.unmodifiableMap(fresh);
+        log.debug("System template catalog refreshed with {} template(s)", fresh.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T freeze(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>(map.size());
+            map.forEach((k, v) -> copy.put(String.valueOf(k), freeze(v)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(freeze(item)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,144 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.SqlBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts SQL statements and JDBC time per HTTP request and checks them against
+ * the route's budget from {@link SqlBudgetProperties}.
+ *
+ * <p>Ordered just outside the security chain, so lookups made by the JWT and
+ * API key filters and by permission evaluation are counted too. Only SQL issued
+ * through Hibernate is seen; {@code JdbcTemplate} queries are not.</p>
+ *
+ * <p>Totals are reported three ways, each switchable:</p>
+ * <ul>
+ *   <li>{@code X-Sql-Statements} / {@code X-Sql-Time-Ms} response headers (non-prod)</li>
+ *   <li>{@code mockify.sql.statements} and {@code mockify.sql.time} per route and URI pattern</li>
+ *   <li>a warning when the request exceeds its budget</li>
+ * </ul>
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final String DEFAULT_ROUTE = "default";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        // Headers must be set before the body is committed, so buffer it
+        ContentCachingResponseWrapper buffered = properties.isHeaders()
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            try {
+                filterChain.doFilter(request, buffered != null ? buffered : response);
+            } finally {
+                report(request, stats);
+                if (buffered != null) {
+                    buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+                    buffered.setHeader(TIME_HEADER, String.valueOf(stats.jdbcTime().toMillis()));
+                    buffered.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        String path = request.getRequestURI();
+        Map.Entry<String, ? extends SqlBudgetProperties.Budget> budget = budgetFor(path);
+        String route = budget.getKey();
+        int statementLimit = budget.getValue().getStatements();
+        long timeLimitMs = budget.getValue().getTime().toMillis();
+
+        boolean exceeded = stats.statements() > statementLimit
+                || stats.jdbcTime().toMillis() > timeLimitMs;
+
+        if (properties.isMetrics()) {
+            String uri = uriPattern(request);
+            DistributionSummary.builder("mockify.sql.statements")
+                    .tag("route", route)
+                    .tag("uri", uri)
+                    .baseUnit("statements")
+                    .register(meterRegistry)
+                    .record(stats.statements());
+            Timer.builder("mockify.sql.time")
+                    .tag("route", route)
+                    .tag("uri", uri)
+                    .description("JDBC execution time per request")
+                    .register(meterRegistry)
+                    .record(stats.jdbcTime());
+            if (exceeded) {
+                Counter.builder("mockify.sql.budget_exceeded")
+                        .tag("route", route)
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+
+        if (exceeded) {
+            log.warn("[SqlBudget] {} {} ran {} statement(s) in {} ms; route '{}' allows {} in {} ms",
+                    request.getMethod(), path, stats.statements(), stats.jdbcTime().toMillis(),
+                    route, statementLimit, timeLimitMs);
+        }
+    }
+
+    private Map.Entry<String, ? extends SqlBudgetProperties.Budget> budgetFor(String path) {
+        for (var entry : properties.getRoutes().entrySet()) {
+            for (String pattern : entry.getValue().getPaths()) {
+                if (matcher.match(pattern, path)) {
+                    return entry;
+                }
+            }
+        }
+        return Map.entry(DEFAULT_ROUTE, properties.getDefaults());
+    }
+
+    // Handler mapping pattern (e.g. /api/{org}/{project}/schemas), so the tag stays bounded
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+}
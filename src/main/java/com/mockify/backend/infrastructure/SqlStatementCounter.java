@@ -0,0 +1,19 @@
+package com.mockify.backend.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the open {@link SqlStatementStats}.
+ * The SQL is returned unchanged.
+ *
+ * <p>A JDBC batch is prepared once, so a batched {@code saveAll} counts as one
+ * statement per batch, not per row.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mockify.backend.infrastructure;
+
+import java.time.Duration;
+
+/**
+ * SQL statements and JDBC time spent on the current thread while a scope is open.
+ *
+ * <p>{@link SqlBudgetFilter} opens one scope per HTTP request. Hibernate reports
+ * into it through {@link SqlStatementCounter} (one count per prepared statement)
+ * and {@link SqlTimingListener} (time spent executing). Scopes nest: work counted
+ * in an inner scope is also counted in every enclosing one, so a test can wrap a
+ * whole MockMvc call around the filter's own scope.</p>
+ *
+ * <p>Outside a scope (schedulers, async tasks) nothing is recorded.</p>
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private int statements;
+    private long jdbcNanos;
+    private boolean closed;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread. Must be closed on the same thread.
+     */
+    public static SqlStatementStats open() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void statementPrepared() {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+        }
+    }
+
+    static void jdbcTime(long nanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mockify.backend.infrastructure;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time Hibernate spends in JDBC {@code execute*} calls to the open
+ * {@link SqlStatementStats}.
+ *
+ * <p>Registered through {@code hibernate.session.events.auto}, so Hibernate
+ * creates one instance per session. A session is confined to one thread, which
+ * makes the plain start field safe.</p>
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.jdbcTime(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.jdbcTime(System.nanoTime() - batchStart);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mockify.backend.mapper;
 
+import com.mockify.backend.dto.internal.SystemTemplate;
 import com.mockify.backend.dto.request.schema.CreateSchemaTemplateRequest;
 import com.mockify.backend.dto.request.schema.CreateSchemaTemplateRequest;
 import com.mockify.backend.dto.response.schema.SchemaTemplateResponse;
@@ -21,6 +22,16 @@ public interface SchemaTemplateMapper {
     java.util.List<SchemaTemplateResponse> toResponseList(java.util.List<SchemaTemplate> templates);
 
 
+    // Catalog snapshot → Response
+
+    @Mapping(target = "systemTemplate", constant = "true")
+    @Mapping(target = "organizationId", ignore = true)
+    @Mapping(target = "organizationName", ignore = true)
+    SchemaTemplateResponse toResponse(SystemTemplate template);
+
+    java.util.List<SchemaTemplateResponse> toSystemResponseList(java.util.Collection<SystemTemplate> templates);
+
+
     // Request → Entity
 
     @Mapping(target = "id", ignore = true)
@@ -24,6 +24,8 @@ public class Endpoint {
      * - Organization: "google"
      * - Project: "google/admin-backend"
      * - Schema: "google/admin-backend/users"
+     * Mirrored by a trigger into the unmapped ltree column "path"
+     * ("google.admin-backend.users") used for subtree queries
      */
     @Column(name = "full_path", nullable = false, unique = true, length = 500)
     private String fullPath;
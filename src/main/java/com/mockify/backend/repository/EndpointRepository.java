@@ -2,10 +2,12 @@ package com.mockify.backend.repository;
 
 import com.mockify.backend.model.Endpoint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +43,16 @@ public interface EndpointRepository extends JpaRepository<Endpoint, UUID> {
      */
     List<Endpoint> findByParentEndpoint(Endpoint parent);
 
+    /**
+     * Which of the given paths already exist
+     * Used to pre-check a batch of new endpoints in one query
+     */
+    @Query("""
+        SELECT e.fullPath FROM Endpoint e
+        WHERE e.fullPath IN :fullPaths
+    """)
+    List<String> findExistingFullPaths(@Param("fullPaths") Collection<String> fullPaths);
+
     /**
      * Find endpoints by resource type
      */
@@ -59,16 +71,80 @@ public interface EndpointRepository extends JpaRepository<Endpoint, UUID> {
     Optional<Endpoint> findByFullPathWithHierarchy(@Param("fullPath") String fullPath);
 
     /**
-     * Get all endpoints under a specific organization
+     * Get all endpoints under a specific organization, the organization included
      * Useful for bulk operations or admin views
+     * Matches whole path labels only: "google" never matches "googlex/..."
      */
-    @Query("""
-        SELECT e FROM Endpoint e
-        WHERE e.fullPath LIKE CONCAT(:orgPath, '%')
-        ORDER BY e.fullPath
-    """)
+    @Query(value = """
+        SELECT * FROM endpoints
+        WHERE path <@ endpoint_path_to_ltree(:orgPath)
+        ORDER BY full_path
+    """, nativeQuery = true)
     List<Endpoint> findAllUnderOrganization(@Param("orgPath") String orgPath);
 
+    /**
+     * Endpoints under {@code rootPath} at an absolute depth
+     * (1 = organization, 2 = project, 3 = schema)
+     * Example: ("google", 3) → every schema endpoint of the organization
+     */
+    @Query(value = """
+        SELECT * FROM endpoints
+        WHERE path <@ endpoint_path_to_ltree(:rootPath)
+          AND nlevel(path) = :depth
+        ORDER BY full_path
+    """, nativeQuery = true)
+    List<Endpoint> findSubtreeAtDepth(@Param("rootPath") String rootPath, @Param("depth") int depth);
+
+    /**
+     * Ancestors of {@code fullPath}, root first, excluding the endpoint itself
+     * Example: "google/admin-backend/users" → [google, google/admin-backend]
+     */
+    @Query(value = """
+        SELECT * FROM endpoints
+        WHERE path @> endpoint_path_to_ltree(:fullPath)
+          AND path <> endpoint_path_to_ltree(:fullPath)
+        ORDER BY nlevel(path)
+    """, nativeQuery = true)
+    List<Endpoint> findAncestors(@Param("fullPath") String fullPath);
+
+    /**
+     * Routing view of every endpoint (path, type, resource ID) without entity hydration
+     * Used to build the in-memory path index
+     */
+    @Query(value = """
+        SELECT full_path AS "fullPath",
+               resource_type AS "resourceType",
+               COALESCE(organization_id, project_id, schema_id) AS "resourceId"
+        FROM endpoints
+    """, nativeQuery = true)
+    List<EndpointRoute> findAllRoutes();
+
+    /**
+     * Routing view of {@code rootPath} and everything below it
+     */
+    @Query(value = """
+        SELECT full_path AS "fullPath",
+               resource_type AS "resourceType",
+               COALESCE(organization_id, project_id, schema_id) AS "resourceId"
+        FROM endpoints
+        WHERE path <@ endpoint_path_to_ltree(:rootPath)
+    """, nativeQuery = true)
+    List<EndpointRoute> findRoutesUnder(@Param("rootPath") String rootPath);
+
+    /**
+     * Rewrites the path prefix of every descendant of {@code oldPrefix} in one statement.
+     * The path column follows full_path through its trigger.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE endpoints
+        SET full_path = :newPrefix || substr(full_path, length(:oldPrefix) + 1),
+            updated_at = NOW()
+        WHERE path <@ endpoint_path_to_ltree(:oldPrefix)
+          AND path <> endpoint_path_to_ltree(:oldPrefix)
+    """, nativeQuery = true)
+    int rewriteDescendantPaths(@Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
+
     /**
      * DEPRECATED - kept for backward compatibility during migration
      * Use findByFullPath instead
@@ -77,4 +153,13 @@ public interface EndpointRepository extends JpaRepository<Endpoint, UUID> {
     default Optional<Endpoint> findBySlug(String slug) {
         return findByFullPath(slug);
     }
+
+    /**
+     * Projection for findAllRoutes / findRoutesUnder
+     */
+    interface EndpointRoute {
+        String getFullPath();
+        String getResourceType();
+        UUID getResourceId();
+    }
 }
\ No newline at end of file
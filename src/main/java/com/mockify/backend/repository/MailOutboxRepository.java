@@ -0,0 +1,81 @@
+package com.mockify.backend.repository;
+
+import com.mockify.backend.model.MailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, UUID> {
+
+    /**
+     * Locks up to {@code limit} due messages, oldest first
+     * Rows locked by another node are skipped, so dispatchers never claim the same message
+     */
+    @Query(value = """
+        SELECT * FROM mail_outbox
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<MailOutboxMessage> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE MailOutboxMessage m
+        SET m.status = com.mockify.backend.model.MailOutboxMessage.Status.SENT,
+            m.sentAt = :sentAt,
+            m.lastError = NULL,
+            m.htmlBody = NULL
+        WHERE m.id IN :ids
+    """)
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+        UPDATE MailOutboxMessage m
+        SET m.nextAttemptAt = :nextAttemptAt,
+            m.lastError = :error
+        WHERE m.id = :id
+    """)
+    int scheduleRetry(@Param("id") UUID id,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    @Modifying
+    @Query("""
+        UPDATE MailOutboxMessage m
+        SET m.status = com.mockify.backend.model.MailOutboxMessage.Status.FAILED,
+            m.lastError = :error,
+            m.htmlBody = NULL
+        WHERE m.id = :id
+    """)
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    // Sent / failed rows older than the cutoff; pending rows are never purged
+    @Modifying
+    @Query("""
+        DELETE FROM MailOutboxMessage m
+        WHERE m.status <> com.mockify.backend.model.MailOutboxMessage.Status.PENDING
+          AND m.createdAt < :cutoff
+    """)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(MailOutboxMessage.Status status);
+
+    // Creation time of the oldest message still waiting, null when the queue is empty
+    @Query("""
+        SELECT MIN(m.createdAt) FROM MailOutboxMessage m
+        WHERE m.status = com.mockify.backend.model.MailOutboxMessage.Status.PENDING
+    """)
+    LocalDateTime findOldestPendingCreatedAt();
+}
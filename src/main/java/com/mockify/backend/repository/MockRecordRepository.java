@@ -1,6 +1,9 @@
 package com.mockify.backend.repository;
 
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.dto.response.admin.AdminMockRecordResponse;
 import com.mockify.backend.model.MockRecord;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -36,7 +39,7 @@ public interface MockRecordRepository extends JpaRepository<MockRecord, UUID> {
         DELETE FROM MockRecord r
         WHERE r.expiresAt < :now
     """)
-    int deleteExpiredMockRecords(LocalDateTime now);
+    int deleteExpiredMockRecords(@Param("now") LocalDateTime now);
 
 
     // Eager-load full hierarchy for permission evaluation (avoids LazyInitializationException)
@@ -48,4 +51,39 @@ public interface MockRecordRepository extends JpaRepository<MockRecord, UUID> {
     })
     Optional<MockRecord> findWithContextById(@Param("id") UUID id);
 
+    // ID-only scope lookup for permission evaluation (no entity hydration)
+    @Query("""
+        SELECT new com.mockify.backend.dto.internal.ResourceScope(p.organization.id, p.id)
+        FROM MockRecord r
+        JOIN r.mockSchema s
+        JOIN s.project p
+        WHERE r.id = :id
+    """)
+    Optional<ResourceScope> findScopeById(@Param("id") UUID id);
+
+    // Admin listings: one page after the cursor (keyset on createdAt, id), projected
+    // straight into the response; the JSONB payload is never read
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminMockRecordResponse(
+            r.id, r.mockSchema.id, r.createdAt, r.expiresAt)
+        FROM MockRecord r
+        WHERE (r.createdAt, r.id) < (:createdAt, :id)
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<AdminMockRecordResponse> findAdminPage(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminMockRecordResponse(
+            r.id, r.mockSchema.id, r.createdAt, r.expiresAt)
+        FROM MockRecord r
+        WHERE r.mockSchema.id = :schemaId
+          AND (r.createdAt, r.id) < (:createdAt, :id)
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<AdminMockRecordResponse> findAdminPageBySchemaId(@Param("schemaId") UUID schemaId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          Limit limit);
 }
@@ -1,13 +1,20 @@
 package com.mockify.backend.repository;
 
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.dto.internal.SchemaIdentity;
+import com.mockify.backend.dto.response.admin.AdminMockSchemaResponse;
 import com.mockify.backend.model.MockSchema;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +28,9 @@ public interface MockSchemaRepository extends JpaRepository<MockSchema, UUID> {
     // Find schema by name under a project
     MockSchema findByNameAndProjectId(String name, UUID projectId);
 
+    // Find schemas by name under a project (re-import diff)
+    List<MockSchema> findByProjectIdAndNameIn(UUID projectId, Collection<String> names);
+
     // Delete schemas under a project
     void deleteByProjectId(UUID projectId);
 
@@ -31,6 +41,14 @@ public interface MockSchemaRepository extends JpaRepository<MockSchema, UUID> {
 
     boolean existsBySlugAndProjectId(String slug, UUID projectId);
 
+    // Every slug taken in a project (unique slug generation without probing one query at a time)
+    @Query("""
+        SELECT s.slug
+        FROM MockSchema s
+        WHERE s.project.id = :projectId
+    """)
+    List<String> findSlugsByProjectId(@Param("projectId") UUID projectId);
+
     // Eager-load full hierarchy for permission evaluation (avoids LazyInitializationException)
     @EntityGraph(attributePaths = {
             "project",
@@ -38,4 +56,65 @@ public interface MockSchemaRepository extends JpaRepository<MockSchema, UUID> {
             "project.organization.owner"
     })
     Optional<MockSchema> findWithContextById(@Param("id") UUID id);
-}
\ No newline at end of file
+
+    // ID-only scope lookup for permission evaluation (no entity hydration)
+    @Query("""
+        SELECT new com.mockify.backend.dto.internal.ResourceScope(p.organization.id, p.id)
+        FROM MockSchema s
+        JOIN s.project p
+        WHERE s.id = :id
+    """)
+    Optional<ResourceScope> findScopeById(@Param("id") UUID id);
+
+    // Existing schemas in a project whose name or slug collides with a batch being created
+    @Query("""
+        SELECT new com.mockify.backend.dto.internal.SchemaIdentity(s.name, s.slug)
+        FROM MockSchema s
+        WHERE s.project.id = :projectId
+          AND (s.name IN :names OR s.slug IN :slugs)
+    """)
+    List<SchemaIdentity> findConflicting(@Param("projectId") UUID projectId,
+                                         @Param("names") Collection<String> names,
+                                         @Param("slugs") Collection<String> slugs);
+
+    // Which of the given slugs are already used in a project
+    @Query("""
+        SELECT s.slug FROM MockSchema s
+        WHERE s.project.id = :projectId
+          AND s.slug IN :slugs
+    """)
+    List<String> findExistingSlugs(@Param("projectId") UUID projectId,
+                                   @Param("slugs") Collection<String> slugs);
+
+    // Admin listings: one page after the cursor (keyset on createdAt, id), projected
+    // straight into the response; schemaJson is never read
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminMockSchemaResponse(
+            s.id, s.name, s.slug, p.id, p.name,
+            (SELECT COUNT(r) FROM MockRecord r WHERE r.mockSchema = s),
+            s.createdAt)
+        FROM MockSchema s
+        JOIN s.project p
+        WHERE (s.createdAt, s.id) < (:createdAt, :id)
+        ORDER BY s.createdAt DESC, s.id DESC
+    """)
+    List<AdminMockSchemaResponse> findAdminPage(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminMockSchemaResponse(
+            s.id, s.name, s.slug, p.id, p.name,
+            (SELECT COUNT(r) FROM MockRecord r WHERE r.mockSchema = s),
+            s.createdAt)
+        FROM MockSchema s
+        JOIN s.project p
+        WHERE p.id = :projectId
+          AND (s.createdAt, s.id) < (:createdAt, :id)
+        ORDER BY s.createdAt DESC, s.id DESC
+    """)
+    List<AdminMockSchemaResponse> findAdminPageByProjectId(@Param("projectId") UUID projectId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") UUID id,
+                                                           Limit limit);
+}
@@ -2,6 +2,7 @@ package com.mockify.backend.repository;
 
 import com.mockify.backend.dto.response.admin.AdminOrganizationResponse;
 import com.mockify.backend.model.Organization;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,4 +42,36 @@ public interface OrganizationRepository extends JpaRepository<Organization, UUID
     Optional<Organization> findBySlug(String slug);
 
     boolean existsBySlug(String slug);
-}
\ No newline at end of file
+
+    // Admin listings: one page after the cursor (keyset on createdAt, id), projected
+    // straight into the response; the project count is a per-row subquery
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminOrganizationResponse(
+            o.id, o.name, o.slug, ow.id, ow.name,
+            (SELECT COUNT(p) FROM Project p WHERE p.organization = o),
+            o.createdAt)
+        FROM Organization o
+        JOIN o.owner ow
+        WHERE (o.createdAt, o.id) < (:createdAt, :id)
+        ORDER BY o.createdAt DESC, o.id DESC
+    """)
+    List<AdminOrganizationResponse> findAdminPage(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminOrganizationResponse(
+            o.id, o.name, o.slug, ow.id, ow.name,
+            (SELECT COUNT(p) FROM Project p WHERE p.organization = o),
+            o.createdAt)
+        FROM Organization o
+        JOIN o.owner ow
+        WHERE ow.id = :ownerId
+          AND (o.createdAt, o.id) < (:createdAt, :id)
+        ORDER BY o.createdAt DESC, o.id DESC
+    """)
+    List<AdminOrganizationResponse> findAdminPageByOwnerId(@Param("ownerId") UUID ownerId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") UUID id,
+                                                           Limit limit);
+}
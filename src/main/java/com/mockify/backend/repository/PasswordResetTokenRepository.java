@@ -1,6 +1,7 @@
 package com.mockify.backend.repository;
 
 import com.mockify.backend.model.PasswordResetToken;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,8 +14,15 @@ import java.util.UUID;
 public interface PasswordResetTokenRepository
         extends JpaRepository<PasswordResetToken, UUID> {
 
+    // Loads the owning user too: tokens are matched outside a transaction
+    @EntityGraph(attributePaths = "user")
     List<PasswordResetToken> findByUsedFalseAndExpiresAtAfter(LocalDateTime now);
 
+    // Claims the token; 0 when a concurrent reset already used it
+    @Modifying
+    @Query("UPDATE PasswordResetToken t SET t.used = true WHERE t.id = :id AND t.used = false")
+    int markUsed(UUID id);
+
     // Delete expired reset tokens
     @Modifying
     @Query("""
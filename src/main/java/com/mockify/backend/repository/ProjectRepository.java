@@ -1,6 +1,9 @@
 package com.mockify.backend.repository;
 
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.dto.response.admin.AdminProjectResponse;
 import com.mockify.backend.model.Project;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,4 +43,44 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
         WHERE p.id = :id
     """)
     Optional<Project> findByIdWithOrgAndOwner(@Param("id") UUID id);
-}
\ No newline at end of file
+
+    // ID-only scope lookup for permission evaluation (no entity hydration)
+    @Query("""
+        SELECT new com.mockify.backend.dto.internal.ResourceScope(p.organization.id, p.id)
+        FROM Project p
+        WHERE p.id = :id
+    """)
+    Optional<ResourceScope> findScopeById(@Param("id") UUID id);
+
+    // Admin listings: one page after the cursor (keyset on createdAt, id), projected
+    // straight into the response; the schema count is a per-row subquery
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminProjectResponse(
+            p.id, p.name, p.slug, o.id, o.name,
+            (SELECT COUNT(s) FROM MockSchema s WHERE s.project = p),
+            p.createdAt)
+        FROM Project p
+        JOIN p.organization o
+        WHERE (p.createdAt, p.id) < (:createdAt, :id)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<AdminProjectResponse> findAdminPage(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminProjectResponse(
+            p.id, p.name, p.slug, o.id, o.name,
+            (SELECT COUNT(s) FROM MockSchema s WHERE s.project = p),
+            p.createdAt)
+        FROM Project p
+        JOIN p.organization o
+        WHERE o.id = :organizationId
+          AND (p.createdAt, p.id) < (:createdAt, :id)
+        ORDER BY p.createdAt DESC, p.id DESC
+    """)
+    List<AdminProjectResponse> findAdminPageByOrganizationId(@Param("organizationId") UUID organizationId,
+                                                             @Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("id") UUID id,
+                                                             Limit limit);
+}
@@ -0,0 +1,38 @@
+package com.mockify.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Planner statistics for whole-table row counts.
+ *
+ * <p>{@code COUNT(*)} scans the whole table. {@code pg_class.reltuples} is the
+ * estimate kept by autovacuum / ANALYZE and costs one catalog lookup, so it is
+ * used wherever an approximate total is good enough.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Estimated row count of {@code table}, or empty if the table does not
+     * exist or has never been analyzed.
+     */
+    public OptionalLong estimateRowCount(String table) {
+        List<Long> estimate = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)",
+                Long.class,
+                table
+        );
+        if (estimate.isEmpty() || estimate.getFirst() == null || estimate.getFirst() < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(estimate.getFirst());
+    }
+}
@@ -1,12 +1,18 @@
 package com.mockify.backend.repository;
 
 import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.dto.response.admin.AdminUserResponse;
 import com.mockify.backend.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,4 +42,67 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Page<User> findByRole(UserRole role, Pageable pageable);
 
     Page<User> findByEmailContainingIgnoreCaseAndRole(String email, UserRole role, Pageable pageable);
-}
\ No newline at end of file
+
+    // Role only, for building the JWT principal without loading the full row
+    @Query("""
+        SELECT u.role
+        FROM User u
+        WHERE u.id = :id
+    """)
+    Optional<UserRole> findRoleById(@Param("id") UUID id);
+
+    // Admin listings: one page after the cursor (keyset on createdAt, id), projected
+    // straight into the response. emailPattern is a LIKE pattern escaped with '\'.
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminUserResponse(
+            u.id, u.name, u.email, u.emailVerified, u.role, u.providerName, u.username, u.createdAt)
+        FROM User u
+        WHERE (u.createdAt, u.id) < (:createdAt, :id)
+        ORDER BY u.createdAt DESC, u.id DESC
+    """)
+    List<AdminUserResponse> findAdminPage(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminUserResponse(
+            u.id, u.name, u.email, u.emailVerified, u.role, u.providerName, u.username, u.createdAt)
+        FROM User u
+        WHERE u.role = :role
+          AND (u.createdAt, u.id) < (:createdAt, :id)
+        ORDER BY u.createdAt DESC, u.id DESC
+    """)
+    List<AdminUserResponse> findAdminPageByRole(@Param("role") UserRole role,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    // UPPER(email) LIKE matches the trigram index idx_users_email_trgm
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminUserResponse(
+            u.id, u.name, u.email, u.emailVerified, u.role, u.providerName, u.username, u.createdAt)
+        FROM User u
+        WHERE UPPER(u.email) LIKE UPPER(:emailPattern) ESCAPE '\\'
+          AND (u.createdAt, u.id) < (:createdAt, :id)
+        ORDER BY u.createdAt DESC, u.id DESC
+    """)
+    List<AdminUserResponse> findAdminPageByEmail(@Param("emailPattern") String emailPattern,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.admin.AdminUserResponse(
+            u.id, u.name, u.email, u.emailVerified, u.role, u.providerName, u.username, u.createdAt)
+        FROM User u
+        WHERE UPPER(u.email) LIKE UPPER(:emailPattern) ESCAPE '\\'
+          AND u.role = :role
+          AND (u.createdAt, u.id) < (:createdAt, :id)
+        ORDER BY u.createdAt DESC, u.id DESC
+    """)
+    List<AdminUserResponse> findAdminPageByEmailAndRole(@Param("emailPattern") String emailPattern,
+                                                        @Param("role") UserRole role,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id,
+                                                        Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.ApiKeyUsageBuffer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageFlushScheduler {
+
+    private final ApiKeyUsageBuffer usageBuffer;
+
+    @Scheduled(fixedDelayString = "${app.api-key.last-used-flush-ms:5000}")
+    public void flushLastUsed() {
+        try {
+            int flushed = usageBuffer.flush();
+            if (flushed > 0) {
+                log.debug("[Flush] Updated last-used timestamp for {} API key(s)", flushed);
+            }
+        } catch (Exception ex) {
+            log.error("[Flush] API key last-used flush failed", ex);
+        }
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("ApiKeyUsageFlushScheduler initialized");
+    }
+}
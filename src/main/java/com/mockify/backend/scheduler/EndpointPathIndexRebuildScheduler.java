@@ -0,0 +1,35 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.EndpointPathIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndpointPathIndexRebuildScheduler {
+
+    private final EndpointPathIndex endpointPathIndex;
+
+    // Repairs any path change broadcast this node missed
+    @Scheduled(
+            initialDelayString = "${app.endpoint-index.rebuild-ms:600000}",
+            fixedDelayString = "${app.endpoint-index.rebuild-ms:600000}"
+    )
+    public void rebuild() {
+        try {
+            endpointPathIndex.rebuild();
+        } catch (Exception ex) {
+            log.error("[Rebuild] Endpoint path index rebuild failed", ex);
+        }
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("EndpointPathIndexRebuildScheduler initialized");
+    }
+}
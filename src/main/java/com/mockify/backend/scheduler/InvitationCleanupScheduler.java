@@ -1,7 +1,9 @@
 // src/main/java/com/mockify/backend/scheduler/InvitationCleanupScheduler.java
 package com.mockify.backend.scheduler;
 
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.repository.OrganizationInvitationRepository;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import java.time.LocalDateTime;
 public class InvitationCleanupScheduler {
 
     private final OrganizationInvitationRepository invitationRepo;
+    private final HotPathMetrics metrics;
 
     @Value("${cleanup.invitations.enabled:true}")
     private boolean enabled;
@@ -26,13 +29,19 @@ public class InvitationCleanupScheduler {
     @Transactional
     public void cleanExpiredInvitations() {
         if (!enabled) return;
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
         try {
             int deleted = invitationRepo.deleteExpiredInvitations(LocalDateTime.now());
+            outcome = HotPathMetrics.SUCCESS;
+            metrics.recordBatchSize(HotPathMetrics.CLEANUP_RUN, "invitations", deleted);
             if (deleted > 0) {
                 log.info("[Cleanup] Deleted {} expired invitations", deleted);
             }
         } catch (Exception ex) {
             log.error("[Cleanup] Invitation cleanup failed", ex);
+        } finally {
+            metrics.stop(sample, HotPathMetrics.CLEANUP_RUN, "invitations", outcome);
         }
     }
 
@@ -0,0 +1,56 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.HotPathMetrics;
+import com.mockify.backend.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxCleanupScheduler {
+
+    private final MailOutboxRepository outboxRepository;
+    private final HotPathMetrics metrics;
+
+    @Value("${cleanup.mail-outbox.enabled:true}")
+    private boolean enabled;
+
+    // How long sent / failed messages are kept for troubleshooting
+    @Value("${cleanup.mail-outbox.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(cron = "${cleanup.mail-outbox.cron}")
+    @Transactional
+    public void purgeFinishedMessages() {
+        if (!enabled) return;
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            int deleted = outboxRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+            outcome = HotPathMetrics.SUCCESS;
+            metrics.recordBatchSize(HotPathMetrics.CLEANUP_RUN, "mail-outbox", deleted);
+            if (deleted > 0) {
+                log.info("[Cleanup] Deleted {} sent or failed outbox messages", deleted);
+            }
+        } catch (Exception ex) {
+            log.error("[Cleanup] Mail outbox cleanup failed", ex);
+        } finally {
+            metrics.stop(sample, HotPathMetrics.CLEANUP_RUN, "mail-outbox", outcome);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        log.info("MailOutboxCleanupScheduler initialized");
+    }
+}
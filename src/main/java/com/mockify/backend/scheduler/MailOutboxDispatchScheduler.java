@@ -0,0 +1,39 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.MailOutboxDispatcher;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxDispatchScheduler {
+
+    private final MailOutboxDispatcher dispatcher;
+
+    @Value("${app.mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-ms:1000}")
+    public void dispatch() {
+        if (!enabled) return;
+        try {
+            int attempted = dispatcher.dispatch();
+            if (attempted > 0) {
+                log.debug("[Mail] Dispatched {} outbox message(s)", attempted);
+            }
+        } catch (Exception ex) {
+            log.error("[Mail] Outbox dispatch failed", ex);
+        }
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("MailOutboxDispatchScheduler initialized");
+    }
+}
@@ -1,6 +1,8 @@
 package com.mockify.backend.scheduler;
 
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.service.MockRecordCleanupService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class MockDataCleanupScheduler {
 
     private final MockRecordCleanupService cleanupService;
+    private final HotPathMetrics metrics;
 
     @Value("${cleanup.mock-data.enabled:true}")
     private boolean enabled;
@@ -24,14 +27,20 @@ public class MockDataCleanupScheduler {
             return;
         }
 
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
         try {
             long start = System.currentTimeMillis();
             int deleted = cleanupService.cleanExpiredMockRecords();
             long duration = System.currentTimeMillis() - start;
 
+            outcome = HotPathMetrics.SUCCESS;
+            metrics.recordBatchSize(HotPathMetrics.CLEANUP_RUN, "mock-data", deleted);
             log.info("[Cleanup] Deleted {} expired mock records in {} ms", deleted, duration);
         } catch (Exception ex) {
             log.error("[Cleanup] Mock data cleanup failed", ex);
+        } finally {
+            metrics.stop(sample, HotPathMetrics.CLEANUP_RUN, "mock-data", outcome);
         }
     }
 
@@ -1,6 +1,8 @@
 package com.mockify.backend.scheduler;
 
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.service.PasswordResetTokenCleanupService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class PasswordResetTokenCleanupScheduler {
 
     private final PasswordResetTokenCleanupService cleanupService;
+    private final HotPathMetrics metrics;
 
     @Value("${cleanup.password-token.enabled:true}")
     private boolean enabled;
@@ -24,14 +27,20 @@ public class PasswordResetTokenCleanupScheduler {
             return;
         }
 
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
         try {
             long start = System.currentTimeMillis();
             int deleted = cleanupService.cleanExpiredTokens();
             long duration = System.currentTimeMillis() - start;
 
+            outcome = HotPathMetrics.SUCCESS;
+            metrics.recordBatchSize(HotPathMetrics.CLEANUP_RUN, "password-token", deleted);
             log.info("[Cleanup] Deleted {} expired password reset tokens in {} ms", deleted, duration);
         } catch (Exception ex) {
             log.error("[Cleanup] Password token cleanup failed", ex);
+        } finally {
+            metrics.stop(sample, HotPathMetrics.CLEANUP_RUN, "password-token", outcome);
         }
     }
 
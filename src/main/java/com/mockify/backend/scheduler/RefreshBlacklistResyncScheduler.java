@@ -0,0 +1,32 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.security.RefreshTokenBlacklist;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshBlacklistResyncScheduler {
+
+    private final RefreshTokenBlacklist refreshTokenBlacklist;
+
+    // First run happens right after startup, once the pub/sub listener is subscribed
+    @Scheduled(fixedDelayString = "${app.refresh-blacklist.bloom.resync-ms:300000}")
+    public void resync() {
+        try {
+            refreshTokenBlacklist.resync();
+        } catch (Exception ex) {
+            log.error("[Resync] Refresh blacklist filter resync failed", ex);
+        }
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("RefreshBlacklistResyncScheduler initialized");
+    }
+}
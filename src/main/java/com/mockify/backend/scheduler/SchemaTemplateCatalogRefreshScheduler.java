@@ -0,0 +1,35 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.SchemaTemplateCatalog;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaTemplateCatalogRefreshScheduler {
+
+    private final SchemaTemplateCatalog schemaTemplateCatalog;
+
+    // Picks up templates changed by migrations or SQL, and any missed broadcast
+    @Scheduled(
+            initialDelayString = "${app.schema-templates.refresh-ms:900000}",
+            fixedDelayString = "${app.schema-templates.refresh-ms:900000}"
+    )
+    public void refresh() {
+        try {
+            schemaTemplateCatalog.refresh();
+        } catch (Exception ex) {
+            log.error("[Refresh] System template catalog refresh failed", ex);
+        }
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("SchemaTemplateCatalogRefreshScheduler initialized");
+    }
+}
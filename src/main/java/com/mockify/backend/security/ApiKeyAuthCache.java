@@ -0,0 +1,216 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.model.ApiKey;
+import com.mockify.backend.model.ApiKeyPermission;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of successfully verified API keys.
+ *
+ * <p>Entries are keyed by a SHA-256 digest of the presented key, so the raw
+ * key is never held in memory. A hit skips the prefix lookup, both HMAC
+ * computations and the permission query in {@link ApiKeyAuthenticationFilter}.</p>
+ *
+ * <p>Only successful verifications are cached. Failed attempts always go to
+ * the database so a guessed key cannot be confirmed from the cache.</p>
+ *
+ * <p>{@code ApiKeyServiceImpl} evicts a key on update, revoke, rotate and
+ * delete through {@link CacheInvalidationBus}, which fans out to all nodes.
+ * Organization, project and user deletes evict every key they cascade to. The TTL
+ * ({@code app.api-key.auth-cache-ttl}) bounds staleness if a broadcast is missed.</p>
+ *
+ * <p>A request may load a key just before a revoke commits and try to cache it
+ * just after the eviction ran. Every local eviction bumps a generation counter;
+ * {@link #put} drops the snapshot when an eviction happened since the caller
+ * read {@link #generation()} before its lookup.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiKeyAuthCache {
+
+    static final String CACHE_NAME = "api-key-auth";
+
+    // Payload prefixes for evicting every key of a deleted container; a bare UUID is a key ID
+    private static final String ORGANIZATION_PREFIX = "organization:";
+    private static final String PROJECT_PREFIX = "project:";
+    private static final String OWNER_PREFIX = "owner:";
+
+    private final ApiKeyConfig apiKeyConfig;
+    private final CacheInvalidationBus invalidationBus;
+
+    private Cache<String, VerifiedKey> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(apiKeyConfig.getAuthCacheMaxSize())
+                .expireAfterWrite(apiKeyConfig.getAuthCacheTtl())
+                .build();
+
+        invalidationBus.subscribe(CACHE_NAME, this::evictLocal);
+    }
+
+    /**
+     * Returns the cached snapshot for {@code rawApiKey}, or {@code null} on a miss.
+     * Snapshots whose key has expired since caching are dropped and treated as a miss.
+     */
+    public VerifiedKey get(String rawApiKey) {
+        String digest = digest(rawApiKey);
+        VerifiedKey hit = cache.getIfPresent(digest);
+        if (hit != null && hit.isExpired()) {
+            cache.invalidate(digest);
+            return null;
+        }
+        return hit;
+    }
+
+    /**
+     * Current eviction generation. Read it before loading a key from the database
+     * and pass it to {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a snapshot of {@code key}. The entity must have its permissions loaded.
+     *
+     * <p>If any eviction ran since {@code loadedAtGeneration}, the key may have been
+     * revoked after it was loaded: the snapshot is returned for this request but
+     * not kept in the cache.</p>
+     */
+    public VerifiedKey put(String rawApiKey, ApiKey key, long loadedAtGeneration) {
+        VerifiedKey snapshot = VerifiedKey.of(key);
+        String digest = digest(rawApiKey);
+        cache.put(digest, snapshot);
+
+        // Evictions bump the generation before scanning, so an eviction either
+        // sees this entry or is seen here
+        if (generation.get() != loadedAtGeneration) {
+            cache.invalidate(digest);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Evicts {@code apiKeyId} on every node once the current transaction commits.
+     */
+    public void invalidate(UUID apiKeyId) {
+        invalidationBus.publish(CACHE_NAME, apiKeyId.toString());
+    }
+
+    /**
+     * Evicts every key of {@code organizationId}; its keys are removed by ON DELETE CASCADE.
+     */
+    public void invalidateOrganization(UUID organizationId) {
+        invalidationBus.publish(CACHE_NAME, ORGANIZATION_PREFIX + organizationId);
+    }
+
+    /**
+     * Evicts every key scoped to {@code projectId}; its keys are removed by ON DELETE CASCADE.
+     */
+    public void invalidateProject(UUID projectId) {
+        invalidationBus.publish(CACHE_NAME, PROJECT_PREFIX + projectId);
+    }
+
+    /**
+     * Evicts every key created by {@code userId}; its keys are removed by ON DELETE CASCADE.
+     */
+    public void invalidateOwner(UUID userId) {
+        invalidationBus.publish(CACHE_NAME, OWNER_PREFIX + userId);
+    }
+
+    // Payload format: <keyId>, organization:<orgId>, project:<projectId> or owner:<userId>
+    private void evictLocal(String payload) {
+        generation.incrementAndGet();
+
+        // Entries are keyed by digest, so scan. Invalidations are rare (admin
+        // actions) and the cache is bounded, so a scan is cheap enough.
+        if (payload.startsWith(ORGANIZATION_PREFIX)) {
+            UUID orgId = UUID.fromString(payload.substring(ORGANIZATION_PREFIX.length()));
+            cache.asMap().values().removeIf(v -> orgId.equals(v.organizationId()));
+        } else if (payload.startsWith(PROJECT_PREFIX)) {
+            UUID projectId = UUID.fromString(payload.substring(PROJECT_PREFIX.length()));
+            cache.asMap().values().removeIf(v -> projectId.equals(v.projectId()));
+        } else if (payload.startsWith(OWNER_PREFIX)) {
+            UUID ownerId = UUID.fromString(payload.substring(OWNER_PREFIX.length()));
+            cache.asMap().values().removeIf(v -> ownerId.equals(v.ownerId()));
+        } else {
+            UUID apiKeyId = UUID.fromString(payload);
+            cache.asMap().values().removeIf(v -> apiKeyId.equals(v.apiKeyId()));
+        }
+        log.debug("API key auth cache evicted: {}", payload);
+    }
+
+    private static String digest(String rawApiKey) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(rawApiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Immutable authentication snapshot of a verified API key.
+     * Holds detached copies of the permission rows, never managed entities,
+     * and their compiled index, which every token built from the snapshot shares.
+     */
+    public record VerifiedKey(
+            UUID apiKeyId,
+            UUID ownerId,
+            UUID organizationId,
+            UUID projectId,
+            List<ApiKeyPermission> permissions,
+            ApiKeyGrants grants,
+            int rateLimitPerMinute,
+            LocalDateTime expiresAt
+    ) {
+
+        static VerifiedKey of(ApiKey key) {
+            List<ApiKeyPermission> permissions = key.getPermissions().stream()
+                    .map(p -> ApiKeyPermission.builder()
+                            .id(p.getId())
+                            .permission(p.getPermission())
+                            .resourceType(p.getResourceType())
+                            .resourceId(p.getResourceId())
+                            .build())
+                    .toList();
+
+            return new VerifiedKey(
+                    key.getId(),
+                    key.getCreatedBy().getId(),
+                    key.getOrganization().getId(),
+                    key.getProject() != null ? key.getProject().getId() : null,
+                    permissions,
+                    ApiKeyGrants.compile(permissions),
+                    key.getRateLimitPerMinute(),
+                    key.getExpiresAt()
+            );
+        }
+
+        boolean isExpired() {
+            return expiresAt != null && expiresAt.isBefore(LocalDateTime.now());
+        }
+    }
+}
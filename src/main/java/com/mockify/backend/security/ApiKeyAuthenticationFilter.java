@@ -1,10 +1,13 @@
 package com.mockify.backend.security;
 
 import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.infrastructure.ApiKeyUsageBuffer;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.model.ApiKey;
 import com.mockify.backend.model.ApiKeyPermission;
-import com.mockify.backend.repository.ApiKeyPermissionRepository;
 import com.mockify.backend.repository.ApiKeyRepository;
+import com.mockify.backend.security.ApiKeyAuthCache.VerifiedKey;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +15,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -21,7 +25,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -32,9 +35,12 @@ import java.util.Set;
  * <p>Runs after the JWT filter. If a JWT is already present the filter skips
  * immediately, so JWT always takes precedence.</p>
  *
- * <p>On a successful HMAC match the filter eagerly loads all
- * {@link ApiKeyPermission} rows for the key and stores them inside the
+ * <p>On a successful HMAC match the filter stores all {@link ApiKeyPermission}
+ * rows for the key (fetch-joined by the prefix lookup) inside the
  * {@link ApiKeyAuthenticationToken}.</p>
+ *
+ * <p>Verified keys are kept in {@link ApiKeyAuthCache}, so repeat requests
+ * with the same key skip the DB lookup and HMAC verification entirely.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -42,14 +48,19 @@ import java.util.Set;
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
     private final ApiKeyRepository apiKeyRepository;
-    private final ApiKeyPermissionRepository apiKeyPermissionRepository;
     private final ApiKeyCryptoService cryptoService;
+    private final ApiKeyAuthCache apiKeyAuthCache;
+    private final ApiKeyUsageBuffer apiKeyUsageBuffer;
     private final ApiKeyConfig apiKeyConfig;
+    private final HotPathMetrics metrics;
 
     private static final String API_KEY_HEADER = "X-API-Key";
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String API_KEY_PREFIX = "ApiKey ";
 
+    private static final List<GrantedAuthority> API_KEY_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_API_KEY"));
+
     private static final Set<String> PUBLIC_ENDPOINTS = Set.of(
             "/api/auth/register",
             "/api/auth/register/verify",
@@ -85,58 +96,71 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Timer.Sample sample = metrics.start();
+        String outcome = authenticate(apiKey, request);
+        metrics.stop(sample, HotPathMetrics.API_KEY_AUTHENTICATION,
+                metrics.routeGroup(request.getRequestURI()), outcome);
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Populates the security context when {@code apiKey} is valid.
+     *
+     * @return outcome tag for the authentication timer
+     */
+    private String authenticate(String apiKey, HttpServletRequest request) {
         try {
             // Validate key format
             if (!cryptoService.isValidKeyFormat(apiKey)) {
                 log.warn("Invalid API key format from IP: {}", request.getRemoteAddr());
-                filterChain.doFilter(request, response);
-                return;
+                return "invalid_format";
             }
 
-            Optional<ApiKey> validatedKey = authenticateByKeyHash(apiKey);
+            // Fast path: key already verified recently on this node
+            VerifiedKey verified = apiKeyAuthCache.get(apiKey);
+            String outcome = "cache_hit";
+
+            if (verified == null) {
+                long generation = apiKeyAuthCache.generation();
+                Optional<ApiKey> validatedKey = authenticateByKeyHash(apiKey);
+
+                if (validatedKey.isEmpty()) {
+                    log.warn("API key authentication failed from IP: {}", request.getRemoteAddr());
+                    return "failure";
+                }
 
-            if (validatedKey.isPresent()) {
                 ApiKey key = validatedKey.get();
 
                 if (!key.isValid()) {
                     log.warn("API key failed validity check: keyId={}", key.getId());
-                    filterChain.doFilter(request, response);
-                    return;
+                    return "failure";
                 }
 
-                // Load permissions eagerly so MockifyPermissionEvaluator can use them
-                // without extra DB calls during @PreAuthorize evaluation.
-                List<ApiKeyPermission> permissions =
-                        apiKeyPermissionRepository.findByApiKeyId(key.getId());
-
-                ApiKeyAuthenticationToken authentication = new ApiKeyAuthenticationToken(
-                        key.getId(),
-                        key.getCreatedBy().getId(),
-                        key.getOrganization().getId(),
-                        key.getProject() != null ? key.getProject().getId() : null,
-                        permissions,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_API_KEY")),
-                        key.getRateLimitPerMinute()
-                );
+                // Permissions were fetch-joined by the prefix lookup, so
+                // MockifyPermissionEvaluator can use them without extra DB calls.
+                verified = apiKeyAuthCache.put(apiKey, key, generation);
+                outcome = HotPathMetrics.SUCCESS;
+            }
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            ApiKeyAuthenticationToken authentication = new ApiKeyAuthenticationToken(
+                    verified, API_KEY_AUTHORITIES);
 
-                // Update last used timestamp asynchronously (don't block request)
-                updateLastUsedAsync(key);
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("API key authenticated: keyId={}, org={}, permissions={}",
-                        key.getId(), key.getOrganization().getId(), permissions.size());
+            // Buffered in memory and flushed in batches (don't block request)
+            apiKeyUsageBuffer.recordUsage(verified.apiKeyId());
 
-            } else {
-                log.warn("API key authentication failed from IP: {}", request.getRemoteAddr());
-            }
+            log.debug("API key authenticated: keyId={}, org={}, permissions={}",
+                    verified.apiKeyId(), verified.organizationId(), verified.permissions().size());
+
+            return outcome;
 
         } catch (Exception ex) {
             log.error("API key authentication error", ex);
+            return HotPathMetrics.ERROR;
         }
-
-        filterChain.doFilter(request, response);
     }
 
     /**
@@ -188,19 +212,6 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    /**
-     * TODO: In production, use @Async or a message queue.
-     * For now, simple synchronous update — acceptable for low traffic.
-     */
-    private void updateLastUsedAsync(ApiKey key) {
-        try {
-            key.markAsUsed();
-            apiKeyRepository.save(key);
-        } catch (Exception e) {
-            log.warn("Failed to update API key last-used timestamp: keyId={}", key.getId(), e);
-        }
-    }
-
     /**
      * Skip API key authentication for:
      *  - Public auth endpoints
@@ -3,6 +3,7 @@ package com.mockify.backend.security;
 import com.mockify.backend.model.ApiKeyPermission;
 import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
 import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,6 +19,10 @@ import java.util.UUID;
  * rows loaded at authentication time. The permission list is used by
  * {@link MockifyPermissionEvaluator} to answer {@code hasPermission()} calls
  * without additional DB round-trips during request handling.</p>
+ *
+ * <p>{@link #hasPermission} answers from an {@link ApiKeyGrants} index. Tokens
+ * built from an {@link ApiKeyAuthCache.VerifiedKey} share the index compiled
+ * when the key was verified, so cache hits do not rebuild it.</p>
  */
 @Getter
 public class ApiKeyAuthenticationToken extends AbstractAuthenticationToken {
@@ -29,6 +34,9 @@ public class ApiKeyAuthenticationToken extends AbstractAuthenticationToken {
     private final List<ApiKeyPermission> permissions;
     private final int rateLimitPerMinute;
 
+    @Getter(AccessLevel.NONE)
+    private final ApiKeyGrants grants;
+
     public ApiKeyAuthenticationToken(
             UUID apiKeyId,
             UUID ownerId,
@@ -47,12 +55,38 @@ public class ApiKeyAuthenticationToken extends AbstractAuthenticationToken {
             List<ApiKeyPermission> permissions,
             Collection<? extends GrantedAuthority> authorities,
             int rateLimitPerMinute) {
+        this(apiKeyId, ownerId, organizationId, projectId,
+                permissions != null ? permissions : List.of(),
+                ApiKeyGrants.compile(permissions != null ? permissions : List.of()),
+                authorities, rateLimitPerMinute);
+    }
+
+    /**
+     * Token for a verified key, sharing the key's precompiled permission index.
+     */
+    public ApiKeyAuthenticationToken(
+            ApiKeyAuthCache.VerifiedKey verified,
+            Collection<? extends GrantedAuthority> authorities) {
+        this(verified.apiKeyId(), verified.ownerId(), verified.organizationId(), verified.projectId(),
+                verified.permissions(), verified.grants(), authorities, verified.rateLimitPerMinute());
+    }
+
+    private ApiKeyAuthenticationToken(
+            UUID apiKeyId,
+            UUID ownerId,
+            UUID organizationId,
+            UUID projectId,
+            List<ApiKeyPermission> permissions,
+            ApiKeyGrants grants,
+            Collection<? extends GrantedAuthority> authorities,
+            int rateLimitPerMinute) {
         super(authorities);
         this.apiKeyId = apiKeyId;
         this.ownerId = ownerId;
         this.organizationId = organizationId;
         this.projectId = projectId;
-        this.permissions = permissions != null ? permissions : List.of();
+        this.permissions = permissions;
+        this.grants = grants;
         this.rateLimitPerMinute = rateLimitPerMinute;
         setAuthenticated(true);
     }
@@ -122,10 +156,6 @@ public class ApiKeyAuthenticationToken extends AbstractAuthenticationToken {
             ApiPermission requiredPermission,
             UUID resourceId) {
 
-        return permissions.stream().anyMatch(p ->
-                p.getResourceType() == resourceType
-                        && p.getPermission().includes(requiredPermission)
-                        && (p.getResourceId() == null || p.getResourceId().equals(resourceId))
-        );
+        return grants.allows(resourceType, requiredPermission, resourceId);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package com.mockify.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
@@ -12,11 +15,15 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.HexFormat;
-import java.util.regex.Pattern;
 
 /**
  * Cryptographic service for API key generation and hashing
  * Uses HMAC-SHA256 for secure, deterministic key hashing
+ *
+ * <p>Hot-path notes: each thread reuses one {@link Mac} and its output
+ * buffers, HMAC key specs and derived org secrets are cached (bounded), and
+ * verification compares raw digest bytes against the decoded stored hash
+ * instead of building a hex string.</p>
  */
 @Service
 @Slf4j
@@ -24,13 +31,28 @@ public class ApiKeyCryptoService {
 
     private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-    private static final Pattern KEY_PATTERN =
-            Pattern.compile("^(mk_live_|mk_test_)[A-Za-z0-9_-]{43}$");
+    private static final HexFormat HEX = HexFormat.of();
 
     // Key format: mk_live_<32 bytes base64url>
     private static final String KEY_PREFIX_LIVE = "mk_live_";
     private static final String KEY_PREFIX_TEST = "mk_test_";
     private static final int KEY_ENTROPY_BYTES = 32; // 256 bits
+    private static final int KEY_BODY_LENGTH = 43;   // base64url(32 bytes), no padding
+    private static final int KEY_LENGTH = KEY_PREFIX_LIVE.length() + KEY_BODY_LENGTH;
+
+    // Upper bound for both the key-spec and the org-secret cache
+    private static final int MAX_CACHED_SECRETS = 10_000;
+
+    // Mac is not thread-safe but is reusable after doFinal, so keep one per thread
+    private static final ThreadLocal<HmacEngine> ENGINES = ThreadLocal.withInitial(HmacEngine::new);
+
+    private final Cache<String, SecretKeySpec> keySpecs = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SECRETS)
+            .build();
+
+    private final Cache<OrgSecretKey, String> orgSecrets = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SECRETS)
+            .build();
 
     /**
      * Generate a new API key with cryptographically secure randomness
@@ -67,49 +89,39 @@ public class ApiKeyCryptoService {
             throw new IllegalArgumentException("Secret must not be null or blank");
         }
 
-        try {
-            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
-            SecretKeySpec secretKey = new SecretKeySpec(
-                    secret.getBytes(StandardCharsets.UTF_8),
-                    HMAC_ALGORITHM
-            );
-            hmac.init(secretKey);
-
-            byte[] hashBytes = hmac.doFinal(apiKey.getBytes(StandardCharsets.UTF_8));
+        HmacEngine engine = ENGINES.get();
+        engine.compute(apiKey, keySpec(secret));
 
-            // Return hex-encoded hash
-            return HexFormat.of().formatHex(hashBytes);
-
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            log.error("Failed to hash API key", e);
-            throw new IllegalStateException("Cryptographic error during key hashing", e);
-        }
+        // Return hex-encoded hash
+        return HEX.formatHex(engine.out);
     }
 
     /**
      * Verify API key against stored hash
      *
+     * <p>Does not re-check the key format; callers validate it once up front.
+     * A malformed key simply fails the HMAC comparison.</p>
+     *
      * @param apiKey the raw API key to verify
      * @param storedHash the hash stored in database
      * @param secret HMAC secret used during hashing
      * @return true if key matches hash
      */
     public boolean verifyApiKey(String apiKey, String storedHash, String secret) {
-        if (storedHash == null || secret == null) {
+        if (apiKey == null || apiKey.isEmpty() || storedHash == null
+                || secret == null || secret.isEmpty()) {
             return false;
         }
 
-        if (!isValidKeyFormat(apiKey)) {
+        HmacEngine engine = ENGINES.get();
+        if (!engine.decodeExpected(storedHash)) {
             return false;
         }
 
-        String computedHash = hashApiKey(apiKey, secret);
+        engine.compute(apiKey, keySpec(secret));
 
         // Use constant-time comparison to prevent timing attacks
-        return MessageDigest.isEqual(
-                computedHash.getBytes(StandardCharsets.UTF_8),
-                storedHash.getBytes(StandardCharsets.UTF_8)
-        );
+        return MessageDigest.isEqual(engine.out, engine.expected);
     }
 
     /**
@@ -133,13 +145,24 @@ public class ApiKeyCryptoService {
 
     /**
      * Validate API key format
+     * Equivalent to {@code ^(mk_live_|mk_test_)[A-Za-z0-9_-]{43}$} without the regex engine
      *
      * @param apiKey key to validate
      * @return true if format is valid
      */
     public boolean isValidKeyFormat(String apiKey) {
-        if (apiKey == null) return false;
-        return KEY_PATTERN.matcher(apiKey).matches();
+        if (apiKey == null || apiKey.length() != KEY_LENGTH) return false;
+        if (!apiKey.startsWith(KEY_PREFIX_LIVE) && !apiKey.startsWith(KEY_PREFIX_TEST)) return false;
+
+        for (int i = KEY_PREFIX_LIVE.length(); i < KEY_LENGTH; i++) {
+            char c = apiKey.charAt(i);
+            boolean base64Url = (c >= 'A' && c <= 'Z')
+                    || (c >= 'a' && c <= 'z')
+                    || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-';
+            if (!base64Url) return false;
+        }
+        return true;
     }
 
     /**
@@ -147,6 +170,9 @@ public class ApiKeyCryptoService {
      * In production, this should be stored securely
      * For now, we derive it from organization ID
      *
+     * <p>Derived secrets are deterministic, so they are cached per
+     * (organization, global secret) pair.</p>
+     *
      * @param organizationId organization UUID
      * @param globalSecret application-level secret
      * @return organization-specific secret
@@ -159,7 +185,100 @@ public class ApiKeyCryptoService {
             throw new IllegalArgumentException("Global secret must not be null or blank");
         }
 
-        String input = organizationId + ":api-key";
-        return hashApiKey(input, globalSecret);
+        return orgSecrets.get(
+                new OrgSecretKey(organizationId, globalSecret),
+                k -> hashApiKey(k.organizationId() + ":api-key", k.globalSecret())
+        );
+    }
+
+    private SecretKeySpec keySpec(String secret) {
+        return keySpecs.get(secret,
+                s -> new SecretKeySpec(s.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+    }
+
+    private record OrgSecretKey(String organizationId, String globalSecret) {}
+
+    /**
+     * Per-thread HMAC state: one {@link Mac}, its output buffer, a buffer for
+     * the decoded stored hash and a scratch buffer for ASCII input.
+     */
+    private static final class HmacEngine {
+
+        // Longer inputs fall back to String#getBytes
+        private static final int MAX_SCRATCH_INPUT = 256;
+
+        private final Mac mac;
+        private final byte[] out;
+        private final byte[] expected;
+        private final byte[] input = new byte[MAX_SCRATCH_INPUT];
+        private SecretKeySpec currentKey;
+
+        HmacEngine() {
+            try {
+                mac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("HMAC-SHA256 not available", e);
+            }
+            out = new byte[mac.getMacLength()];
+            expected = new byte[mac.getMacLength()];
+        }
+
+        void compute(String data, SecretKeySpec key) {
+            try {
+                // doFinal resets the Mac but keeps its key, so re-init only on key change
+                if (key != currentKey) {
+                    mac.init(key);
+                    currentKey = key;
+                }
+
+                int length = encodeAscii(data);
+                if (length >= 0) {
+                    mac.update(input, 0, length);
+                } else {
+                    mac.update(data.getBytes(StandardCharsets.UTF_8));
+                }
+                mac.doFinal(out, 0);
+
+            } catch (InvalidKeyException | ShortBufferException e) {
+                mac.reset();
+                currentKey = null;
+                log.error("Failed to hash API key", e);
+                throw new IllegalStateException("Cryptographic error during key hashing", e);
+            }
+        }
+
+        /**
+         * Decodes a hex hash into {@link #expected}.
+         * Returns false if it is not a hex string of the digest length.
+         */
+        boolean decodeExpected(String hexHash) {
+            if (hexHash.length() != expected.length * 2) {
+                return false;
+            }
+            try {
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] = (byte) HexFormat.fromHexDigits(hexHash, i * 2, i * 2 + 2);
+                }
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        /** Copies ASCII {@code data} into the scratch buffer, or returns -1. */
+        private int encodeAscii(String data) {
+            int length = data.length();
+            if (length > input.length) {
+                return -1;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = data.charAt(i);
+                if (c >= 0x80) {
+                    return -1;
+                }
+                input[i] = (byte) c;
+            }
+            return length;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.model.ApiKeyPermission;
+import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable permission index of one API key.
+ *
+ * <p>Holds the highest granted level per resource type (wildcard grants) and
+ * per resource ID (scoped grants), so a check is two map lookups. It is
+ * compiled once when a key is verified and shared by every request served from
+ * {@link ApiKeyAuthCache}.</p>
+ */
+final class ApiKeyGrants {
+
+    // Highest level granted on all resources of a type (resourceId == null)
+    private final Map<ApiResourceType, ApiPermission> wildcardGrants;
+
+    // Highest level granted on a specific resource, per type
+    private final Map<ApiResourceType, Map<UUID, ApiPermission>> scopedGrants;
+
+    private ApiKeyGrants(Map<ApiResourceType, ApiPermission> wildcardGrants,
+                         Map<ApiResourceType, Map<UUID, ApiPermission>> scopedGrants) {
+        this.wildcardGrants = wildcardGrants;
+        this.scopedGrants = scopedGrants;
+    }
+
+    static ApiKeyGrants compile(List<ApiKeyPermission> permissions) {
+        Map<ApiResourceType, ApiPermission> wildcard = new EnumMap<>(ApiResourceType.class);
+        Map<ApiResourceType, Map<UUID, ApiPermission>> scoped = new EnumMap<>(ApiResourceType.class);
+        for (ApiKeyPermission p : permissions) {
+            if (p.getResourceId() == null) {
+                wildcard.merge(p.getResourceType(), p.getPermission(), ApiKeyGrants::higher);
+            } else {
+                scoped.computeIfAbsent(p.getResourceType(), t -> new HashMap<>())
+                        .merge(p.getResourceId(), p.getPermission(), ApiKeyGrants::higher);
+            }
+        }
+
+        Map<ApiResourceType, Map<UUID, ApiPermission>> frozen = new EnumMap<>(ApiResourceType.class);
+        scoped.forEach((type, byId) -> frozen.put(type, Map.copyOf(byId)));
+        return new ApiKeyGrants(wildcard, frozen);
+    }
+
+    /**
+     * See {@link ApiKeyAuthenticationToken#hasPermission} for the match rules.
+     */
+    boolean allows(ApiResourceType resourceType, ApiPermission requiredPermission, UUID resourceId) {
+        ApiPermission wildcard = wildcardGrants.get(resourceType);
+        if (wildcard != null && wildcard.includes(requiredPermission)) {
+            return true;
+        }
+        if (resourceId == null) {
+            return false;
+        }
+
+        Map<UUID, ApiPermission> byId = scopedGrants.get(resourceType);
+        ApiPermission scoped = byId != null ? byId.get(resourceId) : null;
+        return scoped != null && scoped.includes(requiredPermission);
+    }
+
+    private static ApiPermission higher(ApiPermission a, ApiPermission b) {
+        return a.includes(b) ? a : b;
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,7 +28,12 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+
+    // Opt-in: build the principal from the token's role claim, with no lookup at all.
+    // A role change or account removal then takes effect only when the token expires.
+    @Value("${jwt.trust-role-claim:false}")
+    private boolean trustRoleClaim;
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -65,13 +71,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Validate token and extract user ID
-            jwtTokenProvider.validateAccessToken(jwt);
-            UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
-
-            // Load user details (authorities are taken from DB, not token)
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(userId.toString());
+            // Verify token once (signature, expiry, issuer, audience, type) and read its claims
+            JwtClaims claims = jwtTokenProvider.verifyAccessToken(jwt);
+            UUID userId = claims.userId();
+
+            // Authorities come from the cached user role, or from the token when trusted
+            UserPrincipalCache.UserPrincipal principal = trustRoleClaim
+                    ? new UserPrincipalCache.UserPrincipal(userId, claims.role())
+                    : userPrincipalCache.get(userId);
+
+            if (principal == null) {
+                log.debug("JWT user no longer exists: userId={}", userId);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            UserDetails userDetails = principal.toUserDetails();
 
             // Create authentication object for Spring Security
             UsernamePasswordAuthenticationToken authentication =
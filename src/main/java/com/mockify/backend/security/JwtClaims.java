@@ -0,0 +1,23 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.UserRole;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a token that passed signature, expiry, issuer, audience and type checks.
+ * Produced by {@link JwtTokenProvider#verifyAccessToken} and {@link JwtTokenProvider#verifyRefreshToken}.
+ */
+public record JwtClaims(
+        UUID userId,
+        UserRole role,
+        String jti,
+        String type,
+        Instant expiresAt
+) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -1,18 +1,37 @@
 package com.mockify.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.exception.JwtTokenExpiredException;
+import com.mockify.backend.exception.JwtTokenInvalidException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
 
+/**
+ * Issues and verifies JWTs.
+ *
+ * <p>The signing key and the (thread-safe, immutable) parser are built once at
+ * startup. {@link #verifyAccessToken} parses a token a single time and returns
+ * its typed claims; successful results are kept for a few seconds
+ * ({@code jwt.verify-cache-ttl}) keyed by a SHA-256 digest of the token, so a
+ * client firing parallel requests with the same token is verified once.</p>
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -28,20 +47,41 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh.expiration}")
     private long refreshTokenExpiration;
 
-    // Generate signing key from secret
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.verify-cache-ttl:5s}")
+    private Duration verifyCacheTtl;
+
+    private static final String ISSUER = "mockify-api";
+    private static final String AUDIENCE = "mockify-web";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // token digest -> verified access token claims
+    private Cache<String, JwtClaims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_VERIFIED_TOKENS)
+                .expireAfterWrite(verifyCacheTtl)
+                .build();
     }
 
     // Generate JWT access token for a user
     public String generateAccessToken(UUID userId, UserRole role) {
-        return generateToken(userId, role, accessTokenExpiration, "access");
+        return generateToken(userId, role, accessTokenExpiration, TYPE_ACCESS);
     }
 
     // Generate JWT refresh token for a user
     public String generateRefreshToken(UUID userId, UserRole role) {
-        return generateToken(userId, role, refreshTokenExpiration, "refresh");
+        return generateToken(userId, role, refreshTokenExpiration, TYPE_REFRESH);
     }
 
     // Token generation core logic
@@ -51,27 +91,94 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
-                .issuer("mockify-api")
-                .audience().add("mockify-web").and()
+                .issuer(ISSUER)
+                .audience().add(AUDIENCE).and()
                 .issuedAt(now)
                 .expiration(expirationTime)
                 .notBefore(now)
                 .id(UUID.randomUUID().toString())
                 .claim("type", tokenType)
                 .claim("role", role.name())
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     // Parses and returns all claims from a token.
     public Claims getAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * Verifies an access token in one parse and returns its claims.
+     * Recently verified tokens are served from a short-lived cache.
+     *
+     * @throws JwtTokenExpiredException if the token has expired
+     * @throws JwtTokenInvalidException if the token is malformed, tampered with or not an access token
+     */
+    public JwtClaims verifyAccessToken(String token) {
+        String digest = digest(token);
+
+        JwtClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        JwtClaims claims = verify(token, TYPE_ACCESS);
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    /**
+     * Verifies a refresh token in one parse and returns its claims. Never cached.
+     *
+     * @throws JwtTokenExpiredException if the token has expired
+     * @throws JwtTokenInvalidException if the token is malformed, tampered with or not a refresh token
+     */
+    public JwtClaims verifyRefreshToken(String token) {
+        return verify(token, TYPE_REFRESH);
+    }
+
+    // Single parse: signature, expiration and notBefore (JJWT), then issuer, audience and type
+    private JwtClaims verify(String token, String expectedType) {
+        Claims claims;
+        try {
+            claims = getAllClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new JwtTokenExpiredException("JWT token is expired");
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new JwtTokenInvalidException("Invalid JWT: " + e.getMessage());
+        }
+
+        String type = claims.get("type", String.class);
+        if (!expectedType.equals(type)) {
+            throw new JwtTokenInvalidException(
+                    "Invalid token type: expected " + expectedType + ", got " + type);
+        }
+        if (!ISSUER.equals(claims.getIssuer())) {
+            throw new JwtTokenInvalidException("Invalid token issuer");
+        }
+        if (claims.getAudience() == null || !claims.getAudience().contains(AUDIENCE)) {
+            throw new JwtTokenInvalidException("Invalid token audience");
+        }
+
+        try {
+            return new JwtClaims(
+                    UUID.fromString(claims.getSubject()),
+                    UserRole.valueOf(claims.get("role", String.class)),
+                    claims.getId(),
+                    type,
+                    claims.getExpiration().toInstant()
+            );
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new JwtTokenInvalidException("Invalid JWT claims");
+        }
+    }
+
     // Extract user ID from token
     public UUID getUserIdFromToken(String token) {
         try {
@@ -84,37 +191,22 @@ public class JwtTokenProvider {
     }
 
     public boolean validateRefreshToken(String token) {
-        return validateToken(token, "refresh");
+        return validateToken(token, TYPE_REFRESH);
     }
 
     public boolean validateAccessToken(String token) {
-        return validateToken(token, "access");
+        return validateToken(token, TYPE_ACCESS);
     }
 
     // Core Validation method
     // JJWT parser automatically validates: signature, expiration, notBefore
     public boolean validateToken(String token, String expectedType) {
         try {
-            Claims claims = getAllClaims(token);
-
-            // Check token type
-            String type = claims.get("type", String.class);
-            if (!expectedType.equals(type)) {
-                log.warn("Invalid token type: expected {}, got {}", expectedType, type);
-                return false;
-            }
-
-            // Check issuer
-            if (!"mockify-api".equals(claims.getIssuer())) return false;
-
-            // Check audience
-            if (claims.getAudience() == null || !claims.getAudience().contains("mockify-web")) return false;
-
+            verify(token, expectedType);
             return true;
-
-        } catch (ExpiredJwtException e) {
+        } catch (JwtTokenExpiredException e) {
             log.debug("JWT token is expired: {}", e.getMessage());
-        } catch (JwtException | IllegalArgumentException e) {
+        } catch (JwtTokenInvalidException e) {
             log.error("Invalid JWT: {}", e.getMessage());
         }
         return false;
@@ -166,4 +258,13 @@ public class JwtTokenProvider {
         return UserRole.valueOf(role);
     }
 
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
 }
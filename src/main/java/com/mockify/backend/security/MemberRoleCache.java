@@ -0,0 +1,88 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches the role of a user in an organization for JWT permission checks.
+ *
+ * <p>Non-membership is cached too (as an empty {@link Optional}), so repeated
+ * denied checks do not hit the database either.</p>
+ *
+ * <p>{@code OrganizationMemberServiceImpl} evicts a membership whenever it is
+ * created, changed or removed, and {@code OrganizationServiceImpl} evicts a
+ * whole organization on delete. Evictions run after commit on all nodes
+ * through {@link CacheInvalidationBus}. The short TTL bounds how long a
+ * revoked role can still be honoured if a broadcast is lost.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberRoleCache {
+
+    static final String CACHE_NAME = "member-role";
+
+    private static final int MAX_ENTRIES = 50_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    // Payload for evicting every membership of an organization
+    private static final String ALL_USERS = "*";
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private Cache<Membership, Optional<MemberRole>> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .build();
+
+        invalidationBus.subscribe(CACHE_NAME, this::evictLocal);
+    }
+
+    /**
+     * Returns the cached role of {@code userId} in {@code orgId}, loading it
+     * with {@code loader} on a miss. An empty result means "not a member".
+     */
+    public Optional<MemberRole> get(UUID orgId, UUID userId, Supplier<Optional<MemberRole>> loader) {
+        return cache.get(new Membership(orgId, userId), k -> loader.get());
+    }
+
+    public void evict(UUID orgId, UUID userId) {
+        invalidationBus.publish(CACHE_NAME, orgId + ":" + userId);
+    }
+
+    public void evictOrganization(UUID orgId) {
+        invalidationBus.publish(CACHE_NAME, orgId + ":" + ALL_USERS);
+    }
+
+    // Payload format: <orgId>:<userId> or <orgId>:*
+    private void evictLocal(String payload) {
+        int sep = payload.indexOf(':');
+        UUID orgId = UUID.fromString(payload.substring(0, sep));
+        String user = payload.substring(sep + 1);
+
+        if (ALL_USERS.equals(user)) {
+            cache.asMap().keySet().removeIf(k -> orgId.equals(k.orgId()));
+        } else {
+            cache.invalidate(new Membership(orgId, UUID.fromString(user)));
+        }
+
+        log.debug("Member role evicted: org={}, user={}", orgId, user);
+    }
+
+    private record Membership(UUID orgId, UUID userId) {}
+}
@@ -1,13 +1,12 @@
 package com.mockify.backend.security;
 
 import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
 import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
-import com.mockify.backend.model.MockRecord;
-import com.mockify.backend.model.MockSchema;
-import com.mockify.backend.model.Organization;
-import com.mockify.backend.model.Project;
 import com.mockify.backend.repository.*;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.PermissionEvaluator;
@@ -16,8 +15,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Central authorization engine for all resource-level access decisions.
@@ -89,6 +91,14 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     private final MockSchemaRepository mockSchemaRepository;
     private final MockRecordRepository mockRecordRepository;
     private final OrganizationMemberRepository memberRepository;
+    private final ResourceScopeCache resourceScopeCache;
+    private final MemberRoleCache memberRoleCache;
+    private final RequestResourceRegistry requestResourceRegistry;
+    private final HotPathMetrics metrics;
+
+    // SpEL literals are a small fixed set, so each distinct string is parsed once
+    private final Map<String, PermissionSpec> permissionSpecs = new ConcurrentHashMap<>();
+    private final Map<String, ApiResourceType> targetTypes = new ConcurrentHashMap<>();
 
     // -------------------------------------------------------------------------
     // PermissionEvaluator contract
@@ -119,13 +129,29 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
             return false;
         }
 
-        String permStr = permission.toString().toUpperCase();
+        PermissionSpec spec = resolvePermission(permission.toString());
+        if (spec == null) {
+            log.warn("Unknown permission string: {}", permission);
+            return false;
+        }
+
+        ApiResourceType type = resolveTargetType(targetType);
+        if (type == null) {
+            log.warn("Unknown resource type: {}", targetType);
+            return false;
+        }
 
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
         try {
-            return evaluate(authentication, resourceId, targetType.toUpperCase(), permStr);
+            boolean granted = evaluate(authentication, resourceId, type, spec);
+            outcome = granted ? "granted" : "denied";
+            return granted;
         } catch (Exception e) {
             log.error("Permission evaluation error: type={}, id={}, perm={}", targetType, targetId, permission, e);
             return false;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.PERMISSION_EVALUATION, type.name().toLowerCase(), outcome);
         }
     }
 
@@ -143,63 +169,46 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     // Core evaluation
     // -------------------------------------------------------------------------
 
-    private boolean evaluate(Authentication auth, UUID targetId, String targetType, String permission) {
-
-        // Parse permission — may be simple ("WRITE") or compound ("SCHEMA:WRITE")
-        String resourcePermStr;
-        String resourceTypeOverride; // non-null only for compound permissions
-        if (permission.contains(":")) {
-            String[] parts = permission.split(":", 2);
-            resourceTypeOverride = parts[0]; // child resource type (e.g. "SCHEMA")
-            resourcePermStr = parts[1];      // permission level  (e.g. "WRITE")
-        } else {
-            resourceTypeOverride = null;
-            resourcePermStr = permission;
-        }
-
-        ApiPermission requiredPermission = parsePermission(resourcePermStr);
-        if (requiredPermission == null) {
-            log.warn("Unknown permission string: {}", resourcePermStr);
-            return false;
-        }
+    private boolean evaluate(Authentication auth, UUID targetId, ApiResourceType targetType, PermissionSpec spec) {
 
-        // Load the target entity and resolve org + project context
-        ResourceContext ctx = loadContext(targetId, targetType);
+        // Resolve org + project context (cached, ID-only queries on a miss)
+        AtomicBoolean readFromDatabase = new AtomicBoolean();
+        ResourceScope ctx = loadContext(targetId, targetType, readFromDatabase);
         if (ctx == null) {
             return false; // resource not found — deny
         }
 
         // For compound permissions, the resource type to check is the child type, not the container
-        ApiResourceType resourceType = parseResourceType(
-                resourceTypeOverride != null ? resourceTypeOverride : targetType
-        );
-        if (resourceType == null) {
-            log.warn("Unknown resource type: {}", targetType);
-            return false;
-        }
+        ApiResourceType resourceType = spec.isCompound() ? spec.childType() : targetType;
+
+        boolean granted = auth instanceof ApiKeyAuthenticationToken token
+                ? evaluateApiKey(token, ctx, resourceType, spec.level(), targetId, spec.isCompound())
+                : evaluateJwt(auth, ctx, spec.level(), resourceType);
 
-        if (auth instanceof ApiKeyAuthenticationToken token) {
-            return evaluateApiKey(token, ctx, resourceType, requiredPermission, targetId, resourceTypeOverride != null);
-        } else {
-            return evaluateJwt(auth, ctx, requiredPermission, resourceType);
+        // Let the service body reuse what was resolved here. Only a scope read from
+        // the database proves the resource still exists; a cached one can outlive a
+        // delete on another node until the invalidation arrives.
+        if (granted && readFromDatabase.get()) {
+            requestResourceRegistry.register(targetType, targetId, ctx);
         }
+        return granted;
     }
 
     // -------------------------------------------------------------------------
     // JWT path — org ownership is sufficient for all operations
     // -------------------------------------------------------------------------
 
-    private boolean evaluateJwt(Authentication auth, ResourceContext ctx,
+    private boolean evaluateJwt(Authentication auth, ResourceScope ctx,
                                 ApiPermission requiredPermission, ApiResourceType resourceType) {
         UUID callerId = resolveJwtUserId(auth);
         if (callerId == null) return false;
 
-        Optional<MemberRole> roleOpt = memberRepository
-                .findRoleByOrganizationIdAndUserId(ctx.organization().getId(), callerId);
+        Optional<MemberRole> roleOpt = memberRoleCache.get(ctx.organizationId(), callerId,
+                () -> memberRepository.findRoleByOrganizationIdAndUserId(ctx.organizationId(), callerId));
 
         if (roleOpt.isEmpty()) {
             log.debug("JWT access denied: user {} is not a member of org {}",
-                    callerId, ctx.organization().getId());
+                    callerId, ctx.organizationId());
             return false;
         }
 
@@ -227,16 +236,16 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
 
     private boolean evaluateApiKey(
             ApiKeyAuthenticationToken token,
-            ResourceContext ctx,
+            ResourceScope ctx,
             ApiResourceType resourceType,
             ApiPermission requiredPermission,
             UUID targetId,
             boolean isCollectionOp
     ) {
         // Guard 1: organization scope
-        if (!token.hasOrganizationAccess(ctx.organization().getId())) {
+        if (!token.hasOrganizationAccess(ctx.organizationId())) {
             log.warn("API key {} denied: org mismatch (key={}, resource={})",
-                    token.getApiKeyId(), token.getOrganizationId(), ctx.organization().getId());
+                    token.getApiKeyId(), token.getOrganizationId(), ctx.organizationId());
             return false;
         }
 
@@ -264,52 +273,71 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     // Resource loading — resolves org + project context from any entity
     // -------------------------------------------------------------------------
 
-    private ResourceContext loadContext(UUID id, String targetType) {
-        return switch (targetType) {
-            case "ORGANIZATION" -> {
-                Organization org = organizationRepository.findByIdWithOwnerAndProjects(id).orElse(null);
-                yield org != null ? new ResourceContext(org, null) : null;
-            }
-            case "PROJECT" -> {
-                Project project = projectRepository.findByIdWithOrgAndOwner(id).orElse(null);
-                yield project != null ? new ResourceContext(project.getOrganization(), project.getId()) : null;
-            }
-            case "SCHEMA" -> {
-                MockSchema schema = mockSchemaRepository.findWithContextById(id).orElse(null);
-                yield schema != null
-                        ? new ResourceContext(schema.getProject().getOrganization(), schema.getProject().getId())
-                        : null;
-            }
-            case "RECORD" -> {
-                MockRecord record = mockRecordRepository.findWithContextById(id).orElse(null);
-                yield record != null
-                        ? new ResourceContext(
-                        record.getMockSchema().getProject().getOrganization(),
-                        record.getMockSchema().getProject().getId())
+    /**
+     * Resolves the owning org and project of a resource. Served from
+     * {@link ResourceScopeCache}; misses run a single ID-only projection query.
+     * Returns null if the resource does not exist. Sets {@code readFromDatabase}
+     * when the scope was not served from the cache.
+     */
+    private ResourceScope loadContext(UUID id, ApiResourceType targetType, AtomicBoolean readFromDatabase) {
+        return resourceScopeCache.get(targetType, id, key -> {
+            readFromDatabase.set(true);
+            return switch (targetType) {
+                case ORGANIZATION -> organizationRepository.existsById(key)
+                        ? new ResourceScope(key, null)
                         : null;
-            }
-            default -> {
-                log.warn("loadContext: unknown targetType '{}'", targetType);
-                yield null;
-            }
-        };
+                case PROJECT -> projectRepository.findScopeById(key).orElse(null);
+                case SCHEMA -> mockSchemaRepository.findScopeById(key).orElse(null);
+                case RECORD -> mockRecordRepository.findScopeById(key).orElse(null);
+            };
+        });
     }
 
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
 
-    private ApiPermission parsePermission(String s) {
-        try {
-            return ApiPermission.valueOf(s);
-        } catch (IllegalArgumentException e) {
-            return null;
+    /**
+     * Parses a permission string once and reuses the result for every later call
+     * with the same literal. Unknown strings are not cached and return null.
+     */
+    private PermissionSpec resolvePermission(String permission) {
+        PermissionSpec cached = permissionSpecs.get(permission);
+        if (cached != null) {
+            return cached;
         }
+
+        // Simple ("WRITE") or compound ("SCHEMA:WRITE")
+        String normalized = permission.toUpperCase();
+        int sep = normalized.indexOf(':');
+        ApiResourceType childType = null;
+        if (sep >= 0) {
+            childType = parseEnum(ApiResourceType.class, normalized.substring(0, sep));
+            if (childType == null) return null;
+        }
+        ApiPermission level = parseEnum(ApiPermission.class, normalized.substring(sep + 1));
+        if (level == null) return null;
+
+        PermissionSpec spec = new PermissionSpec(level, childType);
+        permissionSpecs.put(permission, spec);
+        return spec;
     }
 
-    private ApiResourceType parseResourceType(String s) {
+    private ApiResourceType resolveTargetType(String targetType) {
+        ApiResourceType cached = targetTypes.get(targetType);
+        if (cached != null) {
+            return cached;
+        }
+        ApiResourceType type = parseEnum(ApiResourceType.class, targetType.toUpperCase());
+        if (type != null) {
+            targetTypes.put(targetType, type);
+        }
+        return type;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String s) {
         try {
-            return ApiResourceType.valueOf(s);
+            return Enum.valueOf(type, s);
         } catch (IllegalArgumentException e) {
             return null;
         }
@@ -337,8 +365,12 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     }
 
     /**
-     * Carries the organization and optional project resolved from a target resource.
-     * Used to evaluate both JWT ownership and API key scope checks.
+     * Parsed form of a permission string.
+     * {@code childType} is non-null only for compound permissions ("SCHEMA:WRITE").
      */
-    private record ResourceContext(Organization organization, UUID projectId) {}
+    private record PermissionSpec(ApiPermission level, ApiResourceType childType) {
+        boolean isCompound() {
+            return childType != null;
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,29 @@
 package com.mockify.backend.security;
 
+import com.mockify.backend.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /*
 
@@ -16,6 +34,21 @@ import java.time.Duration;
    When a user logs out, we store the refresh token ID (jti) in Redis.
    Any future attempt to reuse that refresh token will be rejected.
 
+ Local Bloom filter front:
+   Every node keeps Bloom filters of blacklisted jtis so that most lookups
+   (tokens that were never blacklisted) are answered without Redis.
+   - seed:    every jti found in Redis at the last resync (SCAN), rebuilt periodically
+   - buckets: jtis blacklisted since, grouped by expiry time so whole buckets
+              can be dropped once everything in them has expired
+   New entries reach other nodes through pub/sub, which is fire-and-forget: a
+   node can only miss a broadcast while it is not subscribed.
+   A "maybe" from the filters is confirmed with Redis. A "no" is final while
+   the filters are trusted: the listener has stayed subscribed since the last
+   successful resync, and that resync is at most two intervals old. After a
+   disconnect (any re-subscription counts) or a missed resync, a "no" is
+   checked with Redis EXISTS until the next resync, so staleness is bounded
+   by the resync interval. Until the first seed every lookup goes to Redis.
+
 */
 @Component
 @RequiredArgsConstructor
@@ -23,9 +56,80 @@ import java.time.Duration;
 public class RefreshTokenBlacklist {
 
     private static final String BLACKLIST_PREFIX = "blacklist:refresh:";
+    static final String ADDED_CHANNEL = "blacklist:refresh:added";
+
+    private static final int SCAN_BATCH = 1000;
+    private static final int MIN_SEED_CAPACITY = 1024;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.refresh-blacklist.bloom.enabled:true}")
+    private boolean bloomEnabled;
+
+    @Value("${app.refresh-blacklist.bloom.bucket-width:6h}")
+    private Duration bucketWidth;
+
+    @Value("${app.refresh-blacklist.bloom.expected-per-bucket:100000}")
+    private long expectedPerBucket;
+
+    @Value("${app.refresh-blacklist.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.refresh-blacklist.bloom.resync-ms:300000}")
+    private long resyncMs;
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // expiry bucket (expiresAt / bucketWidth) -> jtis expiring within it
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
 
+    // Snapshot of Redis at the last resync; null until the first successful one
+    private volatile BloomFilter seed;
+
+    // Bumped on every (re)subscription or unsubscription of the broadcast channel
+    private final AtomicLong subscriptionEpoch = new AtomicLong();
+
+    // Epoch the last resync ran under, -1 when it ran unsubscribed
+    private volatile long trustedEpoch = -1;
+    private volatile long lastResyncAt;
+
+    private Counter redisSkipped;
+    private Counter negativeChecked;
+    private Counter confirmedHits;
+    private Counter falsePositives;
+
+    @PostConstruct
+    void init() {
+        redisSkipped = Counter.builder("mockify.refresh_blacklist.lookups")
+                .tag("result", "bloom_negative")
+                .description("Lookups answered by the local Bloom filter without Redis")
+                .register(meterRegistry);
+        negativeChecked = Counter.builder("mockify.refresh_blacklist.lookups")
+                .tag("result", "bloom_negative_checked")
+                .description("Bloom filter misses checked with Redis while the filter is not trusted")
+                .register(meterRegistry);
+        confirmedHits = Counter.builder("mockify.refresh_blacklist.lookups")
+                .tag("result", "confirmed")
+                .description("Bloom filter hits confirmed as blacklisted by Redis")
+                .register(meterRegistry);
+        falsePositives = Counter.builder("mockify.refresh_blacklist.lookups")
+                .tag("result", "false_positive")
+                .description("Bloom filter hits that Redis did not confirm")
+                .register(meterRegistry);
+
+        Gauge.builder("mockify.refresh_blacklist.bloom.memory", this, RefreshTokenBlacklist::bloomMemoryBytes)
+                .baseUnit("bytes")
+                .description("Memory held by the local blacklist Bloom filters")
+                .register(meterRegistry);
+        Gauge.builder("mockify.refresh_blacklist.bloom.false_positive_rate", this,
+                        RefreshTokenBlacklist::bloomFalsePositiveRate)
+                .description("Estimated false-positive rate across the local Bloom filters")
+                .register(meterRegistry);
+
+        if (bloomEnabled) {
+            listenerContainer.addMessageListener(new BroadcastListener(), new ChannelTopic(ADDED_CHANNEL));
+        }
+    }
 
     // Blacklists a refresh token by its JWT ID (jti)
     public void blacklist(String jti, Duration ttl) {
@@ -34,23 +138,166 @@ public class RefreshTokenBlacklist {
             return;
         }
 
-        String key = buildKey(jti);
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
 
-        redisTemplate.opsForValue().set(key, true, ttl);
+        // Local filter first: it must never answer "no" for a blacklisted jti
+        if (bloomEnabled) {
+            addLocal(jti, expiresAt);
+        }
+
+        stringRedisTemplate.opsForValue().set(buildKey(jti), "1", ttl);
+
+        if (bloomEnabled) {
+            try {
+                stringRedisTemplate.convertAndSend(ADDED_CHANNEL, jti + "|" + expiresAt);
+            } catch (Exception e) {
+                // Other nodes pick it up at their next resync
+                log.warn("Failed to broadcast blacklisted jti={}", jti, e);
+            }
+        }
 
         log.debug("Refresh token blacklisted. jti={}, ttl={}s", jti, ttl.getSeconds());
     }
 
-    // Checks whether a refresh token has been blacklisted.
+    // Checks whether a refresh token has been blacklisted
     public boolean isBlacklisted(String jti) {
         if (jti == null) {
             return false;
         }
 
-        String key = buildKey(jti);
-        Boolean exists = redisTemplate.hasKey(key);
+        boolean filtered = bloomEnabled && seed != null;
+        if (filtered && !mightBeBlacklisted(jti)) {
+            if (trusted()) {
+                redisSkipped.increment();
+                return false;
+            }
+
+            // The local filters may lack a jti whose broadcast this node missed
+            negativeChecked.increment();
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildKey(jti)));
+        }
+
+        boolean exists = Boolean.TRUE.equals(stringRedisTemplate.hasKey(buildKey(jti)));
+
+        if (filtered) {
+            (exists ? confirmedHits : falsePositives).increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Rebuilds the seed filter from every blacklist key currently in Redis and
+     * drops buckets whose entries have all expired. Called on startup and
+     * periodically; also repairs any pub/sub messages this node missed.
+     */
+    public void resync() {
+        if (!bloomEnabled) {
+            return;
+        }
+
+        // Broadcasts are only reliable from here on if we are subscribed now
+        long epoch = listenerContainer.isListening() ? subscriptionEpoch.get() : -1;
 
-        return Boolean.TRUE.equals(exists);
+        List<String> jtis = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(SCAN_BATCH)
+                .build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> jtis.add(key.substring(BLACKLIST_PREFIX.length())));
+        }
+
+        BloomFilter fresh = new BloomFilter(Math.max(jtis.size() * 2L, MIN_SEED_CAPACITY), falsePositiveRate);
+        jtis.forEach(fresh::put);
+        seed = fresh;
+        lastResyncAt = System.currentTimeMillis();
+        trustedEpoch = epoch;
+
+        pruneExpiredBuckets();
+        log.debug("Refresh blacklist filter reseeded with {} jti(s), {} live bucket(s)", jtis.size(), buckets.size());
+    }
+
+    // Subscribed throughout since a resync that is at most two intervals old
+    private boolean trusted() {
+        return trustedEpoch != -1
+                && trustedEpoch == subscriptionEpoch.get()
+                && listenerContainer.isListening()
+                && System.currentTimeMillis() - lastResyncAt <= 2 * resyncMs;
+    }
+
+    private boolean mightBeBlacklisted(String jti) {
+        if (seed.mightContain(jti)) {
+            return true;
+        }
+        for (BloomFilter bucket : buckets.tailMap(currentBucket()).values()) {
+            if (bucket.mightContain(jti)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addLocal(String jti, long expiresAt) {
+        buckets.computeIfAbsent(expiresAt / bucketWidth.toMillis(),
+                        b -> new BloomFilter(expectedPerBucket, falsePositiveRate))
+                .put(jti);
+    }
+
+    // Payload format: <jti>|<expiresAtEpochMillis>
+    private void onRemoteAdd(String payload) {
+        int sep = payload.lastIndexOf('|');
+        try {
+            addLocal(payload.substring(0, sep), Long.parseLong(payload.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed blacklist broadcast: {}", payload);
+        }
+    }
+
+    // Any subscription change may have dropped broadcasts, so it ends the trusted period
+    private final class BroadcastListener implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            onRemoteAdd(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            subscriptionEpoch.incrementAndGet();
+        }
+
+        @Override
+        public void onChannelUnsubscribed(byte[] channel, long count) {
+            subscriptionEpoch.incrementAndGet();
+        }
+    }
+
+    // A bucket holds expiries in [b * width, (b + 1) * width); earlier buckets are fully expired
+    private void pruneExpiredBuckets() {
+        buckets.headMap(currentBucket()).clear();
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / bucketWidth.toMillis();
+    }
+
+    private double bloomMemoryBytes() {
+        BloomFilter currentSeed = seed;
+        long bytes = currentSeed != null ? currentSeed.sizeInBytes() : 0;
+        for (BloomFilter bucket : buckets.values()) {
+            bytes += bucket.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    // Probability that at least one live filter answers "maybe" for an unknown jti
+    private double bloomFalsePositiveRate() {
+        BloomFilter currentSeed = seed;
+        double allNegative = currentSeed != null ? 1 - currentSeed.estimatedFalsePositiveRate() : 1;
+        for (BloomFilter bucket : buckets.tailMap(currentBucket()).values()) {
+            allNegative *= 1 - bucket.estimatedFalsePositiveRate();
+        }
+        return 1 - allNegative;
     }
 
     /*
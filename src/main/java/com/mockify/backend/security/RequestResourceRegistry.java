@@ -0,0 +1,74 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Request-scoped record of the resources {@link MockifyPermissionEvaluator}
+ * resolved and granted access to.
+ *
+ * <p>Method security runs before the service transaction opens, so anything the
+ * evaluator looked up is invisible to the service's persistence context.
+ * Services that only need to know the target exists (e.g. to return 404) can
+ * ask this registry instead of loading the entity again.</p>
+ *
+ * <p>Entries live in the current request's attributes and disappear with it.
+ * Outside a web request (schedulers, async tasks) nothing is recorded and
+ * {@link #isVerified} always returns false, so callers fall back to the database.</p>
+ */
+@Component
+public class RequestResourceRegistry {
+
+    private static final String ATTRIBUTE = RequestResourceRegistry.class.getName();
+
+    /**
+     * Records that the current caller was granted access to a resource whose
+     * existence was confirmed by the database during this request.
+     */
+    public void register(ApiResourceType type, UUID id, ResourceScope scope) {
+        Map<Key, ResourceScope> scopes = scopes(true);
+        if (scopes != null) {
+            scopes.put(new Key(type, id), scope);
+        }
+    }
+
+    /**
+     * Returns the scope registered for this request, or null.
+     */
+    public ResourceScope get(ApiResourceType type, UUID id) {
+        Map<Key, ResourceScope> scopes = scopes(false);
+        return scopes == null ? null : scopes.get(new Key(type, id));
+    }
+
+    /**
+     * True if the permission evaluator already resolved this resource in the current request.
+     */
+    public boolean isVerified(ApiResourceType type, UUID id) {
+        return get(type, id) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, ResourceScope> scopes(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<Key, ResourceScope> scopes = (Map<Key, ResourceScope>)
+                attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (scopes == null && create) {
+            scopes = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, scopes, RequestAttributes.SCOPE_REQUEST);
+        }
+        return scopes;
+    }
+
+    private record Key(ApiResourceType type, UUID id) {}
+}
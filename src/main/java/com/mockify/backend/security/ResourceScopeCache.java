@@ -0,0 +1,104 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches the owning organization and project of each resource, per resource type.
+ *
+ * <p>{@link MockifyPermissionEvaluator} only needs {@code (orgId, projectId)} to
+ * decide access. That mapping never changes while a resource exists, so it can
+ * be cached for a long time. Only positive results are cached; a missing
+ * resource is looked up again every time.</p>
+ *
+ * <p>Services call the {@code evict*} methods when a resource is deleted,
+ * including the organizations removed with a deleted user. Records purged by
+ * the expiry cleanup are left to the TTL: their IDs are never reused, and a
+ * stale scope only lets the permission check pass before the lookup 404s.
+ * Evicting an organization or project also drops every cached child that
+ * belongs to it. Evictions run after commit on all nodes through
+ * {@link CacheInvalidationBus}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceScopeCache {
+
+    static final String CACHE_NAME = "resource-scope";
+
+    private static final int MAX_ENTRIES_PER_TYPE = 50_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Map<ApiResourceType, Cache<UUID, ResourceScope>> caches =
+            new EnumMap<>(ApiResourceType.class);
+
+    @PostConstruct
+    void init() {
+        for (ApiResourceType type : ApiResourceType.values()) {
+            caches.put(type, Caffeine.newBuilder()
+                    .maximumSize(MAX_ENTRIES_PER_TYPE)
+                    .expireAfterWrite(TTL)
+                    .build());
+        }
+        invalidationBus.subscribe(CACHE_NAME, this::evictLocal);
+    }
+
+    /**
+     * Returns the cached scope of {@code id}, loading it with {@code loader} on a miss.
+     * Returns null (and caches nothing) when the loader finds no resource.
+     */
+    public ResourceScope get(ApiResourceType type, UUID id, Function<UUID, ResourceScope> loader) {
+        return caches.get(type).get(id, loader);
+    }
+
+    public void evictOrganization(UUID organizationId) {
+        invalidationBus.publish(CACHE_NAME, ApiResourceType.ORGANIZATION + ":" + organizationId);
+    }
+
+    public void evictProject(UUID projectId) {
+        invalidationBus.publish(CACHE_NAME, ApiResourceType.PROJECT + ":" + projectId);
+    }
+
+    public void evictSchema(UUID schemaId) {
+        invalidationBus.publish(CACHE_NAME, ApiResourceType.SCHEMA + ":" + schemaId);
+    }
+
+    public void evictRecord(UUID recordId) {
+        invalidationBus.publish(CACHE_NAME, ApiResourceType.RECORD + ":" + recordId);
+    }
+
+    // Payload format: <TYPE>:<uuid>
+    private void evictLocal(String payload) {
+        int sep = payload.indexOf(':');
+        ApiResourceType type = ApiResourceType.valueOf(payload.substring(0, sep));
+        UUID id = UUID.fromString(payload.substring(sep + 1));
+
+        caches.get(type).invalidate(id);
+
+        // Children of a deleted container are gone too (ON DELETE CASCADE)
+        switch (type) {
+            case ORGANIZATION -> caches.values().forEach(c ->
+                    c.asMap().values().removeIf(scope -> id.equals(scope.organizationId())));
+            case PROJECT -> caches.values().forEach(c ->
+                    c.asMap().values().removeIf(scope -> id.equals(scope.projectId())));
+            default -> { }
+        }
+
+        log.debug("Resource scope evicted: type={}, id={}", type, id);
+    }
+}
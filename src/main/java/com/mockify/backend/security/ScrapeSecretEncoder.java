@@ -0,0 +1,48 @@
+package com.mockify.backend.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * {@link PasswordEncoder} for the Prometheus scrape credential: an unsalted
+ * SHA-256 digest compared in constant time.
+ *
+ * <p>The scrape password is a single high-entropy secret from configuration,
+ * so it needs no work factor, and checking it on the calling thread keeps
+ * scrapes off the {@link BoundedPasswordEncoder} pool that logins can
+ * saturate. Never use it for user passwords.</p>
+ */
+public class ScrapeSecretEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return HexFormat.of().formatHex(digest(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        byte[] expected;
+        try {
+            expected = HexFormat.of().parseHex(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(digest(rawPassword), expected);
+    }
+
+    private static byte[] digest(CharSequence value) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(value.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caches the minimal principal {@link JwtAuthenticationFilter} needs per user:
+ * the user ID and platform role. Misses run a role-only query; the password hash
+ * and the rest of the user row are never loaded.
+ *
+ * <p>Entries expire after {@code jwt.principal-cache-ttl}. Services call
+ * {@link #evict} when a user's role changes or the account is removed, and the
+ * eviction reaches every node through {@link CacheInvalidationBus}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserPrincipalCache {
+
+    static final String CACHE_NAME = "user-principal";
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    @Value("${jwt.principal-cache-ttl:60s}")
+    private Duration ttl;
+
+    private Cache<UUID, UserPrincipal> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(ttl)
+                .build();
+
+        invalidationBus.subscribe(CACHE_NAME, userId -> {
+            cache.invalidate(UUID.fromString(userId));
+            log.debug("User principal evicted: userId={}", userId);
+        });
+    }
+
+    /**
+     * Returns the principal of {@code userId}, or null if the user no longer exists.
+     * Missing users are not cached.
+     */
+    public UserPrincipal get(UUID userId) {
+        return cache.get(userId, id -> userRepository.findRoleById(id)
+                .map(role -> new UserPrincipal(id, role))
+                .orElse(null));
+    }
+
+    /**
+     * Evicts {@code userId} on every node once the current transaction commits.
+     */
+    public void evict(UUID userId) {
+        invalidationBus.publish(CACHE_NAME, userId.toString());
+    }
+
+    /**
+     * Minimal authenticated identity. The username of the derived
+     * {@link UserDetails} is the user ID, as everywhere else in the app.
+     */
+    public record UserPrincipal(UUID userId, UserRole role) {
+
+        public UserDetails toUserDetails() {
+            return new User(
+                    userId.toString(),
+                    "",
+                    List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+            );
+        }
+    }
+}
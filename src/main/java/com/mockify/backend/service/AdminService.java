@@ -2,22 +2,32 @@ package com.mockify.backend.service;
 
 import com.mockify.backend.common.enums.UserRole;
 import com.mockify.backend.dto.response.admin.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.mockify.backend.dto.response.page.CursorPageResponse;
 
-import java.util.List;
 import java.util.UUID;
 
+/**
+ * Admin listings, newest first, paginated with opaque keyset cursors.
+ *
+ * <p>{@code cursor} is the {@code nextCursor} of the previous page ({@code null}
+ * for the first page). With {@code approximateTotal}, unfiltered listings
+ * carry the planner's row estimate for the table.</p>
+ */
 public interface AdminService {
 
-    Page<AdminUserResponse> listUsers(String email, UserRole role, Pageable pageable);
+    CursorPageResponse<AdminUserResponse> listUsers(String email, UserRole role,
+                                                    String cursor, int size, boolean approximateTotal);
 
-    Page<AdminOrganizationResponse> listOrganizations(UUID userId, Pageable pageable);
+    CursorPageResponse<AdminOrganizationResponse> listOrganizations(UUID userId,
+                                                                    String cursor, int size, boolean approximateTotal);
 
-    Page<AdminProjectResponse> listProjects(UUID orgId, Pageable pageable);
+    CursorPageResponse<AdminProjectResponse> listProjects(UUID orgId,
+                                                          String cursor, int size, boolean approximateTotal);
 
-    Page<AdminMockSchemaResponse> listSchemas(UUID projectId, Pageable pageable);
+    CursorPageResponse<AdminMockSchemaResponse> listSchemas(UUID projectId,
+                                                            String cursor, int size, boolean approximateTotal);
 
-    Page<AdminMockRecordResponse> listRecords(UUID schemaId, Pageable pageable);
+    CursorPageResponse<AdminMockRecordResponse> listRecords(UUID schemaId,
+                                                            String cursor, int size, boolean approximateTotal);
 
 }
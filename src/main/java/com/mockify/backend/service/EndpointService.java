@@ -1,15 +1,30 @@
 package com.mockify.backend.service;
 
 import com.mockify.backend.model.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface EndpointService {
 
+    /**
+     * Invalidation channel for path lookups. The payload is a full path whose
+     * endpoint and every descendant must be treated as changed.
+     */
+    String PATH_CACHE_NAME = "endpoint-path";
+
     // Create endpoints for new resources
     void createEndpoint(Organization organization);
     void createEndpoint(Project project);
     void createEndpoint(MockSchema schema);
 
+    // Create endpoints for a batch of new schemas under the same project
+    void createEndpoints(List<MockSchema> schemas);
+
+    // Schema slugs whose endpoint path under the project is already taken
+    Set<String> findTakenSchemaSlugs(UUID projectId, Collection<String> slugs);
+
     // Update endpoint when resource slug changes
     void updateEndpointSlug(UUID resourceId, String resourceType, String newSlug);
 
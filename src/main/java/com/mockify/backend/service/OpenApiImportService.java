@@ -7,5 +7,5 @@ import java.util.UUID;
 
 public interface OpenApiImportService {
 
-    public OpenApiImportResponse importOpenApi(UUID userId, UUID projectId, MultipartFile file);
+    public OpenApiImportResponse importOpenApi(UUID userId, UUID projectId, MultipartFile file, boolean reimport);
 }
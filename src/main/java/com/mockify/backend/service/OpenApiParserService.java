@@ -3,8 +3,19 @@ package com.mockify.backend.service;
 import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.function.Function;
+
 
 public interface OpenApiParserService {
 
-    public ParsedOpenApiSpec parse(MultipartFile file);
+    default ParsedOpenApiSpec parse(MultipartFile file) {
+        return parse(file, Function.identity());
+    }
+
+    /**
+     * Parses {@code file} and hands the result to {@code handler} while the
+     * parser's memory reservation is still held. Anything that keeps the parsed
+     * tree alive (validation, extraction) belongs in the handler.
+     */
+    <T> T parse(MultipartFile file, Function<ParsedOpenApiSpec, T> handler);
 }
@@ -2,13 +2,17 @@ package com.mockify.backend.service;
 
 import com.mockify.backend.config.RateLimitProperties;
 import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.infrastructure.RedisRateLimiter;
 import com.mockify.backend.util.RateLimitPathMatcher;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 public class RateLimitService {
@@ -16,6 +20,7 @@ public class RateLimitService {
     private final RateLimitProperties properties;
     private final RateLimitPathMatcher pathMatcher;
     private final RedisRateLimiter redisRateLimiter;
+    private final HotPathMetrics metrics;
 
     /**
      * Applies global + group rate limit.
@@ -27,7 +32,8 @@ public class RateLimitService {
 
         String globalKey = buildKey(global.getType(), ip, "global");
 
-        RateLimitResult globalResult = redisRateLimiter.check(
+        RateLimitResult globalResult = check(
+                "global",
                 globalKey,
                 global.getLimit(),
                 global.getWindow()
@@ -51,13 +57,26 @@ public class RateLimitService {
 
         String key = buildKey(group.getType(), identifier, groupName);
 
-        return redisRateLimiter.check(
+        return check(
+                groupName,
                 key,
                 group.getLimit(),
                 group.getWindow()
         );
     }
 
+    private RateLimitResult check(String group, String key, int limit, Duration window) {
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            RateLimitResult result = redisRateLimiter.check(key, limit, window);
+            outcome = result.allowed() ? "allowed" : "blocked";
+            return result;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RATE_LIMIT_CHECK, group, outcome);
+        }
+    }
+
     /**
      * Resolve identifier depending on rule type.
      * ip   → client IP
@@ -9,9 +9,18 @@ import java.util.UUID;
 
 public interface SchemaTemplateService {
 
+    /**
+     * Invalidation bus name for the system template catalog.
+     * Publishing any key reloads the catalog on every node.
+     */
+    String SYSTEM_TEMPLATE_CACHE_NAME = "system-template";
+
 
     List<SchemaTemplateResponse> getSystemTemplates();
 
 
     MockSchemaResponse applyTemplateToProject(UUID userId, UUID projectId, String templateSlug);
+
+
+    List<MockSchemaResponse> applyTemplatesToProjects(UUID userId, List<UUID> projectIds, List<String> templateSlugs);
 }
@@ -1,27 +1,36 @@
 package com.mockify.backend.service.impl;
 
 import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.common.pagination.KeysetCursor;
 import com.mockify.backend.common.validation.PageableValidator;
 import com.mockify.backend.dto.response.admin.AdminUserResponse;
 import com.mockify.backend.dto.response.admin.AdminOrganizationResponse;
 import com.mockify.backend.dto.response.admin.AdminProjectResponse;
 import com.mockify.backend.dto.response.admin.AdminMockSchemaResponse;
 import com.mockify.backend.dto.response.admin.AdminMockRecordResponse;
-import com.mockify.backend.mapper.admin.*;
-import com.mockify.backend.model.MockRecord;
-import com.mockify.backend.model.MockSchema;
-import com.mockify.backend.model.Organization;
-import com.mockify.backend.model.Project;
+import com.mockify.backend.dto.response.page.CursorPageResponse;
 import com.mockify.backend.repository.*;
 import com.mockify.backend.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.UUID;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Admin listings.
+ *
+ * Every listing is:
+ * - A DTO projection query (no entities, no lazy collections, no JSONB)
+ * - Keyset paginated on (createdAt, id), newest first,
+ *   served by the matching index from V15
+ * - Never counted; unfiltered listings can carry the
+ *   pg_class.reltuples estimate instead
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,134 +42,153 @@ public class AdminServiceImpl implements AdminService {
     private final ProjectRepository projectRepository;
     private final MockSchemaRepository mockSchemaRepository;
     private final MockRecordRepository mockRecordRepository;
-
-    private final AdminUserMapper userMapper;
-    private final AdminOrganizationMapper organizationMapper;
-    private final AdminProjectMapper projectMapper;
-    private final AdminMockSchemaMapper schemaMapper;
-    private final AdminMockRecordMapper recordMapper;
+    private final TableStatsRepository tableStatsRepository;
 
     @Override
-    public Page<AdminUserResponse> listUsers(String email, UserRole role, Pageable pageable) {
+    public CursorPageResponse<AdminUserResponse> listUsers(
+            String email, UserRole role, String cursor, int size, boolean approximateTotal) {
 
         // Validate page size, protect from abuse
-        PageableValidator.validate(pageable);
+        PageableValidator.validateSize(size);
 
-        // List all users info
-        if (email != null && role != null) {
-            return userRepository
-                    .findByEmailContainingIgnoreCaseAndRole(email, role, pageable)
-                    .map(userMapper::toResponse);
-        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<AdminUserResponse> rows;
 
-        // Specific user via email
-        if (email != null) {
-            return userRepository
-                    .findByEmailContainingIgnoreCase(email, pageable)
-                    .map(userMapper::toResponse);
-        }
-
-        // List user with role
-        if (role != null) {
-            return userRepository
-                    .findByRole(role, pageable)
-                    .map(userMapper::toResponse);
+        if (email != null && role != null) {
+            rows = userRepository.findAdminPageByEmailAndRole(
+                    containsPattern(email), role, after.createdAt(), after.id(), limit);
+        } else if (email != null) {
+            rows = userRepository.findAdminPageByEmail(
+                    containsPattern(email), after.createdAt(), after.id(), limit);
+        } else if (role != null) {
+            rows = userRepository.findAdminPageByRole(role, after.createdAt(), after.id(), limit);
+        } else {
+            rows = userRepository.findAdminPage(after.createdAt(), after.id(), limit);
         }
 
-        log.debug("Admin fetching users details page={}, size={}",
-                pageable.getPageNumber(),
-                pageable.getPageSize());
+        log.debug("Admin fetching users details size={}, cursor={}", size, cursor);
 
-        return userRepository.findAll(pageable)
-                .map(userMapper::toResponse);
+        return page(rows, size, user -> new KeysetCursor(user.createdAt(), user.id()),
+                approximateTotal && email == null && role == null ? "users" : null);
     }
 
     @Override
-    public Page<AdminOrganizationResponse> listOrganizations(UUID userId, Pageable pageable) {
+    public CursorPageResponse<AdminOrganizationResponse> listOrganizations(
+            UUID userId, String cursor, int size, boolean approximateTotal) {
 
         // Validate page size, protect from abuse
-        PageableValidator.validate(pageable);
+        PageableValidator.validateSize(size);
 
-        Page<Organization> page;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
 
         // Admin can see all Org or specific Org
-        if (userId != null) {
-            page = organizationRepository.findByOwnerId(userId, pageable);
-        } else {
-            page = organizationRepository.findAll(pageable);
-        }
+        List<AdminOrganizationResponse> rows = userId != null
+                ? organizationRepository.findAdminPageByOwnerId(userId, after.createdAt(), after.id(), limit)
+                : organizationRepository.findAdminPage(after.createdAt(), after.id(), limit);
 
-        log.debug("Admin fetching Organization details page={}, size={}",
-                pageable.getPageNumber(),
-                pageable.getPageSize());
+        log.debug("Admin fetching Organization details size={}, cursor={}", size, cursor);
 
-        return page.map(organizationMapper::toResponse);
+        return page(rows, size, org -> new KeysetCursor(org.createdAt(), org.id()),
+                approximateTotal && userId == null ? "organizations" : null);
     }
 
     @Override
-    public Page<AdminProjectResponse> listProjects(UUID orgId, Pageable pageable) {
+    public CursorPageResponse<AdminProjectResponse> listProjects(
+            UUID orgId, String cursor, int size, boolean approximateTotal) {
 
         // Validate page size, protect from abuse
-        PageableValidator.validate(pageable);
+        PageableValidator.validateSize(size);
 
-        Page<Project> page;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
 
         // Admin can see all Projects or specific project under a Org
-        if (orgId != null) {
-            page = projectRepository.findByOrganizationId(orgId, pageable);
-        } else {
-            page = projectRepository.findAll(pageable);
-        }
+        List<AdminProjectResponse> rows = orgId != null
+                ? projectRepository.findAdminPageByOrganizationId(orgId, after.createdAt(), after.id(), limit)
+                : projectRepository.findAdminPage(after.createdAt(), after.id(), limit);
 
-        log.debug("Admin fetching Project details page={}, size={}",
-                pageable.getPageNumber(),
-                pageable.getPageSize());
+        log.debug("Admin fetching Project details size={}, cursor={}", size, cursor);
 
-        return page.map(projectMapper::toResponse);
+        return page(rows, size, project -> new KeysetCursor(project.createdAt(), project.id()),
+                approximateTotal && orgId == null ? "projects" : null);
     }
 
     @Override
-    public Page<AdminMockSchemaResponse> listSchemas(UUID projectId, Pageable pageable) {
+    public CursorPageResponse<AdminMockSchemaResponse> listSchemas(
+            UUID projectId, String cursor, int size, boolean approximateTotal) {
 
         // Validate page size, protect from abuse
-        PageableValidator.validate(pageable);
+        PageableValidator.validateSize(size);
 
-        Page<MockSchema> page;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
 
         // Admin can see all schema or specific schema under a project
-        if (projectId != null) {
-            page = mockSchemaRepository.findByProjectId(projectId, pageable);
-        } else {
-            page = mockSchemaRepository.findAll(pageable);
-        }
+        List<AdminMockSchemaResponse> rows = projectId != null
+                ? mockSchemaRepository.findAdminPageByProjectId(projectId, after.createdAt(), after.id(), limit)
+                : mockSchemaRepository.findAdminPage(after.createdAt(), after.id(), limit);
 
-        log.debug("Admin fetching schema details page={}, size={}",
-                pageable.getPageNumber(),
-                pageable.getPageSize());
+        log.debug("Admin fetching schema details size={}, cursor={}", size, cursor);
 
-        return page.map(schemaMapper::toResponse);
+        return page(rows, size, schema -> new KeysetCursor(schema.createdAt(), schema.id()),
+                approximateTotal && projectId == null ? "mock_schemas" : null);
     }
 
     @Override
-    public Page<AdminMockRecordResponse> listRecords(UUID schemaId, Pageable pageable) {
+    public CursorPageResponse<AdminMockRecordResponse> listRecords(
+            UUID schemaId, String cursor, int size, boolean approximateTotal) {
 
         // Validate page size, protect from abuse
-        PageableValidator.validate(pageable);
+        PageableValidator.validateSize(size);
 
-        Page<MockRecord> page;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
 
         // Admin can see all records or specific records under a schema
-        if (schemaId != null) {
-            page = mockRecordRepository.findByMockSchema_Id(schemaId, pageable);
-        } else {
-            page = mockRecordRepository.findAll(pageable);
+        List<AdminMockRecordResponse> rows = schemaId != null
+                ? mockRecordRepository.findAdminPageBySchemaId(schemaId, after.createdAt(), after.id(), limit)
+                : mockRecordRepository.findAdminPage(after.createdAt(), after.id(), limit);
+
+        log.debug("Admin fetching record details size={}, cursor={}", size, cursor);
+
+        return page(rows, size, record -> new KeysetCursor(record.createdAt(), record.id()),
+                approximateTotal && schemaId == null ? "mock_records" : null);
+    }
+
+    /**
+     * Builds the response from up to size + 1 rows; the extra row only
+     * signals that another page exists.
+     *
+     * @param estimateTable table to estimate the total for, or null for no total
+     */
+    private <T> CursorPageResponse<T> page(
+            List<T> rows,
+            int size,
+            Function<T, KeysetCursor> position,
+            String estimateTable) {
+
+        boolean hasNext = rows.size() > size;
+        List<T> data = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? position.apply(data.getLast()).encode() : null;
+
+        Long approximateTotal = null;
+        if (estimateTable != null) {
+            var estimate = tableStatsRepository.estimateRowCount(estimateTable);
+            approximateTotal = estimate.isPresent() ? estimate.getAsLong() : null;
         }
 
-        log.debug("Admin fetching record details page={}, size={}",
-                pageable.getPageNumber(),
-                pageable.getPageSize());
+        return new CursorPageResponse<>(data, size, nextCursor, approximateTotal);
+    }
 
-        return page.map(recordMapper::toResponse);
+    // Substring match; LIKE wildcards typed by the admin are matched literally
+    private static String containsPattern(String term) {
+        String escaped = term
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
     // TODO: Leter we add promote/demote users
@@ -9,6 +9,7 @@ import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
 import com.mockify.backend.model.*;
 import com.mockify.backend.repository.*;
+import com.mockify.backend.security.ApiKeyAuthCache;
 import com.mockify.backend.security.ApiKeyCryptoService;
 import com.mockify.backend.service.ApiKeyService;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +44,7 @@ public class ApiKeyServiceImpl implements ApiKeyService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ApiKeyCryptoService cryptoService;
+    private final ApiKeyAuthCache apiKeyAuthCache;
 
     @Value("${app.api-key.secret}")
     private String globalSecret;
@@ -208,6 +210,7 @@ public class ApiKeyServiceImpl implements ApiKeyService {
         if (request.getRateLimitPerMinute() != null) apiKey.setRateLimitPerMinute(request.getRateLimitPerMinute());
 
         apiKey = apiKeyRepository.save(apiKey);
+        apiKeyAuthCache.invalidate(keyId);
         log.info("API key updated: id={}", keyId);
         return toResponse(apiKey);
     }
@@ -221,6 +224,7 @@ public class ApiKeyServiceImpl implements ApiKeyService {
 
         apiKey.setActive(false);
         apiKeyRepository.save(apiKey);
+        apiKeyAuthCache.invalidate(keyId);
         log.warn("API key revoked: id={} by user={}", keyId, userId);
     }
 
@@ -232,6 +236,7 @@ public class ApiKeyServiceImpl implements ApiKeyService {
         requireOwnershipWithOrgValidation(userId, organizationId, apiKey.getOrganization(), "API Key");
 
         apiKeyRepository.delete(apiKey);
+        apiKeyAuthCache.invalidate(keyId);
         log.warn("API key deleted: id={} by user={}", keyId, userId);
     }
 
@@ -245,6 +250,7 @@ public class ApiKeyServiceImpl implements ApiKeyService {
         // Revoke FIRST
         oldKey.setActive(false);
         apiKeyRepository.save(oldKey);
+        apiKeyAuthCache.invalidate(keyId);
 
         // Build the rotation request
         CreateApiKeyRequest request = new CreateApiKeyRequest();
@@ -10,6 +10,8 @@ import com.mockify.backend.dto.response.auth.AuthResponse;
 import com.mockify.backend.dto.response.auth.UserResponse;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.DuplicateResourceException;
+import com.mockify.backend.exception.JwtTokenExpiredException;
+import com.mockify.backend.exception.JwtTokenInvalidException;
 import com.mockify.backend.exception.ResourceNotFoundException;
 import com.mockify.backend.exception.UnauthorizedException;
 import com.mockify.backend.mapper.UserMapper;
@@ -18,6 +20,7 @@ import com.mockify.backend.model.User;
 import com.mockify.backend.repository.PasswordResetTokenRepository;
 import com.mockify.backend.repository.UserRepository;
 import com.mockify.backend.security.CookieUtil;
+import com.mockify.backend.security.JwtClaims;
 import com.mockify.backend.security.JwtTokenProvider;
 import com.mockify.backend.security.RefreshTokenBlacklist;
 import com.mockify.backend.service.AuthService;
@@ -30,10 +33,10 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -52,6 +55,11 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenBlacklist refreshTokenBlacklist;
     private final EmailVerificationService emailVerificationService;
 
+    // Hashing waits for a slot on the bounded hashing pool, so methods that
+    // hash hold no transaction (or pooled connection): they look up with a
+    // short read and write in their own transaction afterwards
+    private final TransactionTemplate transactionTemplate;
+
     @Value("${app.frontend.reset-password-url}")
     private String resetPasswordBaseUrl;
     @Value("${app.verification.email.frontend-url}")
@@ -63,7 +71,6 @@ public class AuthServiceImpl implements AuthService {
 
 
     @Override
-    @Transactional
     public void requestRegistration(RegisterRequest request) {
 
         // Prevent duplicate registrations at the entry point.
@@ -131,7 +138,6 @@ public class AuthServiceImpl implements AuthService {
 
 
     @Override
-    @Transactional
     public AuthResult login(LoginRequest request) {
 
         log.info("Login attempt for email: {}", request.getEmail());
@@ -189,20 +195,24 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Refresh token missing");
         }
 
-        if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
+        // Single parse: signature, expiry, issuer, audience and type
+        JwtClaims claims;
+        try {
+            claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        } catch (JwtTokenExpiredException | JwtTokenInvalidException e) {
             log.warn("Token refresh failed reason=invalid_refresh_token");
             throw new UnauthorizedException("Invalid refresh token");
         }
 
         // Check Redis blacklist
-        String jti = jwtTokenProvider.getJti(refreshToken);
+        String jti = claims.jti();
         if (refreshTokenBlacklist.isBlacklisted(jti)) {
             log.warn("Blocked refresh attempt using blacklisted token jti={}", jti);
             throw new UnauthorizedException("Refresh token has been invalidated");
         }
 
         // User validation
-        UUID userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        UUID userId = claims.userId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UnauthorizedException("User not found"));
 
@@ -213,8 +223,7 @@ public class AuthServiceImpl implements AuthService {
         );
 
         // Blacklist old refresh token after new token generation
-        Date expiration = jwtTokenProvider.getExpiration(refreshToken);
-        Duration ttl = Duration.between(Instant.now(), expiration.toInstant());
+        Duration ttl = Duration.between(Instant.now(), claims.expiresAt());
         if (ttl.isNegative() || ttl.isZero()) {
             throw new UnauthorizedException("Refresh token expired");
         }
@@ -260,23 +269,24 @@ public class AuthServiceImpl implements AuthService {
 
         try {
             // Validate token structure & type
-            if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
+            JwtClaims claims;
+            try {
+                claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+            } catch (JwtTokenExpiredException | JwtTokenInvalidException e) {
                 log.warn("Skipping blacklist: invalid refresh token");
                 return;
             }
 
-            String jti = jwtTokenProvider.getJti(refreshToken);
-
-            Date expiration = jwtTokenProvider.getExpiration(refreshToken);
+            String jti = claims.jti();
 
-            if (jti == null || expiration == null) {
+            if (jti == null) {
                 log.warn("Skipping blacklist: missing jti or expiration");
                 return;
             }
 
             Duration ttl = Duration.between(
                     Instant.now(),
-                    expiration.toInstant()
+                    claims.expiresAt()
             );
 
             // Blacklist refresh token by jti for some TTL
@@ -294,7 +304,6 @@ public class AuthServiceImpl implements AuthService {
 
 
     @Override
-    @Transactional
     public void forgotPassword(String email) {
 
         // If user exists, run logic
@@ -325,13 +334,16 @@ public class AuthServiceImpl implements AuthService {
                     .used(false)
                     .build();
 
-            passwordResetTokenRepository.save(resetToken);
-
             // Create reset link with raw token
             String resetLink = resetPasswordBaseUrl + "?token=" + rawToken;
 
-            // Send mail to register user with reset link
-            mailService.sendPasswordResetMail(user.getEmail(),resetLink);
+            // Token and its mail are committed together
+            transactionTemplate.executeWithoutResult(status -> {
+                passwordResetTokenRepository.save(resetToken);
+
+                // Send mail to register user with reset link
+                mailService.sendPasswordResetMail(user.getEmail(), resetLink);
+            });
 
             log.info("Password reset token created userId={}", user.getId());
         });
@@ -342,7 +354,6 @@ public class AuthServiceImpl implements AuthService {
 
     // TODO: Currently only newPassword is accepted. Add confirmPassword parameter in the future.
     @Override
-    @Transactional
     public void resetPassword(String token, String newPassword) {
 
         // Fetch unused and non expire tokens
@@ -372,13 +383,18 @@ public class AuthServiceImpl implements AuthService {
             throw new BadRequestException("New password must be different from old password");
         }
 
+        String encodedPassword = passwordEncoder.encode(newPassword);
 
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Mark token as used first, prevent token reuse by a parallel reset
+            if (passwordResetTokenRepository.markUsed(validToken.getId()) == 0) {
+                throw new UnauthorizedException("Invalid or expired reset token");
+            }
 
-        // Set new password and mark token as used, prevent token reuse
-        validToken.setUsed(true);
-        passwordResetTokenRepository.save(validToken);
+            User managed = userRepository.findById(user.getId())
+                    .orElseThrow(() -> new UnauthorizedException("Invalid or expired reset token"));
+            managed.setPassword(encodedPassword);
+        });
 
         log.info("Password reset successful userId={}", user.getId());
     }
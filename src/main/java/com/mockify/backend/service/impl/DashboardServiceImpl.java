@@ -2,7 +2,9 @@ package com.mockify.backend.service.impl;
 
 import com.mockify.backend.dto.response.dashboard.*;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
 import com.mockify.backend.repository.*;
+import com.mockify.backend.security.RequestResourceRegistry;
 import com.mockify.backend.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +24,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final ProjectRepository projectRepository;
     private final MockSchemaRepository mockSchemaRepository;
     private final MockRecordRepository mockRecordRepository;
+    private final RequestResourceRegistry requestResourceRegistry;
 
     /**
      * User-scoped aggregate. Returns stats for resources owned by the caller.
@@ -43,9 +46,11 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     @PreAuthorize("hasPermission(#orgId, 'ORGANIZATION', 'READ')")
     public OrganizationStats organizationStats(UUID userId, UUID orgId) {
-        // @PreAuthorize has already verified org access — no need to load+check here.
-        organizationRepository.findById(orgId)
-                .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
+        // @PreAuthorize has already verified org access — only confirm existence.
+        if (!requestResourceRegistry.isVerified(ApiResourceType.ORGANIZATION, orgId)
+                && !organizationRepository.existsById(orgId)) {
+            throw new ResourceNotFoundException("Organization not found");
+        }
         return dashboardRepository.organizationStats(orgId);
     }
 
@@ -55,8 +60,10 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     @PreAuthorize("hasPermission(#projectId, 'PROJECT', 'READ')")
     public ProjectStats projectStats(UUID userId, UUID projectId) {
-        projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        if (!requestResourceRegistry.isVerified(ApiResourceType.PROJECT, projectId)
+                && !projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
 
         LocalDateTime now = LocalDateTime.now();
         return dashboardRepository.projectStats(projectId, now);
@@ -68,8 +75,10 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'READ')")
     public SchemaStats schemaStats(UUID userId, UUID schemaId) {
-        mockSchemaRepository.findById(schemaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
+        if (!requestResourceRegistry.isVerified(ApiResourceType.SCHEMA, schemaId)
+                && !mockSchemaRepository.existsById(schemaId)) {
+            throw new ResourceNotFoundException("Schema not found");
+        }
         LocalDateTime now = LocalDateTime.now();
         return dashboardRepository.schemaStats(schemaId, now, now.plusMinutes(60));
     }
@@ -2,6 +2,7 @@ package com.mockify.backend.service.impl;
 
 import com.mockify.backend.exception.DuplicateResourceException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
 import com.mockify.backend.model.*;
 import com.mockify.backend.repository.EndpointRepository;
 import com.mockify.backend.service.EndpointService;
@@ -10,7 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +19,7 @@ import java.util.UUID;
 public class EndpointServiceImpl implements EndpointService {
 
     private final EndpointRepository endpointRepository;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
     @Transactional
@@ -39,6 +41,7 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidationBus.publish(PATH_CACHE_NAME, fullPath);
 
         log.debug("Created organization endpoint: {}", fullPath);
     }
@@ -66,6 +69,7 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidationBus.publish(PATH_CACHE_NAME, fullPath);
 
         log.debug("Created project endpoint: {}", fullPath);
     }
@@ -93,10 +97,76 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidationBus.publish(PATH_CACHE_NAME, fullPath);
 
         log.debug("Created schema endpoint: {}", fullPath);
     }
 
+    @Override
+    @Transactional
+    public void createEndpoints(List<MockSchema> schemas) {
+        if (schemas.isEmpty()) {
+            return;
+        }
+
+        // All schemas share one parent project endpoint
+        UUID projectId = schemas.getFirst().getProject().getId();
+        Endpoint projectEndpoint = endpointRepository
+                .findByProjectId(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Parent project endpoint not found"
+                ));
+
+        List<Endpoint> endpoints = new ArrayList<>(schemas.size());
+        for (MockSchema schema : schemas) {
+            Endpoint endpoint = new Endpoint();
+            endpoint.setFullPath(Endpoint.buildFullPath(projectEndpoint, schema.getSlug()));
+            endpoint.setSlug(schema.getSlug());
+            endpoint.setResourceType(Endpoint.ResourceType.SCHEMA);
+            endpoint.setParentEndpoint(projectEndpoint);
+            endpoint.setSchema(schema);
+            endpoints.add(endpoint);
+        }
+
+        // One conflict check for the whole batch
+        List<String> existing = endpointRepository.findExistingFullPaths(
+                endpoints.stream().map(Endpoint::getFullPath).toList());
+        if (!existing.isEmpty()) {
+            throw new DuplicateResourceException("Endpoint already exists: " + existing.getFirst());
+        }
+        endpointRepository.saveAll(endpoints);
+
+        // The new paths all live under the project endpoint
+        invalidationBus.publish(PATH_CACHE_NAME, projectEndpoint.getFullPath());
+
+        log.debug("Created {} schema endpoint(s) under {}", endpoints.size(), projectEndpoint.getFullPath());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findTakenSchemaSlugs(UUID projectId, Collection<String> slugs) {
+        if (slugs.isEmpty()) {
+            return Set.of();
+        }
+
+        Endpoint projectEndpoint = endpointRepository
+                .findByProjectId(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Parent project endpoint not found"
+                ));
+
+        Map<String, String> slugByPath = new HashMap<>();
+        for (String slug : slugs) {
+            slugByPath.put(Endpoint.buildFullPath(projectEndpoint, slug), slug);
+        }
+
+        Set<String> taken = new HashSet<>();
+        for (String path : endpointRepository.findExistingFullPaths(slugByPath.keySet())) {
+            taken.add(slugByPath.get(path));
+        }
+        return taken;
+    }
+
     @Override
     @Transactional
     public void updateEndpointSlug(UUID resourceId, String resourceType, String newSlug) {
@@ -120,49 +190,26 @@ public class EndpointServiceImpl implements EndpointService {
         endpoint.setFullPath(newFullPath);
         endpointRepository.save(endpoint);
 
-        // Update all child endpoints recursively
-        updateChildPaths(endpoint, oldFullPath, newFullPath);
-
-        log.debug("Updated endpoint slug from {} to {}", oldFullPath, newFullPath);
-    }
-
-    /**
-     * Recursively update all child endpoint paths when parent changes
-     */
-    private void updateChildPaths(Endpoint parent, String oldParentPath, String newParentPath) {
+        // Rewrite all descendant paths in a single statement
+        int rewritten = endpointRepository.rewriteDescendantPaths(oldFullPath, newFullPath);
 
-        // Load direct children
-        var children = endpointRepository.findByParentEndpoint(parent);
+        // One invalidation per subtree root covers the renamed endpoint and all descendants
+        invalidationBus.publish(PATH_CACHE_NAME, oldFullPath);
+        invalidationBus.publish(PATH_CACHE_NAME, newFullPath);
 
-        for (Endpoint child : children) {
-            String oldChildPath = child.getFullPath();
-
-            // Replace only the parent prefix
-            String newChildPath = oldChildPath.replaceFirst(
-                    "^" + java.util.regex.Pattern.quote(oldParentPath),
-                    newParentPath
-            );
-
-            // Update child path
-            child.setFullPath(newChildPath);
-            endpointRepository.save(child);
-
-            log.debug("Updated child endpoint path: {} → {}", oldChildPath, newChildPath);
-
-            // Recurse into grandchildren
-            updateChildPaths(child, oldChildPath, newChildPath);
-        }
+        log.debug("Updated endpoint slug from {} to {} ({} descendant path(s) rewritten)",
+                oldFullPath, newFullPath, rewritten);
     }
 
     @Override
     @Transactional
     public void deleteEndpoint(UUID resourceId, String resourceType) {
-        Endpoint endpoint = findEndpointByResource(resourceId, resourceType);
-
-        if (endpoint != null) {
+        // Descendant endpoints are removed by ON DELETE CASCADE
+        lookupEndpoint(resourceId, resourceType).ifPresent(endpoint -> {
             endpointRepository.delete(endpoint);
+            invalidationBus.publish(PATH_CACHE_NAME, endpoint.getFullPath());
             log.debug("Deleted endpoint: {}", endpoint.getFullPath());
-        }
+        });
     }
 
     @Override
@@ -224,13 +271,15 @@ public class EndpointServiceImpl implements EndpointService {
      * Helper to find endpoint by resource ID and type
      */
     private Endpoint findEndpointByResource(UUID resourceId, String resourceType) {
+        return lookupEndpoint(resourceId, resourceType)
+                .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
+    }
+
+    private Optional<Endpoint> lookupEndpoint(UUID resourceId, String resourceType) {
         return switch (resourceType.toLowerCase()) {
-            case "organization" -> endpointRepository.findByOrganizationId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
-            case "project" -> endpointRepository.findByProjectId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
-            case "schema" -> endpointRepository.findBySchemaId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
+            case "organization" -> endpointRepository.findByOrganizationId(resourceId);
+            case "project" -> endpointRepository.findByProjectId(resourceId);
+            case "schema" -> endpointRepository.findBySchemaId(resourceId);
             default -> throw new IllegalArgumentException("Invalid resource type: " + resourceType);
         };
     }
@@ -1,20 +1,25 @@
 package com.mockify.backend.service.impl;
 
+import com.mockify.backend.model.MailOutboxMessage;
+import com.mockify.backend.repository.MailOutboxRepository;
 import com.mockify.backend.service.MailService;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Renders mails and writes them to the outbox; {@code MailOutboxDispatcher}
+ * delivers them in the background, so no request waits on SMTP.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Transactional
 public class MailServiceImpl implements MailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository outboxRepository;
 
     @Value("${app.frontend.reset-password-url}")
     private String resetPasswordPageUrl;
@@ -26,63 +31,31 @@ public class MailServiceImpl implements MailService {
 
     @Override
     public void sendPasswordResetMail(String to, String resetLink) {
-
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper =
-                    new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom("Mockify <mockify.noreply@gmail.com>");
-            helper.setTo(to);
-            helper.setSubject("Reset your Mockify password");
-            helper.setText(buildHtmlContent(resetLink), true);
-
-            mailSender.send(message);
-
-            log.info("Password reset email sent to {}", to);
-
-        } catch (Exception ex) {
-            log.error("Failed to send password reset email to {}", to, ex);
-            // DO NOT throw, avoid leaking info
-        }
+        enqueue(to, "Reset your Mockify password", buildHtmlContent(resetLink));
+        log.info("Password reset email queued for {}", to);
     }
+
     @Override
     public void sendEmailVerificationMail(String to, String verifyLink) {
-
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper =
-                    new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom("Mockify <mockify.noreply@gmail.com>");
-            helper.setTo(to);
-            helper.setSubject("Verify your Mockify email");
-            helper.setText(buildVerificationHtml(verifyLink), true);
-
-            mailSender.send(message);
-
-            log.info("Verification email sent to {}", to);
-
-        } catch (Exception ex) {
-            log.error("Failed to send verification email to {}", to, ex);
-        }
+        enqueue(to, "Verify your Mockify email", buildVerificationHtml(verifyLink));
+        log.info("Verification email queued for {}", to);
     }
 
     @Override
     public void sendInvitationEmail(String to, String orgName, String inviterName,
                                     String role, String acceptLink) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom("Mockify <mockify.noreply@gmail.com>");
-            helper.setTo(to);
-            helper.setSubject(inviterName + " invited you to " + orgName + " on Mockify");
-            helper.setText(buildInviteHtml(orgName, inviterName, role, acceptLink), true);
-            mailSender.send(message);
-            log.info("Invitation email sent to {}", to);
-        } catch (Exception ex) {
-            log.error("Failed to send invitation email to {}", to, ex);
-        }
+        enqueue(to, inviterName + " invited you to " + orgName + " on Mockify",
+                buildInviteHtml(orgName, inviterName, role, acceptLink));
+        log.info("Invitation email queued for {}", to);
+    }
+
+    // Joins the caller's transaction: the mail exists only if the change that triggered it commits
+    private void enqueue(String to, String subject, String html) {
+        outboxRepository.save(MailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .htmlBody(html)
+                .build());
     }
 
     private static String escapeHtml(String input) {
@@ -6,14 +6,17 @@ import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.mapper.MockRecordMapper;
 import com.mockify.backend.model.MockRecord;
 import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.repository.MockRecordRepository;
 import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.security.ResourceScopeCache;
 import com.mockify.backend.service.MockAutoGenerateService;
 import com.mockify.backend.service.MockRecordService;
 import com.mockify.backend.service.MockValidatorService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,6 +38,10 @@ public class MockRecordServiceImpl implements MockRecordService {
     private final MockRecordMapper mockRecordMapper;
     private final MockValidatorService mockValidatorService;
     private final MockAutoGenerateService autoGenerateService;
+    private final ResourceScopeCache resourceScopeCache;
+    private final HotPathMetrics metrics;
+
+    private static final String ROUTE_GROUP = "records";
 
     @Override
     @Transactional
@@ -48,7 +55,7 @@ public class MockRecordServiceImpl implements MockRecordService {
                 .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
 
         // VALIDATE DATA
-        mockValidatorService.validateRecordAgainstSchema(schema.getSchemaJson(), request.getData());
+        validateRecord(schema.getSchemaJson(), request.getData());
 
         MockRecordResponse response = persistRecord(schema, request);
         log.info("Record created in schema {} by user {}", schemaId, userId);
@@ -88,17 +95,23 @@ public class MockRecordServiceImpl implements MockRecordService {
         Map<String, Object> schemaJson = schema.getSchemaJson();
 
         // VALIDATE SCHEMA
-        mockValidatorService.validateSchemaDefinition(schemaJson);
+        Timer.Sample schemaSample = metrics.start();
+        String schemaOutcome = "invalid";
+        try {
+            mockValidatorService.validateSchemaDefinition(schemaJson);
+            schemaOutcome = "valid";
+        } finally {
+            metrics.stop(schemaSample, HotPathMetrics.RECORD_VALIDATION, "schemas", schemaOutcome);
+        }
 
         List<CreateMockRecordRequest> requests = new ArrayList<>();
 
         for (int i = 0; i < count; i++) {
 
-            Map<String, Object> record =
-                    autoGenerateService.generateRecord(schemaJson);
+            Map<String, Object> record = generateRecord(schemaJson);
 
             // VALIDATE GENERATED RECORD
-            mockValidatorService.validateRecordAgainstSchema(schemaJson, record);
+            validateRecord(schemaJson, record);
 
             CreateMockRecordRequest req = new CreateMockRecordRequest();
             req.setData(record);
@@ -132,8 +145,15 @@ public class MockRecordServiceImpl implements MockRecordService {
         // Validate Page size, protect from abuse
         PageableValidator.validate(pageable, 50);
 
-        Page<MockRecord> recordsPage =
-                mockRecordRepository.findByMockSchema_Id(schemaId, pageable);
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        Page<MockRecord> recordsPage;
+        try {
+            recordsPage = mockRecordRepository.findByMockSchema_Id(schemaId, pageable);
+            outcome = HotPathMetrics.SUCCESS;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RECORD_PAGE_READ, ROUTE_GROUP, outcome);
+        }
 
         log.info("User {} fetching records page={}, size={} under schema {}",
                 userId,
@@ -158,9 +178,7 @@ public class MockRecordServiceImpl implements MockRecordService {
                 .orElseThrow(() -> new ResourceNotFoundException("Record not found"));
 
         if (request.getData() != null) {
-            mockValidatorService.validateRecordAgainstSchema(
-                    record.getMockSchema().getSchemaJson(),
-                    request.getData());
+            validateRecord(record.getMockSchema().getSchemaJson(), request.getData());
         }
 
         mockRecordMapper.updateEntityFromRequest(request, record);
@@ -181,6 +199,7 @@ public class MockRecordServiceImpl implements MockRecordService {
 
         log.warn("Record {} deleted by user {}", recordId, userId);
         mockRecordRepository.delete(record);
+        resourceScopeCache.evictRecord(recordId);
     }
 
     @Transactional
@@ -218,22 +237,51 @@ public class MockRecordServiceImpl implements MockRecordService {
 
         Map<String, Object> schemaJson = schema.getSchemaJson();
 
-        return requests.stream()
-                .map(req -> {
-
-                    if (req == null || req.getData() == null)
-                        throw new BadRequestException("Record data cannot be null");
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            List<MockRecordResponse> responses = requests.stream()
+                    .map(req -> {
+
+                        if (req == null || req.getData() == null)
+                            throw new BadRequestException("Record data cannot be null");
+
+                        if (validate) {
+                            validateRecord(schemaJson, req.getData());
+                        }
+
+                        return persistRecord(schema, req);
+                    })
+                    .toList();
+            outcome = HotPathMetrics.SUCCESS;
+            return responses;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RECORD_BULK_INSERT, ROUTE_GROUP, outcome);
+            metrics.recordBatchSize(HotPathMetrics.RECORD_BULK_INSERT, ROUTE_GROUP, requests.size());
+        }
+    }
 
-                    if (validate) {
-                        mockValidatorService.validateRecordAgainstSchema(
-                                schemaJson,
-                                req.getData()
-                        );
-                    }
+    private void validateRecord(Map<String, Object> schemaJson, Map<String, Object> data) {
+        Timer.Sample sample = metrics.start();
+        String outcome = "invalid";
+        try {
+            mockValidatorService.validateRecordAgainstSchema(schemaJson, data);
+            outcome = "valid";
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RECORD_VALIDATION, ROUTE_GROUP, outcome);
+        }
+    }
 
-                    return persistRecord(schema, req);
-                })
-                .toList();
+    private Map<String, Object> generateRecord(Map<String, Object> schemaJson) {
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            Map<String, Object> record = autoGenerateService.generateRecord(schemaJson);
+            outcome = HotPathMetrics.SUCCESS;
+            return record;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RECORD_GENERATION, ROUTE_GROUP, outcome);
+        }
     }
 
     /**
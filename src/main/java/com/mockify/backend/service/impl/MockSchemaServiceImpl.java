@@ -13,6 +13,7 @@ import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.model.Project;
 import com.mockify.backend.repository.MockSchemaRepository;
 import com.mockify.backend.repository.ProjectRepository;
+import com.mockify.backend.security.ResourceScopeCache;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.MockSchemaService;
 import com.mockify.backend.service.MockValidatorService;
@@ -23,7 +24,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -40,10 +40,11 @@ public class MockSchemaServiceImpl implements MockSchemaService {
     private final MockValidatorService mockValidatorService;
     private final SlugService slugService;
     private final EndpointService endpointService;
+    private final ResourceScopeCache resourceScopeCache;
 
     // Create a new mock schema under a specific project Only
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     @PreAuthorize("hasPermission(#projectId, 'PROJECT', 'SCHEMA:WRITE')")
     public MockSchemaResponse createSchema(UUID userId, UUID projectId, CreateMockSchemaRequest request) {
         Project project = projectRepository.findById(projectId)
@@ -162,7 +163,9 @@ public class MockSchemaServiceImpl implements MockSchemaService {
         MockSchema schema = mockSchemaRepository.findById(schemaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
         log.warn("Schema {} deleted by user {}", schemaId, userId);
+        endpointService.deleteEndpoint(schemaId, "schema");
         mockSchemaRepository.delete(schema);
+        resourceScopeCache.evictSchema(schemaId);
     }
 
     /*
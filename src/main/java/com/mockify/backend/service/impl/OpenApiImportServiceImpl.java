@@ -1,24 +1,34 @@
 package com.mockify.backend.service.impl;
 
+import com.mockify.backend.dto.internal.ExtractedComponent;
+import com.mockify.backend.dto.internal.ExtractedSpec;
 import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
-import com.mockify.backend.dto.request.schema.CreateMockSchemaRequest;
+import com.mockify.backend.dto.internal.SchemaIdentity;
 import com.mockify.backend.dto.response.imports.OpenApiImportResponse;
 import com.mockify.backend.dto.response.imports.SkippedSchema;
 import com.mockify.backend.dto.response.schema.MockSchemaResponse;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.OpenApiSpecCache;
+import com.mockify.backend.mapper.MockSchemaMapper;
+import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.model.Project;
+import com.mockify.backend.repository.MockSchemaRepository;
 import com.mockify.backend.repository.ProjectRepository;
+import com.mockify.backend.util.CanonicalJson;
 import com.mockify.backend.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * OpenApiImportService
@@ -29,9 +39,11 @@ import java.util.*;
  * 1. Receive uploaded file
  * 2. Parse raw OpenAPI
  * 3. Validate specification
- * 4. Extract schemas
- * 5. Convert schemas into Mockify schemaJson
- * 6. Create actual Mock Schemas inside project
+ * 4. Extract + validate schemas into Mockify schemaJson (parallel)
+ *    (steps 2-4 are cached by file content hash and run without a
+ *    transaction, so no database connection is held while parsing)
+ * 5. Pre-check name / slug conflicts in one query
+ * 6. Insert schemas + endpoints in batches, in one transaction
  * 7. Collect successes + failures
  * 8. Return final summary
  *
@@ -45,11 +57,22 @@ public class OpenApiImportServiceImpl implements OpenApiImportService {
     private final OpenApiParserService parserService;
     private final OpenApiValidatorService validatorService;
     private final SchemaExtractorService extractorService;
+    private final OpenApiSpecCache specCache;
 
-    private final MockSchemaService mockSchemaService;
+    private final MockValidatorService mockValidatorService;
+    private final SlugService slugService;
+    private final EndpointService endpointService;
+
+    private final MockSchemaRepository mockSchemaRepository;
     private final ProjectRepository projectRepository;
+    private final MockSchemaMapper mockSchemaMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Components converted per parallel pass; bounds how much is live at once
+    private static final int EXTRACT_CHUNK_SIZE = 256;
 
-    private static final long MAX_FILE_SIZE = 2 * 1024 * 1024; // 2 MB
+    @Value("${app.openapi-import.max-file-size:50MB}")
+    private DataSize maxFileSize;
 
     /**
      * Import OpenAPI file and auto-generate mock schemas
@@ -60,15 +83,16 @@ public class OpenApiImportServiceImpl implements OpenApiImportService {
      * @param userId authenticated user
      * @param projectId target project
      * @param file uploaded swagger/openapi file
+     * @param reimport update changed schemas that already exist instead of skipping them
      * @return import summary
      */
-    @Transactional
     @PreAuthorize("hasPermission(#projectId, 'PROJECT', 'SCHEMA:WRITE')")
     @Override
     public OpenApiImportResponse importOpenApi(
             UUID userId,
             UUID projectId,
-            MultipartFile file
+            MultipartFile file,
+            boolean reimport
     ) {
 
         log.info(
@@ -86,96 +110,311 @@ public class OpenApiImportServiceImpl implements OpenApiImportService {
         // validate the file
         validateFile(file);
 
-        // Parse uploaded file
-        ParsedOpenApiSpec parsedSpec = parserService.parse(file);
+        /*
+         * Parse + validate + extract, keyed by file content
+         *
+         * Identical uploads (e.g. CI pushing the same spec
+         * to many projects) are served from the spec cache.
+         */
+        ExtractedSpec spec = specCache.getOrCompute(file, () -> extract(file));
 
-        // Validate parsed specification
-        validatorService.validate(parsedSpec);
-
-        // Store the results
-        List<MockSchemaResponse> importedSchemas = new ArrayList<>();
         List<SkippedSchema> skippedSchemas = new ArrayList<>();
+        List<ExtractedComponent> prepared = new ArrayList<>();
 
-        // Iterate through all reusable OpenAPI schemas
-        for (Map.Entry<String, Schema> entry :
-                parsedSpec.getSchemas().entrySet()) {
-
-            String componentName = entry.getKey();
-            Schema<?> openApiSchema = entry.getValue();
-
-            try {
-
-                // Convert OpenAPI schema to Mockify schemaJson
-                Map<String, Object> schemaJson =
-                        extractorService.extractSchema(
-                                componentName,
-                                openApiSchema
-                        );
-
-                /*
-                 * Build internal create request
-                 *
-                 * Original schema name becomes Mock Schema name
-                 */
-                CreateMockSchemaRequest request =
-                        new CreateMockSchemaRequest();
-
-                request.setName(componentName);
-                request.setSchemaJson(schemaJson);
-
-                /*
-                 * Use existing schema creation flow
-                 *
-                 * This automatically:
-                 * - validates schemaJson
-                 * - creates slug
-                 * - saves schema
-                 * - creates endpoint
-                 */
-                MockSchemaResponse created =
-                        mockSchemaService.createSchema(
-                                userId,
-                                project.getId(),
-                                request
-                        );
-
-                importedSchemas.add(created);
-
-                log.info(
-                        "Imported OpenAPI schema '{}' into project {}",
-                        componentName,
-                        projectId
-                );
-
-            } catch (Exception ex) {
+        for (ExtractedComponent component : spec.components()) {
 
-                /*
-                 * Partial failure strategy:
-                 * Skip invalid schema,
-                 * continue importing others
-                 */
-                log.warn("Skipping OpenAPI schema '{}' due to error: {}", componentName, ex.getMessage());
-
-                skippedSchemas.add(
-                        new SkippedSchema(componentName, ex.getMessage())
-                );
+            if (component.isSkipped()) {
+                skippedSchemas.add(new SkippedSchema(component.name(), component.skipReason()));
+            } else {
+                prepared.add(component);
             }
         }
 
+        List<String> updatedSchemas = new ArrayList<>();
+        List<String> unchangedSchemas = new ArrayList<>();
+
+        // Only the database work runs in a transaction
+        List<MockSchemaResponse> importedSchemas = transactionTemplate.execute(status -> {
+
+            // Re-import: existing components are diffed instead of skipped
+            List<ExtractedComponent> toCreate = reimport
+                    ? syncExisting(projectId, prepared, updatedSchemas, unchangedSchemas)
+                    : prepared;
+
+            // Persist everything that survived in one batch
+            return persist(project, toCreate, skippedSchemas);
+        });
+
         // Final summary log
         log.info(
-                "OpenAPI import completed for project {} | imported={} | skipped={}",
-                projectId, importedSchemas.size(), skippedSchemas.size()
+                "OpenAPI import completed for project {} | imported={} | updated={} | unchanged={} | skipped={}",
+                projectId, importedSchemas.size(), updatedSchemas.size(),
+                unchangedSchemas.size(), skippedSchemas.size()
         );
 
         // Return summary response
         return OpenApiImportResponse.of(
                 importedSchemas,
+                updatedSchemas,
+                unchangedSchemas,
                 skippedSchemas
         );
     }
 
 
+    /**
+     * Parses and validates the file, then extracts every component.
+     *
+     * Validation and extraction run inside the parser's handler,
+     * so the parse memory reservation is held until the parsed
+     * tree is no longer needed.
+     *
+     * Extraction is pure CPU work with no shared state,
+     * so components are processed in parallel.
+     * Encounter order is kept for the response.
+     *
+     * Components are drained from the parsed map chunk by chunk,
+     * so each OpenAPI schema can be collected once converted
+     * instead of the whole parsed spec staying live until the end.
+     */
+    private ExtractedSpec extract(MultipartFile file) {
+
+        long start = System.nanoTime();
+
+        return parserService.parse(file, parsedSpec -> extract(parsedSpec, start));
+    }
+
+
+    private ExtractedSpec extract(ParsedOpenApiSpec parsedSpec, long start) {
+
+        // Validate parsed specification
+        validatorService.validate(parsedSpec);
+
+        Map<String, Schema> schemas = parsedSpec.getSchemas();
+
+        List<ExtractedComponent> components = new ArrayList<>(schemas.size());
+        List<Map.Entry<String, Schema>> chunk = new ArrayList<>(EXTRACT_CHUNK_SIZE);
+
+        Iterator<Map.Entry<String, Schema>> iterator = schemas.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+
+            Map.Entry<String, Schema> entry = iterator.next();
+            chunk.add(Map.entry(entry.getKey(), entry.getValue()));
+            iterator.remove();
+
+            if (chunk.size() == EXTRACT_CHUNK_SIZE || !iterator.hasNext()) {
+                components.addAll(
+                        chunk.parallelStream()
+                                .map(this::prepare)
+                                .toList()
+                );
+                chunk.clear();
+            }
+        }
+
+        return new ExtractedSpec(components, System.nanoTime() - start);
+    }
+
+
+    /**
+     * Converts one OpenAPI component into Mockify schemaJson and validates it.
+     *
+     * Partial failure strategy:
+     * A component that cannot be converted is skipped,
+     * the others are still imported.
+     *
+     * @return prepared component, or one carrying the skip reason
+     */
+    private ExtractedComponent prepare(Map.Entry<String, Schema> entry) {
+
+        String componentName = entry.getKey();
+
+        try {
+
+            // Convert OpenAPI schema to Mockify schemaJson
+            Map<String, Object> schemaJson =
+                    extractorService.extractSchema(
+                            componentName,
+                            entry.getValue()
+                    );
+
+            // Same checks the single-schema create flow runs
+            mockValidatorService.validateSchemaDefinition(schemaJson);
+
+            // Throws BadRequestException when the name has no usable characters
+            String slug = slugService.generateSlug(componentName);
+
+            return ExtractedComponent.ready(componentName, slug, schemaJson);
+
+        } catch (Exception ex) {
+
+            log.warn("Skipping OpenAPI schema '{}' due to error: {}", componentName, ex.getMessage());
+
+            return ExtractedComponent.skipped(componentName, ex.getMessage());
+        }
+    }
+
+
+    /**
+     * Re-import diff against schemas already in the project.
+     *
+     * - Existing schemas are matched by name in one query
+     * - schemaJson is compared by canonical structural hash
+     *   (key order and number representation do not count as changes)
+     * - Changed schemas get the new schemaJson; Hibernate flushes
+     *   them as one batched UPDATE at commit
+     * - Unchanged schemas are not written at all
+     *
+     * @return components that do not exist yet and must be created
+     */
+    private List<ExtractedComponent> syncExisting(
+            UUID projectId,
+            List<ExtractedComponent> prepared,
+            List<String> updatedSchemas,
+            List<String> unchangedSchemas
+    ) {
+
+        if (prepared.isEmpty()) {
+            return prepared;
+        }
+
+        Map<String, MockSchema> existingByName = new HashMap<>();
+        for (MockSchema existing :
+                mockSchemaRepository.findByProjectIdAndNameIn(
+                        projectId,
+                        prepared.stream().map(ExtractedComponent::name).toList()
+                )) {
+
+            existingByName.put(existing.getName(), existing);
+        }
+
+        List<ExtractedComponent> created = new ArrayList<>();
+
+        for (ExtractedComponent candidate : prepared) {
+
+            MockSchema existing = existingByName.get(candidate.name());
+
+            if (existing == null) {
+                created.add(candidate);
+            } else if (CanonicalJson.hash(existing.getSchemaJson())
+                    .equals(CanonicalJson.hash(candidate.schemaJson()))) {
+                unchangedSchemas.add(candidate.name());
+            } else {
+                existing.setSchemaJson(candidate.schemaJson());
+                updatedSchemas.add(candidate.name());
+            }
+        }
+
+        return created;
+    }
+
+
+    /**
+     * Saves prepared schemas and their endpoints in the import transaction.
+     *
+     * - Name and slug conflicts with the project are checked in one query
+     * - Name conflicts are reported as skipped
+     * - Slug conflicts (project or batch) get a unique suffix
+     * - Suffixed slugs and every endpoint path are checked against the
+     *   database once more; a hit is reported as skipped instead of failing
+     *   the whole batch at insert time
+     * - Schemas and endpoints are inserted with saveAll (JDBC batches)
+     */
+    private List<MockSchemaResponse> persist(
+            Project project,
+            List<ExtractedComponent> prepared,
+            List<SkippedSchema> skippedSchemas
+    ) {
+
+        if (prepared.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> takenNames = new HashSet<>();
+        Set<String> takenSlugs = new HashSet<>();
+
+        for (SchemaIdentity existing :
+                mockSchemaRepository.findConflicting(
+                        project.getId(),
+                        prepared.stream().map(ExtractedComponent::name).toList(),
+                        prepared.stream().map(ExtractedComponent::slug).toList()
+                )) {
+
+            takenNames.add(existing.name());
+            takenSlugs.add(existing.slug());
+        }
+
+        // Component and its final slug, in encounter order
+        List<Map.Entry<ExtractedComponent, String>> pending = new ArrayList<>();
+        Set<String> suffixedSlugs = new HashSet<>();
+
+        for (ExtractedComponent candidate : prepared) {
+
+            if (takenNames.contains(candidate.name())) {
+                skippedSchemas.add(new SkippedSchema(
+                        candidate.name(),
+                        "Schema with the same name already exists in this project"
+                ));
+                continue;
+            }
+
+            String slug = candidate.slug();
+            if (!takenSlugs.add(slug)) {
+                slug = slugService.generateUniqueSlug(slug);
+                takenSlugs.add(slug);
+                suffixedSlugs.add(slug);
+            }
+
+            pending.add(Map.entry(candidate, slug));
+        }
+
+        // The random suffixes were never checked against the project, and an
+        // endpoint path can be taken without a matching schema row
+        Set<String> unavailable = new HashSet<>(endpointService.findTakenSchemaSlugs(
+                project.getId(), pending.stream().map(Map.Entry::getValue).toList()));
+        if (!suffixedSlugs.isEmpty()) {
+            unavailable.addAll(mockSchemaRepository.findExistingSlugs(project.getId(), suffixedSlugs));
+        }
+
+        List<MockSchema> schemas = new ArrayList<>();
+
+        for (Map.Entry<ExtractedComponent, String> entry : pending) {
+
+            ExtractedComponent candidate = entry.getKey();
+            String slug = entry.getValue();
+
+            if (unavailable.contains(slug)) {
+                skippedSchemas.add(new SkippedSchema(
+                        candidate.name(),
+                        "URL slug '" + slug + "' is already in use in this project"
+                ));
+                continue;
+            }
+
+            MockSchema schema = new MockSchema();
+            schema.setName(candidate.name());
+            schema.setSlug(slug);
+            schema.setSchemaJson(candidate.schemaJson());
+            schema.setProject(project);
+            schemas.add(schema);
+        }
+
+        List<MockSchema> saved = mockSchemaRepository.saveAll(schemas);
+        endpointService.createEndpoints(saved);
+
+        log.info(
+                "Imported {} OpenAPI schema(s) into project {}",
+                saved.size(),
+                project.getId()
+        );
+
+        return saved.stream()
+                .map(mockSchemaMapper::toResponse)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+
     /**
      * Validates uploaded OpenAPI specification file before parsing.
      *
@@ -185,7 +424,7 @@ public class OpenApiImportServiceImpl implements OpenApiImportService {
      *    - .yaml
      *    - .yml
      *    - .json
-     * 3. File size must not exceed configured maximum limit
+     * 3. File size must not exceed app.openapi-import.max-file-size
      *
      * @param file uploaded multipart OpenAPI specification file
      */
@@ -211,9 +450,9 @@ public class OpenApiImportServiceImpl implements OpenApiImportService {
             );
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
+        if (file.getSize() > maxFileSize.toBytes()) {
             throw new BadRequestException(
-                    "File size exceeds maximum allowed limit of 2 MB."
+                    "File size exceeds maximum allowed limit of " + maxFileSize.toMegabytes() + " MB."
             );
         }
     }
@@ -1,20 +1,31 @@
 package com.mockify.backend.service.impl;
 
 import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
+import com.mockify.backend.exception.BaseException;
 import com.mockify.backend.exception.InvalidOpenApiException;
+import com.mockify.backend.infrastructure.OpenApiParseGuard;
 import com.mockify.backend.service.OpenApiParserService;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Parse uploaded API specification into normalized internal ParsedOpenApiSpec.
@@ -33,118 +44,194 @@ import java.util.Map;
  * - Defensive null/empty validation
  * - Structural validation
  * - Safe parser failure handling
+ * - Upload spooled to disk, never held as byte[] + String
+ * - Parse time and memory capped by OpenApiParseGuard
  *
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class OpenApiParserServiceImpl implements OpenApiParserService {
 
+    // Head of the file scanned for a Swagger 2.0 marker when the parser reports no version
+    private static final int VERSION_SNIFF_BYTES = 64 * 1024;
+
+    private final OpenApiParseGuard parseGuard;
+
     /**
      * Parse uploaded OpenAPI file into internal ParsedOpenApiSpec
+     * and run {@code handler} on it inside the parse guard
      *
      * @param file uploaded swagger/openapi file
-     * @return normalized parsed specification
+     * @param handler work done with the parsed tree before its reservation is released
+     * @return result of the handler
      */
     @Override
-    public ParsedOpenApiSpec parse(MultipartFile file) {
+    public <T> T parse(MultipartFile file, Function<ParsedOpenApiSpec, T> handler) {
 
         // Defensive validation
         if (file == null || file.isEmpty()) {
             throw new InvalidOpenApiException("Uploaded OpenAPI file is empty");
         }
 
+        Path spooled = null;
+
         try {
-            // Convert uploaded file bytes into string content
-            // swagger-parser accepts raw YAML/JSON string
-            String content = new String(file.getBytes());
-
-            // Parse options:
-            // resolve = true -> resolve $ref references automatically
-            // flatten = false -> preserve structure
-            ParseOptions options = new ParseOptions();
-            options.setResolve(true);
-            options.setFlatten(false);
-
-            // Parse specification
-            SwaggerParseResult result = new OpenAPIParser()
-                    .readContents(content, null, options);
-
-            // Collect parsing messages/errors
-            List<String> messages = result.getMessages();
-
-            // If parser returns errors, reject file
-            if (messages != null && !messages.isEmpty()) {
-                log.error("OpenAPI parsing failed: {}", messages);
-                throw new InvalidOpenApiException(
-                        "Invalid OpenAPI specification: " + String.join(", ", messages)
-                );
+            /*
+             * Spool the upload to a temp file.
+             * swagger-parser reads it from there, so the raw
+             * content is not kept alive as byte[] + String
+             * while the document tree is being built.
+             */
+            spooled = Files.createTempFile("openapi-", suffix(file.getOriginalFilename()));
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
             }
 
-            OpenAPI openAPI = result.getOpenAPI();
+            Path source = spooled;
 
-            // Null means parser failed to construct valid spec
-            if (openAPI == null) {
-                throw new InvalidOpenApiException("Unable to parse OpenAPI specification");
-            }
+            // Bounded by parse timeout and per-node memory budget,
+            // held until the handler is done with the tree
+            return parseGuard.run(
+                    file.getSize(),
+                    () -> handler.apply(parseSpooled(source, file.getOriginalFilename()))
+            );
 
-            /*
-             * Detect specification version.
-             *
-             * OpenAPI 3:
-             * openapi field
-             *
-             * Swagger 2:
-             * parser may normalize,
-             * so fallback to raw content detection.
-             */
-            String version;
+        } catch (IOException e) {
+            log.error("Failed to read uploaded OpenAPI file", e);
+            throw new InvalidOpenApiException("Failed to read OpenAPI file");
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected OpenAPI parsing failure", e);
+            throw new InvalidOpenApiException("Failed to parse OpenAPI specification");
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
 
-            if (openAPI.getOpenapi() != null &&
-                    !openAPI.getOpenapi().isBlank()) {
+    /**
+     * Parse spooled specification file
+     *
+     * @param source spooled upload
+     * @param filename original filename, for logging
+     * @return normalized parsed specification
+     */
+    private ParsedOpenApiSpec parseSpooled(Path source, String filename) {
 
-                version = openAPI.getOpenapi();
+        // Parse options:
+        // resolve = true -> resolve $ref references automatically
+        // flatten = false -> preserve structure
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(false);
 
-            } else if (content.contains("swagger: \"2.0\"") ||
-                    content.contains("swagger: '2.0'") ||
-                    content.contains("swagger: 2.0")) {
+        // Parse specification straight from disk
+        SwaggerParseResult result = new OpenAPIParser()
+                .readLocation(source.toAbsolutePath().toString(), null, options);
 
-                version = "2.0";
+        // Collect parsing messages/errors
+        List<String> messages = result.getMessages();
 
-            } else {
+        // If parser returns errors, reject file
+        if (messages != null && !messages.isEmpty()) {
+            log.error("OpenAPI parsing failed: {}", messages);
+            throw new InvalidOpenApiException(
+                    "Invalid OpenAPI specification: " + String.join(", ", messages)
+            );
+        }
 
-                throw new InvalidOpenApiException(
-                        "Unsupported or unknown API specification version"
-                );
-            }
+        OpenAPI openAPI = result.getOpenAPI();
 
-            /*
-             * Extract reusable schemas:
-             * - OpenAPI 3 -> components.schemas
-             * - Swagger 2 -> definitions
-             */
-            Map<String, Schema> schemas = extractSchemas(openAPI, version);
+        // Null means parser failed to construct valid spec
+        if (openAPI == null) {
+            throw new InvalidOpenApiException("Unable to parse OpenAPI specification");
+        }
 
-            log.info(
-                    "Successfully parsed OpenAPI file '{}' | version={} | schemas={}",
-                    file.getOriginalFilename(),
-                    version,
-                    schemas.size()
-            );
+        /*
+         * Detect specification version.
+         *
+         * OpenAPI 3:
+         * openapi field
+         *
+         * Swagger 2:
+         * parser may normalize,
+         * so fallback to the head of the raw file.
+         */
+        String version;
+
+        if (openAPI.getOpenapi() != null &&
+                !openAPI.getOpenapi().isBlank()) {
+
+            version = openAPI.getOpenapi();
 
-            // Return normalized internal DTO
-            return new ParsedOpenApiSpec(
-                    version,
-                    schemas
+        } else if (declaresSwagger2(source)) {
+
+            version = "2.0";
+
+        } else {
+
+            throw new InvalidOpenApiException(
+                    "Unsupported or unknown API specification version"
             );
+        }
+
+        /*
+         * Extract reusable schemas:
+         * - OpenAPI 3 -> components.schemas
+         * - Swagger 2 -> definitions
+         */
+        Map<String, Schema> schemas = extractSchemas(openAPI, version);
+
+        log.info(
+                "Successfully parsed OpenAPI file '{}' | version={} | schemas={}",
+                filename,
+                version,
+                schemas.size()
+        );
+
+        // Return normalized internal DTO
+        return new ParsedOpenApiSpec(
+                version,
+                schemas
+        );
+    }
+
+    /**
+     * Check the head of the file for a Swagger 2.0 version marker
+     */
+    private boolean declaresSwagger2(Path source) {
+
+        try (InputStream in = Files.newInputStream(source)) {
+
+            String head = new String(in.readNBytes(VERSION_SNIFF_BYTES), StandardCharsets.UTF_8);
+
+            return head.contains("swagger: \"2.0\"") ||
+                    head.contains("swagger: '2.0'") ||
+                    head.contains("swagger: 2.0");
 
         } catch (IOException e) {
-            log.error("Failed to read uploaded OpenAPI file", e);
-            throw new InvalidOpenApiException("Failed to read OpenAPI file");
-        }catch (InvalidOpenApiException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected OpenAPI parsing failure", e);
-            throw new InvalidOpenApiException("Failed to parse OpenAPI specification");
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Temp file suffix matching the upload format
+     */
+    private static String suffix(String filename) {
+        return filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json") ? ".json" : ".yaml";
+    }
+
+    private static void deleteQuietly(Path path) {
+
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled OpenAPI file {}", path, e);
         }
     }
 
@@ -6,6 +6,7 @@ import com.mockify.backend.dto.response.member.*;
 import com.mockify.backend.exception.*;
 import com.mockify.backend.model.*;
 import com.mockify.backend.repository.*;
+import com.mockify.backend.security.MemberRoleCache;
 import com.mockify.backend.service.MailService;
 import com.mockify.backend.service.OrganizationMemberService;
 import com.mockify.backend.util.InvitationTokenUtil;
@@ -30,6 +31,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
     private final OrganizationRepository orgRepo;
     private final UserRepository userRepo;
     private final MailService mailService;
+    private final MemberRoleCache memberRoleCache;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
@@ -134,6 +136,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         memberRepo.save(member);
         invitation.setAcceptedAt(LocalDateTime.now());
         invitationRepo.save(invitation);
+        memberRoleCache.evict(invitation.getOrganization().getId(), acceptingUserId);
 
         log.info("User {} accepted invitation to org {}",
                 acceptingUserId, invitation.getOrganization().getId());
@@ -191,6 +194,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
 
         target.setRole(request.getRole());
         memberRepo.save(target);
+        memberRoleCache.evict(orgId, targetUserId);
 
         log.info("Actor {} changed role of user {} in org {} to {}",
                 actorId, targetUserId, orgId, request.getRole());
@@ -214,6 +218,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         }
 
         memberRepo.delete(target);
+        memberRoleCache.evict(orgId, targetUserId);
         log.warn("User {} removed from org {} by actor {}", targetUserId, orgId, actorId);
     }
 
@@ -253,6 +258,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         }
 
         memberRepo.delete(member);
+        memberRoleCache.evict(orgId, userId);
         log.info("User {} left org {}", userId, orgId);
     }
 
@@ -296,6 +302,9 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         org.setOwner(newOwnerMember.getUser());
         orgRepo.save(org);
 
+        memberRoleCache.evict(orgId, currentOwnerId);
+        memberRoleCache.evict(orgId, request.getNewOwnerId());
+
         log.warn("Ownership of org {} transferred from {} to {}",
                 orgId, currentOwnerId, request.getNewOwnerId());
     }
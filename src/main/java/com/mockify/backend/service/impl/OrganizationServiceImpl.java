@@ -16,6 +16,9 @@ import com.mockify.backend.model.User;
 import com.mockify.backend.repository.OrganizationMemberRepository;
 import com.mockify.backend.repository.OrganizationRepository;
 import com.mockify.backend.repository.UserRepository;
+import com.mockify.backend.security.ApiKeyAuthCache;
+import com.mockify.backend.security.MemberRoleCache;
+import com.mockify.backend.security.ResourceScopeCache;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.OrganizationService;
 import com.mockify.backend.service.SlugService;
@@ -41,6 +44,9 @@ public class OrganizationServiceImpl implements OrganizationService {
     private final SlugService slugService;
     private final EndpointService endpointService;
     private final OrganizationMemberRepository memberRepository;
+    private final ResourceScopeCache resourceScopeCache;
+    private final MemberRoleCache memberRoleCache;
+    private final ApiKeyAuthCache apiKeyAuthCache;
 
     // Create new organization under current user
     // The JWT-only guard at the controller (requireJwtAuthentication) is sufficient.
@@ -184,7 +190,11 @@ public class OrganizationServiceImpl implements OrganizationService {
 
         Organization organization = organizationRepository.findById(orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Organization not found with ID: " + orgId));
+        endpointService.deleteEndpoint(orgId, "organization");
         organizationRepository.delete(organization);
+        resourceScopeCache.evictOrganization(orgId);
+        memberRoleCache.evictOrganization(orgId);
+        apiKeyAuthCache.invalidateOrganization(orgId);
         log.warn("Organization {} deleted by user {}", orgId, userId);
     }
 
@@ -13,6 +13,8 @@ import com.mockify.backend.model.Organization;
 import com.mockify.backend.model.Project;
 import com.mockify.backend.repository.OrganizationRepository;
 import com.mockify.backend.repository.ProjectRepository;
+import com.mockify.backend.security.ApiKeyAuthCache;
+import com.mockify.backend.security.ResourceScopeCache;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.ProjectService;
 import com.mockify.backend.service.SlugService;
@@ -37,6 +39,8 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectMapper projectMapper;
     private final SlugService slugService;
     private final EndpointService endpointService;
+    private final ResourceScopeCache resourceScopeCache;
+    private final ApiKeyAuthCache apiKeyAuthCache;
 
     // Create a new project under a specific organization Only
     // org-level keys or JWT owners only may create new projects.
@@ -150,7 +154,10 @@ public class ProjectServiceImpl implements ProjectService {
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        endpointService.deleteEndpoint(projectId, "project");
         projectRepository.delete(project);
+        resourceScopeCache.evictProject(projectId);
+        apiKeyAuthCache.invalidateProject(projectId);
         log.warn("Project {} deleted by user {}", projectId, userId);
     }
 
@@ -3,6 +3,7 @@ package com.mockify.backend.service.impl;
 import com.mockify.backend.common.validation.PageableValidator;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.mapper.MockRecordMapper;
 import com.mockify.backend.model.MockRecord;
 import com.mockify.backend.model.MockSchema;
@@ -14,6 +15,7 @@ import com.mockify.backend.repository.OrganizationRepository;
 import com.mockify.backend.repository.ProjectRepository;
 import com.mockify.backend.service.PublicMockRecordService;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +37,9 @@ public class PublicMockRecordServiceImpl implements PublicMockRecordService {
     private final ProjectRepository projectRepository;
     private final MockSchemaRepository mockSchemaRepository;
     private final MockRecordMapper mockRecordMapper;
+    private final HotPathMetrics metrics;
+
+    private static final String ROUTE_GROUP = "public-mock";
 
     @Override
     @Transactional(readOnly = true)
@@ -59,7 +64,7 @@ public class PublicMockRecordServiceImpl implements PublicMockRecordService {
         // Validate Page size, protect from abuse
         PageableValidator.validate(pageable, 20);
 
-        Page<MockRecord> recordsPage = mockRecordRepository.findByMockSchema_Id(schemaId, pageable);
+        Page<MockRecord> recordsPage = readPage(schemaId, pageable);
 
         log.info("Public user fetching records page={}, size={} under schemaId {}",
                 recordsPage.getNumber(),
@@ -85,21 +90,9 @@ public class PublicMockRecordServiceImpl implements PublicMockRecordService {
         // Validate Page size, protect from abuse
         PageableValidator.validate(pageable, 20);
 
-        Organization organization = organizationRepository.findBySlug(orgSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
-
-        Project project = projectRepository.findBySlugAndOrganizationId(
-                projectSlug,
-                organization.getId()
-        ).orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-
-        MockSchema schema = mockSchemaRepository.findBySlugAndProjectId(
-                schemaSlug,
-                project.getId()
-        ).orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
+        MockSchema schema = resolveSchema(orgSlug, projectSlug, schemaSlug);
 
-        Page<MockRecord> recordsPage =
-                mockRecordRepository.findByMockSchema_Id(schema.getId(), pageable);
+        Page<MockRecord> recordsPage = readPage(schema.getId(), pageable);
 
         log.info("Public user fetching records page={}, size={} under schema {}",
                 recordsPage.getNumber(),
@@ -108,4 +101,43 @@ public class PublicMockRecordServiceImpl implements PublicMockRecordService {
 
         return recordsPage.map(mockRecordMapper::toResponse);
     }
+
+    private MockSchema resolveSchema(String orgSlug, String projectSlug, String schemaSlug) {
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            Organization organization = organizationRepository.findBySlug(orgSlug)
+                    .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
+
+            Project project = projectRepository.findBySlugAndOrganizationId(
+                    projectSlug,
+                    organization.getId()
+            ).orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+            MockSchema schema = mockSchemaRepository.findBySlugAndProjectId(
+                    schemaSlug,
+                    project.getId()
+            ).orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
+
+            outcome = HotPathMetrics.SUCCESS;
+            return schema;
+        } catch (ResourceNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.SLUG_RESOLUTION, ROUTE_GROUP, outcome);
+        }
+    }
+
+    private Page<MockRecord> readPage(UUID schemaId, Pageable pageable) {
+        Timer.Sample sample = metrics.start();
+        String outcome = HotPathMetrics.ERROR;
+        try {
+            Page<MockRecord> page = mockRecordRepository.findByMockSchema_Id(schemaId, pageable);
+            outcome = HotPathMetrics.SUCCESS;
+            return page;
+        } finally {
+            metrics.stop(sample, HotPathMetrics.RECORD_PAGE_READ, ROUTE_GROUP, outcome);
+        }
+    }
 }
@@ -1,18 +1,16 @@
 package com.mockify.backend.service.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.dto.internal.SystemTemplate;
 import com.mockify.backend.dto.response.schema.MockSchemaResponse;
 import com.mockify.backend.dto.response.schema.SchemaTemplateResponse;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.SchemaTemplateCatalog;
 import com.mockify.backend.mapper.MockSchemaMapper;
 import com.mockify.backend.mapper.SchemaTemplateMapper;
 import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.model.Project;
-import com.mockify.backend.model.SchemaTemplate;
 import com.mockify.backend.repository.MockSchemaRepository;
 import com.mockify.backend.repository.ProjectRepository;
-import com.mockify.backend.repository.SchemaTemplateRepository;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.SchemaTemplateService;
 import com.mockify.backend.service.SlugService;
@@ -24,8 +22,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -33,25 +36,22 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SchemaTemplateServiceImpl implements SchemaTemplateService {
 
-    private final SchemaTemplateRepository schemaTemplateRepository;
+    private final SchemaTemplateCatalog schemaTemplateCatalog;
     private final ProjectRepository projectRepository;
     private final MockSchemaRepository mockSchemaRepository;
     private final SchemaTemplateMapper schemaTemplateMapper;
     private final MockSchemaMapper mockSchemaMapper;
-    private final ObjectMapper objectMapper;
     private final SlugService slugService;
     private final EndpointService endpointService;
 
     // -------------------------------------------------------------------------
     // 1. Get system templates — no auth required (public catalog)
+    //    Served from the in-memory catalog, never hits the database.
     // -------------------------------------------------------------------------
 
     @Override
-    @Transactional(readOnly = true)
     public List<SchemaTemplateResponse> getSystemTemplates() {
-        return schemaTemplateMapper.toResponseList(
-                schemaTemplateRepository.findBySystemTemplateTrue()
-        );
+        return schemaTemplateMapper.toSystemResponseList(schemaTemplateCatalog.all());
     }
 
     // -------------------------------------------------------------------------
@@ -73,32 +73,99 @@ public class SchemaTemplateServiceImpl implements SchemaTemplateService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-        SchemaTemplate template =
-                schemaTemplateRepository.findBySlugAndSystemTemplateTrue(templateSlug)
-                        .orElseThrow(() -> new ResourceNotFoundException("Schema template not found"));
+        SystemTemplate template = findTemplate(templateSlug);
 
         // Generate a unique slug within this project
-        String baseSlug = slugService.generateSlug(template.getName());
+        Set<String> takenSlugs = new HashSet<>(mockSchemaRepository.findSlugsByProjectId(projectId));
+        MockSchema schema = newSchema(template, project, takenSlugs);
+
+        MockSchema savedSchema = mockSchemaRepository.save(schema);
+        endpointService.createEndpoint(savedSchema);
+
+        return mockSchemaMapper.toResponse(savedSchema);
+    }
+
+    // -------------------------------------------------------------------------
+    // 3. Apply N templates to M projects
+    //    Same permission as a single apply, checked for every project up front.
+    //    One slug query per project; schemas and endpoints are batch inserted.
+    // -------------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    @PreAuthorize("#projectIds.?[!#root.hasPermission(#this, 'PROJECT', 'SCHEMA:WRITE')].isEmpty()")
+    public List<MockSchemaResponse> applyTemplatesToProjects(
+            UUID userId,
+            List<UUID> projectIds,
+            List<String> templateSlugs) {
+
+        // Resolve everything before writing anything
+        List<SystemTemplate> templates = new LinkedHashSet<>(templateSlugs).stream()
+                .map(this::findTemplate)
+                .toList();
+
+        Set<UUID> uniqueProjectIds = new LinkedHashSet<>(projectIds);
+        Map<UUID, Project> projects = new LinkedHashMap<>();
+        for (Project project : projectRepository.findAllById(uniqueProjectIds)) {
+            projects.put(project.getId(), project);
+        }
+        if (projects.size() != uniqueProjectIds.size()) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        Map<UUID, List<MockSchema>> schemasByProject = new LinkedHashMap<>();
+        List<MockSchema> schemas = new ArrayList<>();
+
+        for (UUID projectId : uniqueProjectIds) {
+            Project project = projects.get(projectId);
+            Set<String> takenSlugs = new HashSet<>(mockSchemaRepository.findSlugsByProjectId(projectId));
+
+            List<MockSchema> projectSchemas = new ArrayList<>(templates.size());
+            for (SystemTemplate template : templates) {
+                projectSchemas.add(newSchema(template, project, takenSlugs));
+            }
+            schemasByProject.put(projectId, projectSchemas);
+            schemas.addAll(projectSchemas);
+        }
+
+        mockSchemaRepository.saveAll(schemas);
+
+        // Endpoints are created in one batch per parent project
+        schemasByProject.values().forEach(endpointService::createEndpoints);
+
+        log.info("User {} applied {} template(s) to {} project(s): {} schema(s) created",
+                userId, templates.size(), projects.size(), schemas.size());
+
+        return mockSchemaMapper.toResponseList(schemas);
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private SystemTemplate findTemplate(String templateSlug) {
+        return schemaTemplateCatalog.find(templateSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Schema template not found"));
+    }
+
+    /**
+     * Builds a schema from {@code template}, picking the first free slug
+     * ({@code base}, {@code base-1}, ...) and recording it in {@code takenSlugs}.
+     * The template JSON is immutable and shared as is.
+     */
+    private MockSchema newSchema(SystemTemplate template, Project project, Set<String> takenSlugs) {
+        String baseSlug = slugService.generateSlug(template.name());
         String schemaSlug = baseSlug;
         int attempt = 1;
-        while (mockSchemaRepository.existsBySlugAndProjectId(schemaSlug, projectId)) {
+        while (!takenSlugs.add(schemaSlug)) {
             schemaSlug = baseSlug + "-" + attempt++;
         }
 
         MockSchema schema = new MockSchema();
-        schema.setName(template.getName());
+        schema.setName(template.name());
         schema.setSlug(schemaSlug);
-        schema.setSchemaJson(
-                objectMapper.convertValue(
-                        template.getSchemaJson(),
-                        new TypeReference<Map<String, Object>>() {}
-                )
-        );
+        schema.setSchemaJson(template.schemaJson());
         schema.setProject(project);
-
-        MockSchema savedSchema = mockSchemaRepository.save(schema);
-        endpointService.createEndpoint(savedSchema);
-
-        return mockSchemaMapper.toResponse(savedSchema);
+        return schema;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.mockify.backend.service.impl;
 
+import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.service.SlugService;
 import org.springframework.stereotype.Service;
 
@@ -15,12 +16,19 @@ public class SlugServiceImpl implements SlugService {
             throw new IllegalArgumentException("Slug source text cannot be null or blank");
         }
 
-        return text.toLowerCase()
+        String slug = text.toLowerCase()
                 .trim()
                 .replaceAll("[^a-z0-9\\s-]", "")
                 .replaceAll("\\s+", "-")
                 .replaceAll("-+", "-")
                 .replaceAll("^-|-$", "");
+
+        // An empty label is not a valid endpoint path (or ltree) segment
+        if (slug.isEmpty()) {
+            throw new BadRequestException(
+                    "Name must contain at least one letter (a-z) or digit to derive a URL slug: " + text);
+        }
+        return slug;
     }
 
     @Override
@@ -3,8 +3,15 @@ package com.mockify.backend.service.impl;
 import com.mockify.backend.dto.response.auth.UserResponse;
 import com.mockify.backend.exception.ResourceNotFoundException;
 import com.mockify.backend.mapper.UserMapper;
+import com.mockify.backend.model.Organization;
 import com.mockify.backend.model.User;
+import com.mockify.backend.repository.OrganizationRepository;
 import com.mockify.backend.repository.UserRepository;
+import com.mockify.backend.security.ApiKeyAuthCache;
+import com.mockify.backend.security.MemberRoleCache;
+import com.mockify.backend.security.ResourceScopeCache;
+import com.mockify.backend.security.UserPrincipalCache;
+import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +29,12 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserPrincipalCache userPrincipalCache;
+    private final OrganizationRepository organizationRepository;
+    private final ResourceScopeCache resourceScopeCache;
+    private final EndpointService endpointService;
+    private final MemberRoleCache memberRoleCache;
+    private final ApiKeyAuthCache apiKeyAuthCache;
 
     // Fetch user details by ID
     @Override
@@ -61,7 +74,26 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot delete, User not found with ID: " + id));
 
+        // Owned organizations go with the user (cascade); collect them before the delete
+        List<UUID> ownedOrgIds = organizationRepository.findByOwnerId(id).stream()
+                .map(Organization::getId)
+                .toList();
+
+        // Remove their endpoint subtrees the same way deleteOrganization does, so
+        // the path change is published to every node's path index
+        ownedOrgIds.forEach(orgId -> endpointService.deleteEndpoint(orgId, "organization"));
+
         userRepository.delete(user);
+        userPrincipalCache.evict(id);
+
+        // Same evictions as deleteOrganization for each owned org, plus the keys
+        // this user created in orgs they do not own (created_by cascades too)
+        ownedOrgIds.forEach(orgId -> {
+            resourceScopeCache.evictOrganization(orgId);
+            memberRoleCache.evictOrganization(orgId);
+            apiKeyAuthCache.invalidateOrganization(orgId);
+        });
+        apiKeyAuthCache.invalidateOwner(id);
         log.info("User deleted successfully: {}", id);
     }
 
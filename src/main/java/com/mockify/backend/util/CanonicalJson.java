@@ -0,0 +1,102 @@
+package com.mockify.backend.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural hash of JSON-like values (maps, lists, strings, numbers, booleans, null).
+ *
+ * <p>Two values hash equal when they are structurally equal as JSON: map key
+ * order is ignored, list order is not, and numbers compare by value
+ * ({@code 1}, {@code 1L} and {@code 1.0} are the same). This makes a schema
+ * read back from jsonb comparable with one freshly built in memory.</p>
+ */
+public final class CanonicalJson {
+
+    private CanonicalJson() {
+    }
+
+    /** Hex SHA-256 of the canonical form of {@code value}. */
+    public static String hash(Object value) {
+        MessageDigest sha = sha256();
+        write(sha, value);
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    // Every value is written as a type tag followed by a length-prefixed body,
+    // so different structures can never produce the same byte stream
+    private static void write(MessageDigest sha, Object value) {
+        switch (value) {
+            case null -> sha.update((byte) 'n');
+            case Boolean b -> {
+                sha.update((byte) 'b');
+                sha.update((byte) (b ? 1 : 0));
+            }
+            case Number n -> {
+                sha.update((byte) 'd');
+                writeString(sha, normalize(n));
+            }
+            case Map<?, ?> map -> {
+                sha.update((byte) 'm');
+                writeLength(sha, map.size());
+                List<String> keys = new ArrayList<>(map.size());
+                for (Object key : map.keySet()) {
+                    keys.add(String.valueOf(key));
+                }
+                keys.sort(null);
+                for (String key : keys) {
+                    writeString(sha, key);
+                    write(sha, map.get(key));
+                }
+            }
+            case Collection<?> list -> {
+                sha.update((byte) 'l');
+                writeLength(sha, list.size());
+                for (Object item : list) {
+                    write(sha, item);
+                }
+            }
+            default -> {
+                sha.update((byte) 's');
+                writeString(sha, value.toString());
+            }
+        }
+    }
+
+    private static String normalize(Number n) {
+        try {
+            return new BigDecimal(n.toString()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            // NaN / Infinity
+            return n.toString();
+        }
+    }
+
+    private static void writeString(MessageDigest sha, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeLength(sha, bytes.length);
+        sha.update(bytes);
+    }
+
+    private static void writeLength(MessageDigest sha, int length) {
+        sha.update((byte) (length >>> 24));
+        sha.update((byte) (length >>> 16));
+        sha.update((byte) (length >>> 8));
+        sha.update((byte) length);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
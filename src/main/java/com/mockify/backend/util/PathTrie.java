@@ -0,0 +1,126 @@
+package com.mockify.backend.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trie over {@code /}-separated paths, one edge per path segment.
+ *
+ * <p>A lookup walks one node per segment, so its cost depends on the path depth,
+ * not on how many paths are stored. Removing or replacing a path swaps its
+ * whole subtree in one step.</p>
+ *
+ * <p>Reads are lock-free and safe alongside writes. Concurrent writers must be
+ * serialized by the caller.</p>
+ */
+public final class PathTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public V get(String path) {
+        Node<V> node = find(path);
+        return node != null ? node.value : null;
+    }
+
+    public void put(String path, V value) {
+        Node<V> node = descend(root, path, 0);
+        if (node.value == null) {
+            size.incrementAndGet();
+        }
+        node.value = value;
+    }
+
+    /**
+     * Replaces {@code path} and every path below it with {@code entries}, whose keys
+     * must be {@code path} itself or lie below it. The new subtree is built off to
+     * the side and attached with a single map write, so readers see either the old
+     * subtree or the complete new one. An empty {@code entries} removes the subtree.
+     */
+    public void replaceSubtree(String path, Map<String, V> entries) {
+        Node<V> fresh = new Node<>();
+        int added = 0;
+        for (Map.Entry<String, V> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            if (!key.equals(path) && !key.startsWith(path + "/")) {
+                throw new IllegalArgumentException("Path " + key + " is not under " + path);
+            }
+            Node<V> node = descend(fresh, key, path.length() + 1);
+            if (node.value == null) {
+                added++;
+            }
+            node.value = entry.getValue();
+        }
+
+        int lastSlash = path.lastIndexOf('/');
+        String label = path.substring(lastSlash + 1);
+        Node<V> previous;
+        if (added == 0) {
+            Node<V> parent = lastSlash < 0 ? root : find(path.substring(0, lastSlash));
+            previous = parent != null ? parent.children.remove(label) : null;
+        } else {
+            Node<V> parent = lastSlash < 0 ? root : descend(root, path.substring(0, lastSlash), 0);
+            previous = parent.children.put(label, fresh);
+        }
+        size.addAndGet(added - (previous != null ? previous.count() : 0));
+    }
+
+    /** Removes {@code path} and every path below it. */
+    public void removeSubtree(String path) {
+        int lastSlash = path.lastIndexOf('/');
+        Node<V> parent = lastSlash < 0 ? root : find(path.substring(0, lastSlash));
+        if (parent == null) {
+            return;
+        }
+        Node<V> removed = parent.children.remove(path.substring(lastSlash + 1));
+        if (removed != null) {
+            size.addAndGet(-removed.count());
+        }
+    }
+
+    /** Number of paths holding a value. */
+    public int size() {
+        return size.get();
+    }
+
+    private Node<V> find(String path) {
+        Node<V> node = root;
+        int start = 0;
+        while (node != null && start <= path.length()) {
+            int end = segmentEnd(path, start);
+            node = node.children.get(path.substring(start, end));
+            start = end + 1;
+        }
+        return node;
+    }
+
+    // Walks from `from` along the segments of path[start..], creating missing nodes
+    private static <V> Node<V> descend(Node<V> from, String path, int start) {
+        Node<V> node = from;
+        while (start <= path.length()) {
+            int end = segmentEnd(path, start);
+            node = node.children.computeIfAbsent(path.substring(start, end), s -> new Node<>());
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static int segmentEnd(String path, int start) {
+        int slash = path.indexOf('/', start);
+        return slash < 0 ? path.length() : slash;
+    }
+
+    private static final class Node<V> {
+        final Map<String, Node<V>> children = new ConcurrentHashMap<>();
+        volatile V value;
+
+        int count() {
+            int n = value != null ? 1 : 0;
+            for (Node<V> child : children.values()) {
+                n += child.count();
+            }
+            return n;
+        }
+    }
+}
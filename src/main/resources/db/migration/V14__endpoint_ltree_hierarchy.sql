@@ -0,0 +1,56 @@
+-- ==========================================
+-- Endpoint hierarchy as ltree
+-- ==========================================
+-- full_path "org/project/schema" is mirrored into path 'org.project.schema'
+-- so subtree (<@), ancestor (@>) and depth (nlevel) queries, including the
+-- set-based full_path rewrite on slug changes, are served by a GiST index
+-- instead of LIKE prefix scans. Slugs are [a-z0-9-], which are
+-- valid ltree labels (Postgres 16+).
+-- ==========================================
+
+-- Hyphens in ltree labels need Postgres 16; older servers would fail halfway
+-- through the backfill below with a less obvious syntax error
+DO $$
+BEGIN
+    IF current_setting('server_version_num')::int < 160000 THEN
+        RAISE EXCEPTION 'Endpoint ltree hierarchy requires PostgreSQL 16 or newer (server is %)',
+            current_setting('server_version');
+    END IF;
+END
+$$;
+
+CREATE EXTENSION IF NOT EXISTS ltree;
+
+-- Single conversion used by the trigger and by repository queries
+CREATE OR REPLACE FUNCTION endpoint_path_to_ltree(full_path TEXT)
+RETURNS ltree
+LANGUAGE sql
+IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+    SELECT text2ltree(replace(full_path, '/', '.'))
+$$;
+
+ALTER TABLE endpoints ADD COLUMN path ltree;
+
+UPDATE endpoints SET path = endpoint_path_to_ltree(full_path);
+
+ALTER TABLE endpoints ALTER COLUMN path SET NOT NULL;
+
+-- Keep path in sync with full_path, including set-based rewrites
+CREATE OR REPLACE FUNCTION endpoints_sync_path()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.path := endpoint_path_to_ltree(NEW.full_path);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_endpoints_sync_path
+BEFORE INSERT OR UPDATE OF full_path ON endpoints
+FOR EACH ROW
+EXECUTE FUNCTION endpoints_sync_path();
+
+CREATE INDEX idx_endpoints_path_gist ON endpoints USING GIST (path);
+
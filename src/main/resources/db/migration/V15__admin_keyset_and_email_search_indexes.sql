@@ -0,0 +1,32 @@
+-- Runs outside a transaction (see the .sql.conf next to this file) so every
+-- index is built CONCURRENTLY and writes to these tables are not blocked
+-- while it builds. A build that fails leaves an INVALID index behind: drop it
+-- before running `flyway repair` and migrating again, since IF NOT EXISTS
+-- would otherwise keep the broken one.
+
+-- Keyset pagination for admin listings: newest first, id breaks ties.
+-- Each listing walks one of these indexes from the cursor position, with or
+-- without its parent filter, instead of sorting and offsetting the table.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users (created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_role_created_at_id ON users (role, created_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_organizations_created_at_id ON organizations (created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_organizations_owner_created_at_id ON organizations (owner_id, created_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_org_created_at_id ON projects (organization_id, created_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_schemas_created_at_id ON mock_schemas (created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_schemas_project_created_at_id ON mock_schemas (project_id, created_at DESC, id DESC);
+
+-- mock_records is the largest table, and the unfiltered admin record listing
+-- would otherwise scan and top-N sort all of it for every page
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_records_created_at_id ON mock_records (created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_records_schema_created_at_id ON mock_records (mock_schema_id, created_at DESC, id DESC);
+
+-- Substring email search (UPPER(email) LIKE '%term%', as generated for
+-- ...ContainingIgnoreCase). A btree cannot serve a leading wildcard; a
+-- trigram GIN index can.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_trgm ON users USING gin (UPPER(email) gin_trgm_ops);
@@ -0,0 +1,20 @@
+-- Outgoing mail, written in the same transaction as the change that triggers it
+-- and delivered by MailOutboxDispatcher
+CREATE TABLE mail_outbox (
+    id              UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(500) NOT NULL,
+    html_body       TEXT NOT NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts        INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    sent_at         TIMESTAMP,
+    CONSTRAINT mail_outbox_status_check CHECK (status IN ('PENDING','SENT','FAILED'))
+);
+
+-- Dispatcher polls due messages; sent / failed rows stay out of the index
+CREATE INDEX idx_mail_outbox_due
+ON mail_outbox (next_attempt_at)
+WHERE status = 'PENDING';
@@ -0,0 +1,5 @@
+-- The rendered body holds one-time reset / verification / invite links, so it
+-- is dropped as soon as a message leaves PENDING (see MailOutboxRepository)
+ALTER TABLE mail_outbox ALTER COLUMN html_body DROP NOT NULL;
+
+UPDATE mail_outbox SET html_body = NULL WHERE status <> 'PENDING';
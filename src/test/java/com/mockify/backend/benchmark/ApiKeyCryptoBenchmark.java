@@ -0,0 +1,86 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.security.ApiKeyCryptoService;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * API key verification throughput, single thread (= verifications per second per core).
+ *
+ * <p>{@code legacyVerify} reproduces the previous implementation (regex check,
+ * {@code Mac.getInstance} and a fresh {@code SecretKeySpec} per HMAC, org
+ * secret derived on every call, hex string comparison) so one run shows
+ * before and after side by side.</p>
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=ApiKeyCryptoBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class ApiKeyCryptoBenchmark {
+
+    private static final String GLOBAL_SECRET = "benchmark-global-secret-at-least-32-chars";
+    private static final Pattern KEY_PATTERN =
+            Pattern.compile("^(mk_live_|mk_test_)[A-Za-z0-9_-]{43}$");
+
+    private ApiKeyCryptoService cryptoService;
+    private String apiKey;
+    private String organizationId;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        cryptoService = new ApiKeyCryptoService();
+        apiKey = cryptoService.generateApiKey(false);
+        organizationId = UUID.randomUUID().toString();
+        storedHash = cryptoService.hashApiKey(
+                apiKey, cryptoService.generateOrgSecret(organizationId, GLOBAL_SECRET));
+    }
+
+    /** Current path: cached org secret, pooled Mac, raw byte comparison. */
+    @Benchmark
+    public boolean verify() {
+        String orgSecret = cryptoService.generateOrgSecret(organizationId, GLOBAL_SECRET);
+        return cryptoService.verifyApiKey(apiKey, storedHash, orgSecret);
+    }
+
+    /** Key creation and rotation: HMAC of a new key with the org secret. */
+    @Benchmark
+    public String hash() {
+        String orgSecret = cryptoService.generateOrgSecret(organizationId, GLOBAL_SECRET);
+        return cryptoService.hashApiKey(apiKey, orgSecret);
+    }
+
+    /** Previous path, kept here as the baseline. */
+    @Benchmark
+    public boolean legacyVerify() throws Exception {
+        String orgSecret = legacyHash(organizationId + ":api-key", GLOBAL_SECRET);
+        if (!KEY_PATTERN.matcher(apiKey).matches()) {
+            return false;
+        }
+        String computed = legacyHash(apiKey, orgSecret);
+        return MessageDigest.isEqual(
+                computed.getBytes(StandardCharsets.UTF_8),
+                storedHash.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String legacyHash(String data, String secret) throws Exception {
+        Mac hmac = Mac.getInstance("HmacSHA256");
+        hmac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(hmac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.config.RateLimitProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared inputs for the benchmarks, shaped like production data.
+ */
+final class BenchmarkFixtures {
+
+    // Cycled through for leaf fields: every validator branch a real schema hits
+    private static final List<String> LEAF_TYPES =
+            List.of("string", "number", "boolean", "email", "uuid", "date", "datetime", "url");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Schema nested {@code depth} levels deep. Each level has {@code fieldsPerLevel}
+     * leaf fields, an enum, an array of objects and the next level as a plain nested object.
+     */
+    static Map<String, Object> deepSchema(int depth, int fieldsPerLevel) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsPerLevel; i++) {
+            schema.put("field" + i, LEAF_TYPES.get(i % LEAF_TYPES.size()));
+        }
+        schema.put("status", Map.of("type", "enum", "values", List.of("ACTIVE", "SUSPENDED", "DELETED")));
+        schema.put("tags", Map.of("type", "array", "items", "string"));
+        schema.put("lines", Map.of("type", "array", "items", Map.of("sku", "string", "qty", "number")));
+        if (depth > 1) {
+            schema.put("child", deepSchema(depth - 1, fieldsPerLevel));
+        }
+        return schema;
+    }
+
+    /** A record that passes validation against {@link #deepSchema} with the same arguments. */
+    static Map<String, Object> deepRecord(int depth, int fieldsPerLevel) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsPerLevel; i++) {
+            record.put("field" + i, leafValue(LEAF_TYPES.get(i % LEAF_TYPES.size()), i));
+        }
+        record.put("status", "ACTIVE");
+        record.put("tags", List.of("new", "featured", "sale"));
+        record.put("lines", List.of(
+                Map.of("sku", "SKU-1001", "qty", 2),
+                Map.of("sku", "SKU-2002", "qty", 1)
+        ));
+        if (depth > 1) {
+            record.put("child", deepRecord(depth - 1, fieldsPerLevel));
+        }
+        return record;
+    }
+
+    /**
+     * Flat schema of {@code fields} fields. Common field names (name, email, city ...)
+     * come first so the name-based generators are exercised too.
+     */
+    static Map<String, Object> flatSchema(int fields) {
+        List<String> named = List.of("id", "name", "username", "email", "phone", "city",
+                "state", "country", "zipCode", "company", "title", "url", "createdAt", "updatedAt");
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        for (int i = 0; i < fields; i++) {
+            if (i < named.size()) {
+                schema.put(named.get(i), "string");
+            } else if (i % 10 == 0) {
+                schema.put("category" + i, Map.of("type", "enum", "values", List.of("A", "B", "C")));
+            } else {
+                schema.put("attr" + i, LEAF_TYPES.get(i % LEAF_TYPES.size()));
+            }
+        }
+        return schema;
+    }
+
+    /** The {@code mockify.rate-limit} block of application.yml, bound as the app binds it. */
+    static RateLimitProperties rateLimitProperties() {
+        try {
+            var sources = new YamlPropertySourceLoader()
+                    .load("application", new ClassPathResource("application.yml"));
+            return new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("mockify.rate-limit", RateLimitProperties.class)
+                    .get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object leafValue(String type, int i) {
+        return switch (type) {
+            case "number" -> i * 10;
+            case "boolean" -> i % 2 == 0;
+            case "email" -> "user" + i + "@example.com";
+            case "uuid" -> "3f2504e0-4f89-11d3-9a0c-0305e82c33" + String.format("%02d", i % 100);
+            case "date" -> "2025-01-15";
+            case "datetime" -> "2025-01-15T10:15:30Z";
+            case "url" -> "https://example.com/items/" + i;
+            default -> "value " + i;
+        };
+    }
+}
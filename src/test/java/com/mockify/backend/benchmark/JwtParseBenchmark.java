@@ -0,0 +1,60 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.security.JwtClaims;
+import com.mockify.backend.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token verification, run on every authenticated request.
+ *
+ * <p>{@code parse} is a full signature check and claims parse. {@code verifyCached}
+ * is the path taken when the same token was verified moments ago.</p>
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=JwtParseBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "af84c6a92b8d5f4e1c7d92a6e6a1c56a4e9f45bba782cd51e2e1f67a9c34b12f";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604_800_000L);
+        // Long enough that the cached entry survives the whole run
+        ReflectionTestUtils.setField(provider, "verifyCacheTtl", Duration.ofHours(1));
+        ReflectionTestUtils.invokeMethod(provider, "init");
+
+        token = provider.generateAccessToken(UUID.randomUUID(), UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return provider.getAllClaims(token);
+    }
+
+    @Benchmark
+    public JwtClaims verifyCached() {
+        return provider.verifyAccessToken(token);
+    }
+}
@@ -0,0 +1,114 @@
+package com.mockify.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.infrastructure.ApiKeyUsageBuffer;
+import com.mockify.backend.infrastructure.HotPathMetrics;
+import com.mockify.backend.repository.ApiKeyRepository;
+import com.mockify.backend.security.*;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Per-request filter overhead on a public {@code /api/mock/**} request,
+ * before and after it got its own security chain.
+ *
+ * <p>{@code sharedChain} runs the filters the main chain applied to mock
+ * traffic (context holder, JWT, API key, anonymous, API key rate limit);
+ * {@code mockChain} runs what the dedicated chain keeps. The IP rate limit
+ * runs in both chains and needs Redis, so it is left out of both sides.</p>
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=MockRouteFilterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class MockRouteFilterBenchmark {
+
+    private static final String MOCK_PATH = "/api/mock/acme/shop/products/123";
+
+    private List<Filter> sharedFilters;
+    private List<Filter> mockFilters;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        // Dependencies are never reached for an unauthenticated request
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(
+                mock(JwtTokenProvider.class), mock(UserPrincipalCache.class));
+        ApiKeyAuthenticationFilter apiKeyFilter = new ApiKeyAuthenticationFilter(
+                mock(ApiKeyRepository.class), new ApiKeyCryptoService(), mock(ApiKeyAuthCache.class),
+                mock(ApiKeyUsageBuffer.class), new ApiKeyConfig(), mock(HotPathMetrics.class));
+        ApiKeyRateLimitFilter apiKeyRateLimitFilter = new ApiKeyRateLimitFilter(
+                mock(RedisTemplate.class), new ObjectMapper());
+
+        sharedFilters = List.of(
+                new SecurityContextHolderFilter(new RequestAttributeSecurityContextRepository()),
+                jwtFilter,
+                apiKeyFilter,
+                new AnonymousAuthenticationFilter("benchmark"),
+                apiKeyRateLimitFilter
+        );
+        mockFilters = List.of();
+    }
+
+    @Benchmark
+    public int sharedChain() throws Exception {
+        return run(sharedFilters);
+    }
+
+    @Benchmark
+    public int mockChain() throws Exception {
+        return run(mockFilters);
+    }
+
+    private static int run(List<Filter> filters) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MOCK_PATH);
+        request.setServletPath(MOCK_PATH);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new Chain(filters).doFilter(request, response);
+        return response.getStatus();
+    }
+
+    /** Minimal virtual chain: invokes each filter in order, then stops. */
+    private static final class Chain implements FilterChain {
+
+        private final List<Filter> filters;
+        private int position;
+
+        Chain(List<Filter> filters) {
+            this.filters = filters;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response)
+                throws IOException, ServletException {
+            if (position < filters.size()) {
+                filters.get(position++).doFilter(request, response, this);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
+import com.mockify.backend.infrastructure.OpenApiParseGuard;
+import com.mockify.backend.service.impl.OpenApiParserServiceImpl;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap high-water mark while parsing 2, 10 and 40 MB OpenAPI specs.
+ *
+ * <p>{@code legacy} is the old path: whole upload as {@code byte[]}, then a
+ * String, parsed with {@code readContents}, with the full schema map live
+ * until extraction ends. {@code spooled} is the current path: the upload is
+ * parsed from a temp file inside {@link OpenApiParseGuard} and components are
+ * drained from the map while they are walked.</p>
+ *
+ * <p>Every invocation starts after a GC with the pool peaks reset. The
+ * {@code peakHeapMb} counter sums the peak of every heap pool, so it is an
+ * upper bound. Compare the two modes against each other, not with {@code -Xmx}.
+ * Run with {@code -prof gc} to also see allocation rates.</p>
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=OpenApiParseHeapBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Threads(1)
+public class OpenApiParseHeapBenchmark {
+
+    @Param({"2", "10", "40"})
+    public int sizeMb;
+
+    private Path spec;
+    private OpenApiParserServiceImpl parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        spec = Files.createTempFile("openapi-bench-", ".yaml");
+        writeSpec(spec, sizeMb * 1024L * 1024L);
+
+        // Also lifts the YAML code point limit for the legacy path
+        OpenApiParseGuard guard = new OpenApiParseGuard(
+                DataSize.ofMegabytes(64), Duration.ofMinutes(5), DataSize.ofGigabytes(1), 12);
+        parser = new OpenApiParserServiceImpl(guard);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(spec);
+    }
+
+    @Benchmark
+    public int legacy(HeapPeak peak) throws IOException {
+        byte[] bytes = Files.readAllBytes(spec);
+        String content = new String(bytes);
+
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(false);
+
+        Map<String, Schema> schemas = new OpenAPIParser()
+                .readContents(content, null, options)
+                .getOpenAPI().getComponents().getSchemas();
+
+        List<Integer> walked = new ArrayList<>(schemas.size());
+        for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+            walked.add(entry.getValue().getProperties().size());
+        }
+
+        peak.record();
+        return walked.size() + content.length() + bytes.length;
+    }
+
+    @Benchmark
+    public int spooled(HeapPeak peak) {
+        ParsedOpenApiSpec parsed = parser.parse(new PathMultipartFile(spec));
+
+        List<Integer> walked = new ArrayList<>(parsed.getSchemas().size());
+        Iterator<Map.Entry<String, Schema>> iterator = parsed.getSchemas().entrySet().iterator();
+        while (iterator.hasNext()) {
+            walked.add(iterator.next().getValue().getProperties().size());
+            iterator.remove();
+        }
+
+        peak.record();
+        return walked.size();
+    }
+
+    /** Peak heap of one invocation, reported next to the timing. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapPeak {
+
+        public double peakHeapMb;
+
+        private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        void record() {
+            long bytes = 0;
+            for (MemoryPoolMXBean pool : heapPools) {
+                bytes += pool.getPeakUsage().getUsed();
+            }
+            peakHeapMb = bytes / (1024.0 * 1024.0);
+        }
+    }
+
+    // Components of 20 properties until the file reaches the target size
+    private static void writeSpec(Path path, long targetBytes) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("""
+                    openapi: 3.0.3
+                    info:
+                      title: Vendor API
+                      version: 1.0.0
+                    paths: {}
+                    components:
+                      schemas:
+                    """);
+            long written = 0;
+            for (int i = 0; written < targetBytes; i++) {
+                StringBuilder component = new StringBuilder()
+                        .append("    Component").append(i).append(":\n")
+                        .append("      type: object\n")
+                        .append("      properties:\n");
+                for (int p = 0; p < 20; p++) {
+                    component.append("        field").append(p).append(":\n")
+                            .append("          type: ").append(p % 2 == 0 ? "string" : "integer").append('\n')
+                            .append("          description: Field ").append(p).append(" of component ").append(i).append('\n');
+                }
+                out.write(component.toString());
+                written += component.length();
+            }
+        }
+    }
+
+    // Disk-backed upload, like a multipart part above the container's size threshold
+    private record PathMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "vendor.yaml";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/x-yaml";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
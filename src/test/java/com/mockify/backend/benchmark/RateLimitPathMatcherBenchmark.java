@@ -0,0 +1,47 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.util.RateLimitPathMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate-limit group lookup, run on every request, against the groups
+ * configured in application.yml.
+ *
+ * <p>{@code unmatched} scans every pattern of every group before falling back
+ * to the global limit, so it is the worst case.</p>
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=RateLimitPathMatcherBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RateLimitPathMatcherBenchmark {
+
+    @Param({
+            "/api/auth/login",
+            "/api/mock/acme/shop/products/123",
+            "/api/organizations/3f2504e0-4f89-11d3-9a0c-0305e82c3301/projects",
+            "/api/unmatched/resource/42"
+    })
+    public String path;
+
+    private RateLimitPathMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new RateLimitPathMatcher(BenchmarkFixtures.rateLimitProperties());
+    }
+
+    @Benchmark
+    public RateLimitPathMatcher.RateLimitMatch match() {
+        return matcher.match(path);
+    }
+}
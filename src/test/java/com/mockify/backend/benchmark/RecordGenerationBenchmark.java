@@ -0,0 +1,38 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.service.impl.MockAutoGenerateServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fake record generation for a 50-field schema, once per auto-generated record.
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=RecordGenerationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RecordGenerationBenchmark {
+
+    private MockAutoGenerateServiceImpl generator;
+    private Map<String, Object> schema;
+
+    @Setup
+    public void setUp() {
+        generator = new MockAutoGenerateServiceImpl();
+        schema = BenchmarkFixtures.flatSchema(50);
+    }
+
+    @Benchmark
+    public Map<String, Object> generateRecord() {
+        return generator.generateRecord(schema);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mockify.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.dto.response.record.MockRecordResponse;
+import com.mockify.backend.mapper.MockRecordMapper;
+import com.mockify.backend.model.MockRecord;
+import com.mockify.backend.model.MockSchema;
+import com.mockify.backend.service.impl.MockAutoGenerateServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response path of a record read: entity to DTO, then DTO to JSON bytes,
+ * for a 50-field record.
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=RecordSerializationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RecordSerializationBenchmark {
+
+    private MockRecordMapper mapper;
+    private ObjectMapper objectMapper;
+    private MockRecord record;
+    private MockRecordResponse response;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(MockRecordMapper.class);
+        // Same modules and features as the ObjectMapper Spring Boot builds
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        MockSchema schema = new MockSchema();
+        schema.setId(UUID.randomUUID());
+        schema.setName("Customers");
+
+        LocalDateTime now = LocalDateTime.now();
+        record = new MockRecord(UUID.randomUUID(), schema,
+                new MockAutoGenerateServiceImpl().generateRecord(BenchmarkFixtures.flatSchema(50)),
+                now, now.plusDays(7), now);
+        response = mapper.toResponse(record);
+    }
+
+    @Benchmark
+    public MockRecordResponse toResponse() {
+        return mapper.toResponse(record);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] toResponseAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(mapper.toResponse(record));
+    }
+}
@@ -0,0 +1,56 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.service.impl.MockValidatorServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schema definition and record validation on nested schemas, the checks run
+ * on every schema save and every record create / update.
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=SchemaValidationBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class SchemaValidationBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int depth;
+
+    private MockValidatorServiceImpl validator;
+    private Map<String, Object> schema;
+    private Map<String, Object> record;
+
+    @Setup
+    public void setUp() {
+        validator = new MockValidatorServiceImpl();
+        schema = BenchmarkFixtures.deepSchema(depth, 12);
+        record = BenchmarkFixtures.deepRecord(depth, 12);
+
+        // Fixtures must be valid, or the benchmark would only measure the exception path
+        validator.validateSchemaDefinition(schema);
+        validator.validateRecordAgainstSchema(schema, record);
+    }
+
+    @Benchmark
+    public void validateSchema(Blackhole bh) {
+        validator.validateSchemaDefinition(schema);
+        bh.consume(schema);
+    }
+
+    @Benchmark
+    public void validateRecord(Blackhole bh) {
+        validator.validateRecordAgainstSchema(schema, record);
+        bh.consume(record);
+    }
+}
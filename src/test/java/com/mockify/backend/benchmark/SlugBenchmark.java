@@ -0,0 +1,42 @@
+package com.mockify.backend.benchmark;
+
+import com.mockify.backend.service.impl.SlugServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slug generation, run for every organization, project, schema and template name.
+ *
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.include=SlugBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class SlugBenchmark {
+
+    @Param({
+            "Users",
+            "Admin Backend API",
+            "  Acme Corp. -- Order   Management (v2) & Billing!!  "
+    })
+    public String name;
+
+    private SlugServiceImpl slugService;
+
+    @Setup
+    public void setUp() {
+        slugService = new SlugServiceImpl();
+    }
+
+    @Benchmark
+    public String generateSlug() {
+        return slugService.generateSlug(name);
+    }
+}
@@ -0,0 +1,139 @@
+package com.mockify.backend.controller;
+
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.model.*;
+import com.mockify.backend.repository.*;
+import com.mockify.backend.security.JwtTokenProvider;
+import com.mockify.backend.service.EndpointService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.mockify.backend.infrastructure.SqlStatementAssertions.assertMaxStatements;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class MockSchemaControllerTest {
+
+    private static final int SCHEMAS = 3;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JwtTokenProvider jwtTokenProvider;
+    @Autowired UserRepository userRepo;
+    @Autowired OrganizationRepository orgRepo;
+    @Autowired OrganizationMemberRepository memberRepo;
+    @Autowired ProjectRepository projectRepo;
+    @Autowired MockSchemaRepository schemaRepo;
+    @Autowired MockRecordRepository recordRepo;
+    @Autowired EntityManager entityManager;
+    @MockitoBean EndpointService endpointService;
+
+    private Organization org;
+    private Project project;
+    private String ownerJwt;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepo.save(buildUser("schema-ctrl-owner@test.com"));
+        org     = orgRepo.save(buildOrg("Schema Ctrl Org", owner));
+        project = projectRepo.save(buildProject("Schema Ctrl Project", org));
+
+        memberRepo.save(OrganizationMember.builder()
+                .organization(org).user(owner).role(MemberRole.OWNER).joinedAt(LocalDateTime.now()).build());
+
+        for (int i = 0; i < SCHEMAS; i++) {
+            MockSchema schema = schemaRepo.save(buildSchema("Schema " + i, project));
+            recordRepo.save(buildRecord(schema));
+        }
+
+        ownerJwt = jwtTokenProvider.generateAccessToken(owner.getId(), UserRole.USER);
+
+        Mockito.when(endpointService.resolveProject(org.getSlug(), project.getSlug()))
+                .thenReturn(project.getId());
+
+        // Loads during the request must hit the database to be counted
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listSchemas_returns_page_for_member() throws Exception {
+        mockMvc.perform(get("/api/{org}/{project}/schemas", org.getSlug(), project.getSlug())
+                        .header("Authorization", "Bearer " + ownerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(SCHEMAS)))
+                .andExpect(header().exists("X-Sql-Statements"));
+    }
+
+    @Test
+    void listSchemas_stays_within_statement_budget() throws Exception {
+        // Principal, project scope, member role, page, project, plus one
+        // mock_records load per schema for recordCount (known N+1).
+        // Lower this when recordCount stops initializing the collection.
+        assertMaxStatements(6 + SCHEMAS, () ->
+                mockMvc.perform(get("/api/{org}/{project}/schemas", org.getSlug(), project.getSlug())
+                        .header("Authorization", "Bearer " + ownerJwt)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void createSchema_rejects_name_without_slug_characters() throws Exception {
+        // "!!!" slugifies to "", which is not a valid endpoint path segment
+        mockMvc.perform(post("/api/{org}/{project}/schemas", org.getSlug(), project.getSlug())
+                        .header("Authorization", "Bearer " + ownerJwt)
+                        .contentType("application/json")
+                        .content("{\"name\":\"!!!\",\"schemaJson\":{\"field\":\"string\"}}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(endpointService, Mockito.never()).createEndpoint(Mockito.any(MockSchema.class));
+    }
+
+    // HELPERS
+    private User buildUser(String email) {
+        User u = new User(); u.setName("Test"); u.setEmail(email);
+        u.setPassword("hashed"); u.setProviderName("local"); u.setEmailVerified(true);
+        return u;
+    }
+    private Organization buildOrg(String name, User owner) {
+        Organization o = new Organization(); o.setName(name);
+        o.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID()); o.setOwner(owner);
+        return o;
+    }
+    private Project buildProject(String name, Organization org) {
+        Project p = new Project(); p.setName(name);
+        p.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID()); p.setOrganization(org);
+        return p;
+    }
+    private MockSchema buildSchema(String name, Project project) {
+        MockSchema s = new MockSchema(); s.setName(name);
+        s.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID());
+        s.setSchemaJson(Map.of("field", "string")); s.setProject(project);
+        return s;
+    }
+    private MockRecord buildRecord(MockSchema schema) {
+        MockRecord r = new MockRecord();
+        r.setData(Map.of("field", "value"));
+        r.setMockSchema(schema);
+        r.setCreatedAt(LocalDateTime.now());
+        r.setExpiresAt(LocalDateTime.now().plusDays(7));
+        return r;
+    }
+}
@@ -98,7 +98,8 @@ class OpenApiImportControllerTest {
             when(openApiImportService.importOpenApi(
                     eq(userId),
                     eq(projectId),
-                    any()
+                    any(),
+                    anyBoolean()
             )).thenReturn(response);
 
             try (MockedStatic<SecurityUtils> securityMock =
@@ -197,7 +198,8 @@ class OpenApiImportControllerTest {
             when(openApiImportService.importOpenApi(
                     eq(userId),
                     eq(projectId),
-                    any()
+                    any(),
+                    anyBoolean()
             )).thenThrow(
                     new RuntimeException("Import failed")
             );
@@ -245,7 +247,8 @@ class OpenApiImportControllerTest {
             when(openApiImportService.importOpenApi(
                     any(),
                     any(),
-                    any()
+                    any(),
+                    anyBoolean()
             )).thenReturn(
                     OpenApiImportResponse.of(
                             Collections.emptyList(),
@@ -282,7 +285,8 @@ class OpenApiImportControllerTest {
                         .importOpenApi(
                                 eq(userId),
                                 eq(projectId),
-                                any()
+                                any(),
+                                eq(false)
                         );
             }
         }
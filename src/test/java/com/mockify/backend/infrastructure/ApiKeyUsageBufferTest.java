@@ -0,0 +1,83 @@
+package com.mockify.backend.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApiKeyUsageBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ApiKeyUsageBuffer usageBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        usageBuffer = new ApiKeyUsageBuffer(jdbcTemplate);
+    }
+
+    @Test
+    void testRecordUsage_CoalescesPerKey() {
+        UUID keyId = UUID.randomUUID();
+
+        for (int i = 0; i < 1000; i++) {
+            usageBuffer.recordUsage(keyId);
+        }
+
+        assertEquals(1, usageBuffer.pendingCount());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFlush_SingleStatementForAllKeys() {
+        usageBuffer.recordUsage(UUID.randomUUID());
+        usageBuffer.recordUsage(UUID.randomUUID());
+        usageBuffer.recordUsage(UUID.randomUUID());
+
+        int flushed = usageBuffer.flush();
+
+        assertEquals(3, flushed);
+        assertEquals(0, usageBuffer.pendingCount());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+
+        assertTrue(sql.getValue().contains("FROM (VALUES"));
+        assertEquals(6, args.getValue().length);
+    }
+
+    @Test
+    void testFlush_EmptyDoesNothing() {
+        assertEquals(0, usageBuffer.flush());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFlush_FailureRequeues() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        usageBuffer.recordUsage(UUID.randomUUID());
+        usageBuffer.flush();
+
+        assertEquals(1, usageBuffer.pendingCount());
+    }
+
+    @Test
+    void testFlushOnShutdown_DrainsPending() {
+        usageBuffer.recordUsage(UUID.randomUUID());
+
+        usageBuffer.flushOnShutdown();
+
+        assertEquals(0, usageBuffer.pendingCount());
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+}
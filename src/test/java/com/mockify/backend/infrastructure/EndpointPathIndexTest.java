@@ -0,0 +1,95 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.model.Endpoint;
+import com.mockify.backend.repository.EndpointRepository;
+import com.mockify.backend.repository.EndpointRepository.EndpointRoute;
+import com.mockify.backend.service.EndpointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EndpointPathIndexTest {
+
+    private EndpointRepository endpointRepository;
+    private EndpointPathIndex index;
+    private Consumer<String> changeHandler;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        endpointRepository = mock(EndpointRepository.class);
+        CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+        when(endpointRepository.findAllRoutes()).thenReturn(List.of(
+                route("google", Endpoint.ResourceType.ORGANIZATION, orgId),
+                route("google/admin-backend", Endpoint.ResourceType.PROJECT, projectId)
+        ));
+
+        index = new EndpointPathIndex(endpointRepository, invalidationBus, mock(PlatformTransactionManager.class));
+        index.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(EndpointService.PATH_CACHE_NAME), captor.capture());
+        changeHandler = captor.getValue();
+    }
+
+    @Test
+    void testLookup_ServedFromIndexWithoutDatabase() {
+        EndpointPathIndex.Route route = index.lookup("google").orElseThrow();
+
+        assertEquals(Endpoint.ResourceType.ORGANIZATION, route.type());
+        assertEquals(orgId, route.resourceId());
+        assertTrue(index.lookup("no-such-org").isEmpty());
+        assertTrue(index.lookup("googlex").isEmpty());
+
+        verify(endpointRepository, times(1)).findAllRoutes();
+        verify(endpointRepository, never()).findByFullPath(anyString());
+    }
+
+    @Test
+    void testRename_ReloadsOldAndNewSubtrees() {
+        when(endpointRepository.findRoutesUnder("google")).thenReturn(List.of());
+        when(endpointRepository.findRoutesUnder("alphabet")).thenReturn(List.of(
+                route("alphabet", Endpoint.ResourceType.ORGANIZATION, orgId),
+                route("alphabet/admin-backend", Endpoint.ResourceType.PROJECT, projectId)
+        ));
+
+        changeHandler.accept("google");
+        changeHandler.accept("alphabet");
+
+        assertTrue(index.lookup("google").isEmpty());
+        assertTrue(index.lookup("google/admin-backend").isEmpty());
+        assertEquals(projectId, index.lookup("alphabet/admin-backend").orElseThrow().resourceId());
+    }
+
+    @Test
+    void testLookup_FallsBackToDatabaseUntilBuilt() {
+        when(endpointRepository.findAllRoutes()).thenThrow(new IllegalStateException("db down"));
+        EndpointPathIndex unbuilt = new EndpointPathIndex(
+                endpointRepository, mock(CacheInvalidationBus.class), mock(PlatformTransactionManager.class));
+        unbuilt.init();
+
+        assertTrue(unbuilt.lookup("google").isEmpty());
+        verify(endpointRepository).findByFullPath("google");
+    }
+
+    private static EndpointRoute route(String fullPath, Endpoint.ResourceType type, UUID resourceId) {
+        return new EndpointRoute() {
+            public String getFullPath() { return fullPath; }
+            public String getResourceType() { return type.name(); }
+            public UUID getResourceId() { return resourceId; }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.util.RateLimitPathMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HotPathMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private RateLimitPathMatcher pathMatcher;
+    private HotPathMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pathMatcher = mock(RateLimitPathMatcher.class);
+        metrics = new HotPathMetrics(meterRegistry, pathMatcher);
+    }
+
+    @Test
+    void testStop_RecordsTimerTaggedByGroupAndOutcome() {
+        metrics.stop(metrics.start(), HotPathMetrics.SLUG_RESOLUTION, "public-mock", HotPathMetrics.SUCCESS);
+        metrics.stop(metrics.start(), HotPathMetrics.SLUG_RESOLUTION, "public-mock", HotPathMetrics.SUCCESS);
+        metrics.stop(metrics.start(), HotPathMetrics.SLUG_RESOLUTION, "public-mock", "not_found");
+
+        Timer success = meterRegistry.get(HotPathMetrics.SLUG_RESOLUTION)
+                .tag("group", "public-mock")
+                .tag("outcome", HotPathMetrics.SUCCESS)
+                .timer();
+        Timer notFound = meterRegistry.get(HotPathMetrics.SLUG_RESOLUTION)
+                .tag("outcome", "not_found")
+                .timer();
+
+        assertEquals(2, success.count());
+        assertEquals(1, notFound.count());
+    }
+
+    @Test
+    void testRecordBatchSize_RecordsSummaryNextToTimer() {
+        metrics.recordBatchSize(HotPathMetrics.RECORD_BULK_INSERT, "records", 40);
+        metrics.recordBatchSize(HotPathMetrics.RECORD_BULK_INSERT, "records", 10);
+
+        var summary = meterRegistry.get(HotPathMetrics.RECORD_BULK_INSERT + ".size")
+                .tag("group", "records")
+                .summary();
+
+        assertEquals(2, summary.count());
+        assertEquals(50.0, summary.totalAmount());
+    }
+
+    @Test
+    void testRouteGroup_FallsBackToGlobal() {
+        when(pathMatcher.match("/api/records/1"))
+                .thenReturn(new RateLimitPathMatcher.RateLimitMatch("records", null));
+
+        assertEquals("records", metrics.routeGroup("/api/records/1"));
+        assertEquals("global", metrics.routeGroup("/api/unknown"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.mockify.backend.infrastructure;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mockify.backend.model.MailOutboxMessage;
+import com.mockify.backend.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailOutboxRepository outboxRepository;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(MailOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDispatch_DeliversBatchAndMarksSent() throws Exception {
+        MailOutboxMessage first = message("alice@test.com", 0);
+        MailOutboxMessage second = message("bob@test.com", 0);
+        when(outboxRepository.lockDue(any(), eq(50))).thenReturn(List.of(first, second));
+        when(outboxRepository.countByStatus(MailOutboxMessage.Status.PENDING)).thenReturn(3L);
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(2));
+
+        MailOutboxDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort());
+
+        assertEquals(2, dispatcher.dispatch());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Subject for alice@test.com", received[0].getSubject());
+
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markSent(ids.capture(), any());
+        assertEquals(List.of(first.getId(), second.getId()), List.copyOf(ids.getValue()));
+        verify(outboxRepository, never()).scheduleRetry(any(), any(), any());
+
+        assertEquals(2.0, deliveries("sent"));
+        assertEquals(3.0, meterRegistry.get("mockify.mail.outbox.pending").gauge().value());
+        assertTrue(meterRegistry.get("mockify.mail.outbox.oldest_age").gauge().value() >= 120);
+    }
+
+    @Test
+    void testDispatch_SmtpDownSchedulesRetryWithBackoff() throws Exception {
+        MailOutboxMessage message = message("alice@test.com", 2);
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(message));
+
+        MailOutboxDispatcher dispatcher = dispatcher(unusedPort());
+        LocalDateTime before = LocalDateTime.now();
+
+        assertEquals(1, dispatcher.dispatch());
+
+        // Third attempt: 30s x 4
+        verify(outboxRepository).scheduleRetry(eq(message.getId()),
+                argThat(next -> !next.isBefore(before.plusSeconds(120))), anyString());
+        verify(outboxRepository, never()).markSent(any(), any());
+        assertEquals(3, message.getAttempts());
+        assertEquals(1.0, deliveries("retry"));
+    }
+
+    @Test
+    void testDispatch_LastAttemptMarksFailed() throws Exception {
+        MailOutboxMessage message = message("alice@test.com", 7);
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(message));
+
+        dispatcher(unusedPort()).dispatch();
+
+        verify(outboxRepository).markFailed(eq(message.getId()), anyString());
+        verify(outboxRepository, never()).scheduleRetry(any(), any(), any());
+        assertEquals(1.0, deliveries("failed"));
+    }
+
+    @Test
+    void testBackoff_DoublesUpToMax() {
+        MailOutboxDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort());
+
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofMinutes(16), dispatcher.backoff(6));
+        assertEquals(Duration.ofHours(1), dispatcher.backoff(20));
+    }
+
+    private MailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+
+        MailOutboxDispatcher dispatcher = new MailOutboxDispatcher(
+                outboxRepository, mailSender, mock(PlatformTransactionManager.class), meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "from", "Mockify <noreply@mockify.test>");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 8);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofHours(1));
+        ReflectionTestUtils.setField(dispatcher, "lease", Duration.ofMinutes(5));
+        dispatcher.init();
+        return dispatcher;
+    }
+
+    private double deliveries(String result) {
+        return meterRegistry.get("mockify.mail.outbox.deliveries").tag("result", result).counter().count();
+    }
+
+    private static MailOutboxMessage message(String to, int attempts) {
+        return MailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient(to)
+                .subject("Subject for " + to)
+                .htmlBody("<p>Hello</p>")
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static int unusedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.exception.BaseException;
+import com.mockify.backend.exception.InvalidOpenApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenApiParseGuardTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private OpenApiParseGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (guard != null) {
+            guard.shutdown();
+        }
+    }
+
+    @Test
+    void testRun_ReturnsResultAndReleasesBudget() {
+        guard = guard(Duration.ofSeconds(5), 100);
+
+        assertEquals("parsed", guard.run(5 * MB, () -> "parsed"));
+        assertEquals(100, guard.availableMb());
+    }
+
+    @Test
+    void testRun_PropagatesParserException() {
+        guard = guard(Duration.ofSeconds(5), 100);
+
+        InvalidOpenApiException ex = assertThrows(InvalidOpenApiException.class,
+                () -> guard.run(MB, () -> {
+                    throw new InvalidOpenApiException("Invalid spec");
+                }));
+
+        assertEquals("Invalid spec", ex.getMessage());
+        assertEquals(100, guard.availableMb());
+    }
+
+    @Test
+    void testRun_TimeoutKeepsReservationUntilParseEnds() throws Exception {
+        guard = guard(Duration.ofMillis(100), 100);
+
+        InvalidOpenApiException ex = assertThrows(InvalidOpenApiException.class,
+                () -> guard.run(2 * MB, this::blockUntilReleased));
+
+        assertTrue(ex.getMessage().contains("took longer than"));
+        // 2 MB x factor 10, still held by the background parse
+        assertEquals(80, guard.availableMb());
+
+        release.countDown();
+        awaitAvailable(100);
+    }
+
+    @Test
+    void testRun_RejectsWhenBudgetExhausted() throws Exception {
+        guard = guard(Duration.ofMillis(200), 100);
+
+        // Larger than the whole budget: capped, so it runs alone
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(
+                () -> guard.run(50 * MB, this::blockUntilReleased));
+        awaitAvailable(0);
+
+        BaseException ex = assertThrows(BaseException.class, () -> guard.run(MB, () -> "parsed"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+
+        release.countDown();
+        assertThrows(Exception.class, () -> running.get(5, TimeUnit.SECONDS));
+        awaitAvailable(100);
+        assertEquals("parsed", guard.run(MB, () -> "parsed"));
+    }
+
+    private static OpenApiParseGuard guard(Duration timeout, int budgetMb) {
+        return new OpenApiParseGuard(DataSize.ofMegabytes(50), timeout, DataSize.ofMegabytes(budgetMb), 10);
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+
+    private void awaitAvailable(int mb) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (guard.availableMb() != mb && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(mb, guard.availableMb());
+    }
+}
@@ -0,0 +1,117 @@
+package com.mockify.backend.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.dto.internal.ExtractedComponent;
+import com.mockify.backend.dto.internal.ExtractedSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OpenApiSpecCacheTest {
+
+    private static final ExtractedSpec SPEC = new ExtractedSpec(List.of(
+            ExtractedComponent.ready("User", "user", Map.of("id", "uuid")),
+            ExtractedComponent.skipped("Broken", "Unsupported type")
+    ), 250_000_000L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ValueOperations<String, String> redisValues;
+    private MeterRegistry meterRegistry;
+    private OpenApiSpecCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        redisValues = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(redisValues);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OpenApiSpecCache(redisTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "localMaxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(cache, "redisTtl", Duration.ofHours(1));
+        cache.init();
+    }
+
+    @Test
+    void testGetOrCompute_IdenticalContentExtractsOnce() {
+        AtomicInteger extractions = new AtomicInteger();
+
+        cache.getOrCompute(file("openapi: 3.0.3\ninfo: {}\n"), () -> {
+            extractions.incrementAndGet();
+            return SPEC;
+        });
+        // Same spec saved with a BOM and Windows line endings
+        ExtractedSpec second = cache.getOrCompute(file("\uFEFFopenapi: 3.0.3\r\ninfo: {}\r\n"), () -> {
+            extractions.incrementAndGet();
+            return SPEC;
+        });
+
+        assertEquals(1, extractions.get());
+        assertEquals(SPEC, second);
+        assertEquals(1.0, lookups("local_hit"));
+        assertEquals(1.0, lookups("miss"));
+        assertEquals(0.25, meterRegistry.get("mockify.openapi.spec_cache.time_saved").counter().count(), 1e-9);
+        verify(redisValues).set(startsWith("openapi:spec:" + OpenApiSpecCache.FORMAT_VERSION + ":"), anyString(), eq(Duration.ofHours(1)));
+    }
+
+    @Test
+    void testGetOrCompute_RedisHitSkipsExtraction() throws Exception {
+        when(redisValues.get(startsWith("openapi:spec:" + OpenApiSpecCache.FORMAT_VERSION + ":"))).thenReturn(objectMapper.writeValueAsString(SPEC));
+
+        ExtractedSpec spec = cache.getOrCompute(file("openapi: 3.0.3\n"), () -> fail("should not extract"));
+
+        assertEquals(SPEC, spec);
+        assertTrue(spec.components().get(1).isSkipped());
+        assertEquals(1.0, lookups("redis_hit"));
+    }
+
+    @Test
+    void testGetOrCompute_FailedExtractionIsNotCached() {
+        AtomicInteger extractions = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> cache.getOrCompute(file("openapi: bad"), () -> {
+                extractions.incrementAndGet();
+                throw new IllegalStateException("invalid spec");
+            }));
+        }
+
+        assertEquals(2, extractions.get());
+        verify(redisValues, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testDigest_DifferentContentDifferentKey() {
+        assertNotEquals(
+                OpenApiSpecCache.digest(file("openapi: 3.0.3\n")),
+                OpenApiSpecCache.digest(file("openapi: 3.1.0\n"))
+        );
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("mockify.openapi.spec_cache.lookups").tag("result", result).counter().count();
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "openapi.yaml", "application/x-yaml",
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+}
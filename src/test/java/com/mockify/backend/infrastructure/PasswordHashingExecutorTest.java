@@ -0,0 +1,124 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.exception.BaseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRun_ReturnsResultOnHashingThread() {
+        executor = executor(1, 4, Duration.ofSeconds(5));
+
+        String thread = executor.run(() -> Thread.currentThread().getName());
+
+        assertTrue(thread.startsWith("password-hash-"));
+        assertEquals(1, meterRegistry.get("mockify.password_hashing.duration").timer().count());
+    }
+
+    @Test
+    void testRun_PropagatesException() {
+        executor = executor(1, 4, Duration.ofSeconds(5));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> executor.run(() -> {
+                    throw new IllegalArgumentException("bad hash");
+                }));
+
+        assertEquals("bad hash", ex.getMessage());
+    }
+
+    @Test
+    void testRun_QueuedPastDeadlineRejectedAndNeverRuns() throws Exception {
+        executor = executor(1, 4, Duration.ofMillis(100));
+        CompletableFuture<String> busy = occupyOnlyThread();
+
+        AtomicBoolean ran = new AtomicBoolean();
+        BaseException ex = assertThrows(BaseException.class, () -> executor.run(() -> {
+            ran.set(true);
+            return "late";
+        }));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertEquals(1.0, rejected("timeout"));
+
+        release.countDown();
+        assertEquals("held", busy.get(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void testRun_QueueFullRejectedImmediately() throws Exception {
+        executor = executor(1, 1, Duration.ofSeconds(5));
+        CompletableFuture<String> busy = occupyOnlyThread();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.run(() -> "queued"));
+        awaitQueued(1);
+
+        long start = System.nanoTime();
+        BaseException ex = assertThrows(BaseException.class, () -> executor.run(() -> "rejected"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1.0, rejected("queue_full"));
+
+        release.countDown();
+        assertEquals("held", busy.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private PasswordHashingExecutor executor(int concurrency, int queueCapacity, Duration queueTimeout) {
+        return new PasswordHashingExecutor(concurrency, queueCapacity, queueTimeout, meterRegistry);
+    }
+
+    // Blocks the single hashing thread until release
+    private CompletableFuture<String> occupyOnlyThread() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> executor.run(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return busy;
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queued() != count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, executor.queued());
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("mockify.password_hashing.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.dto.internal.SystemTemplate;
+import com.mockify.backend.model.SchemaTemplate;
+import com.mockify.backend.repository.SchemaTemplateRepository;
+import com.mockify.backend.service.SchemaTemplateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SchemaTemplateCatalogTest {
+
+    private SchemaTemplateRepository schemaTemplateRepository;
+    private SchemaTemplateCatalog catalog;
+    private Consumer<String> changeHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        schemaTemplateRepository = mock(SchemaTemplateRepository.class);
+        CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+        when(schemaTemplateRepository.findBySystemTemplateTrue()).thenReturn(List.of(
+                template("User Profile", "user-profile")
+        ));
+
+        catalog = new SchemaTemplateCatalog(schemaTemplateRepository, invalidationBus, mock(PlatformTransactionManager.class));
+        catalog.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(SchemaTemplateService.SYSTEM_TEMPLATE_CACHE_NAME), captor.capture());
+        changeHandler = captor.getValue();
+    }
+
+    @Test
+    void testFind_ServedFromMemory() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("User Profile", catalog.find("user-profile").orElseThrow().name());
+        }
+        assertTrue(catalog.find("no-such-template").isEmpty());
+
+        verify(schemaTemplateRepository, times(1)).findBySystemTemplateTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSchemaJson_IsDeeplyImmutable() {
+        SystemTemplate template = catalog.find("user-profile").orElseThrow();
+        Map<String, Object> address = (Map<String, Object>) template.schemaJson().get("address");
+        List<Object> tags = (List<Object>) template.schemaJson().get("tags");
+
+        assertThrows(UnsupportedOperationException.class, () -> template.schemaJson().put("x", "string"));
+        assertThrows(UnsupportedOperationException.class, () -> address.put("zip", "string"));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add("string"));
+    }
+
+    @Test
+    void testChangeBroadcast_ReloadsCatalog() {
+        when(schemaTemplateRepository.findBySystemTemplateTrue()).thenReturn(List.of(
+                template("User Profile", "user-profile"),
+                template("Product", "product")
+        ));
+
+        changeHandler.accept("*");
+
+        assertTrue(catalog.find("product").isPresent());
+        assertEquals(List.of("user-profile", "product"),
+                catalog.all().stream().map(SystemTemplate::slug).toList());
+    }
+
+    private static SchemaTemplate template(String name, String slug) {
+        Map<String, Object> address = new LinkedHashMap<>();
+        address.put("city", "string");
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", "uuid");
+        json.put("address", address);
+        json.put("tags", new ArrayList<>(List.of("string")));
+
+        SchemaTemplate template = new SchemaTemplate();
+        template.setId(UUID.randomUUID());
+        template.setName(name);
+        template.setSlug(slug);
+        template.setSchemaJson(json);
+        template.setSystemTemplate(true);
+        return template;
+    }
+}
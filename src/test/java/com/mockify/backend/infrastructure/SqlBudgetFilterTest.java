@@ -0,0 +1,114 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.SqlBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetFilterTest {
+
+    private static final String SCHEMAS_PATTERN = "/api/{org}/{project}/schemas";
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    private SqlBudgetProperties properties;
+    private MeterRegistry meterRegistry;
+    private SqlBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqlBudgetProperties();
+        properties.getDefaults().setStatements(3);
+
+        SqlBudgetProperties.Route publicMock = new SqlBudgetProperties.Route();
+        publicMock.setPaths(List.of("/api/mock/**"));
+        publicMock.setStatements(1);
+        publicMock.setTime(Duration.ofSeconds(1));
+        properties.setRoutes(Map.of("public-mock", publicMock));
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlBudgetFilter(properties, meterRegistry);
+    }
+
+    @Test
+    void testFilter_AddsHeadersWhenEnabled() throws Exception {
+        properties.setHeaders(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/acme/shop/schemas"), response, statements(2, "{\"content\":[]}"));
+
+        assertEquals("2", response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER));
+        assertNotNull(response.getHeader(SqlBudgetFilter.TIME_HEADER));
+        assertEquals("{\"content\":[]}", response.getContentAsString());
+    }
+
+    @Test
+    void testFilter_NoHeadersByDefault() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/acme/shop/schemas"), response, statements(2, "[]"));
+
+        assertNull(response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER));
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void testFilter_RecordsMetricsPerRouteAndPattern() throws Exception {
+        filter.doFilter(request("/api/acme/shop/schemas"), new MockHttpServletResponse(), statements(2, ""));
+
+        var summary = meterRegistry.get("mockify.sql.statements")
+                .tag("route", "default")
+                .tag("uri", SCHEMAS_PATTERN)
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+        assertTrue(meterRegistry.find("mockify.sql.budget_exceeded").counters().isEmpty());
+    }
+
+    @Test
+    void testFilter_CountsBudgetExceededForMatchedRoute() throws Exception {
+        filter.doFilter(request("/api/mock/acme/shop/products"), new MockHttpServletResponse(), statements(2, ""));
+
+        assertEquals(1.0, meterRegistry.get("mockify.sql.budget_exceeded")
+                .tag("route", "public-mock")
+                .counter().count());
+    }
+
+    @Test
+    void testFilter_OuterScopeSeesRequestStatements() throws Exception {
+        try (SqlStatementStats outer = SqlStatementStats.open()) {
+            counter.inspect("select 1");
+            filter.doFilter(request("/api/acme/shop/schemas"), new MockHttpServletResponse(), statements(2, ""));
+
+            assertEquals(3, outer.statements());
+        }
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                path.startsWith("/api/mock") ? "/api/mock/**" : SCHEMAS_PATTERN);
+        return request;
+    }
+
+    // Stands in for a controller that runs `count` queries and writes a body
+    private FilterChain statements(int count, String body) {
+        return (req, res) -> {
+            for (int i = 0; i < count; i++) {
+                counter.inspect("select * from mock_schemas");
+            }
+            res.getWriter().write(body);
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.mockify.backend.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement-count assertions for integration tests.
+ *
+ * <pre>
+ *   SqlStatementAssertions.assertMaxStatements(6, () -&gt;
+ *           mockMvc.perform(get("/api/{org}/{project}/schemas", ...)))
+ *       .andExpect(status().isOk());
+ * </pre>
+ *
+ * <p>Counts every statement Hibernate prepares on the calling thread while
+ * {@code call} runs, including the security filters when it is a MockMvc call.
+ * Clear the persistence context first if the test saved fixtures in the same
+ * transaction, or entity loads may be served from it.</p>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, SqlCall<T> call) throws Exception {
+        try (SqlStatementStats stats = SqlStatementStats.open()) {
+            T result = call.run();
+            assertThat(stats.statements())
+                    .as("SQL statements prepared (max %d)", max)
+                    .isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    public interface SqlCall<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,177 @@
+package com.mockify.backend.repository;
+
+import com.mockify.backend.model.*;
+import com.mockify.backend.service.EndpointService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the ltree-backed endpoint queries (V14) against the test database:
+ * the set-based full_path rewrite, the trigger that mirrors full_path into
+ * path, and the subtree / ancestor lookups.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EndpointHierarchyIntegrationTest {
+
+    @Autowired EndpointService endpointService;
+    @Autowired EndpointRepository endpointRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired MockSchemaRepository mockSchemaRepository;
+    @Autowired EntityManager entityManager;
+
+    private Organization organization;
+    private Project project;
+    private Project otherProject;
+    private MockSchema users;
+    private MockSchema orders;
+    private MockSchema otherSchema;
+
+    @BeforeEach
+    void setUp() {
+        User owner   = userRepository.save(buildUser("ltree-owner-" + UUID.randomUUID() + "@test.com"));
+        organization = organizationRepository.save(buildOrg("acme-" + suffix(), owner));
+        project      = projectRepository.save(buildProject("shop-" + suffix(), organization));
+        otherProject = projectRepository.save(buildProject("blog-" + suffix(), organization));
+        users        = mockSchemaRepository.save(buildSchema("users-" + suffix(), project));
+        orders       = mockSchemaRepository.save(buildSchema("orders-" + suffix(), project));
+        otherSchema  = mockSchemaRepository.save(buildSchema("posts-" + suffix(), otherProject));
+
+        endpointService.createEndpoint(organization);
+        endpointService.createEndpoint(project);
+        endpointService.createEndpoint(otherProject);
+        endpointService.createEndpoint(users);
+        endpointService.createEndpoint(orders);
+        endpointService.createEndpoint(otherSchema);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void insert_mirrorsFullPathIntoLtree() {
+        assertThat(ltreePath(schemaPath(project, users)))
+                .isEqualTo(organization.getSlug() + "." + project.getSlug() + "." + users.getSlug());
+    }
+
+    @Test
+    void rename_rewritesDescendantsAndTheirLtreePaths() {
+        String renamed = "renamed-" + suffix();
+
+        endpointService.updateEndpointSlug(project.getId(), "project", renamed);
+        entityManager.flush();
+        entityManager.clear();
+
+        String newProjectPath = organization.getSlug() + "/" + renamed;
+        assertThat(endpointRepository.findByFullPath(newProjectPath)).isPresent();
+        assertThat(endpointRepository.findByFullPath(newProjectPath + "/" + users.getSlug())).isPresent();
+        assertThat(endpointRepository.findByFullPath(newProjectPath + "/" + orders.getSlug())).isPresent();
+        assertThat(endpointRepository.findByFullPath(schemaPath(project, users))).isEmpty();
+
+        // The trigger kept path in step with the bulk UPDATE
+        assertThat(ltreePath(newProjectPath + "/" + users.getSlug()))
+                .isEqualTo(organization.getSlug() + "." + renamed + "." + users.getSlug());
+
+        // The sibling project was not touched
+        assertThat(endpointRepository.findByFullPath(schemaPath(otherProject, otherSchema))).isPresent();
+    }
+
+    @Test
+    void rename_onlyMatchesWholeLabels() {
+        // "<project>x" shares the text prefix of the renamed project but is not below it
+        Project lookalike = projectRepository.save(buildProject(project.getSlug() + "x", organization));
+        endpointService.createEndpoint(lookalike);
+        entityManager.flush();
+
+        endpointService.updateEndpointSlug(project.getId(), "project", "renamed-" + suffix());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(endpointRepository.findByFullPath(organization.getSlug() + "/" + lookalike.getSlug())).isPresent();
+    }
+
+    @Test
+    void findSubtreeAtDepth_returnsOnlyThatLevel() {
+        List<String> schemas = fullPaths(endpointRepository.findSubtreeAtDepth(organization.getSlug(), 3));
+        assertThat(schemas).containsExactly(
+                schemaPath(otherProject, otherSchema),
+                schemaPath(project, orders),
+                schemaPath(project, users));
+
+        List<String> projects = fullPaths(endpointRepository.findSubtreeAtDepth(organization.getSlug(), 2));
+        assertThat(projects).containsExactly(
+                organization.getSlug() + "/" + otherProject.getSlug(),
+                organization.getSlug() + "/" + project.getSlug());
+
+        String projectPath = organization.getSlug() + "/" + project.getSlug();
+        assertThat(fullPaths(endpointRepository.findSubtreeAtDepth(projectPath, 3)))
+                .containsExactly(schemaPath(project, orders), schemaPath(project, users));
+    }
+
+    @Test
+    void findAncestors_returnsRootFirstWithoutSelf() {
+        List<String> ancestors = fullPaths(endpointRepository.findAncestors(schemaPath(project, users)));
+
+        assertThat(ancestors).containsExactly(
+                organization.getSlug(),
+                organization.getSlug() + "/" + project.getSlug());
+    }
+
+    @Test
+    void findAncestors_ofOrganizationIsEmpty() {
+        assertThat(endpointRepository.findAncestors(organization.getSlug())).isEmpty();
+    }
+
+    private String ltreePath(String fullPath) {
+        return (String) entityManager
+                .createNativeQuery("SELECT path::text FROM endpoints WHERE full_path = :fullPath")
+                .setParameter("fullPath", fullPath)
+                .getSingleResult();
+    }
+
+    private String schemaPath(Project p, MockSchema s) {
+        return organization.getSlug() + "/" + p.getSlug() + "/" + s.getSlug();
+    }
+
+    private static List<String> fullPaths(List<Endpoint> endpoints) {
+        return endpoints.stream().map(Endpoint::getFullPath).toList();
+    }
+
+    // Slugs must be unique across test runs sharing the database
+    private static String suffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private User buildUser(String email) {
+        User u = new User(); u.setName("Test"); u.setEmail(email);
+        u.setPassword("hashed"); u.setProviderName("local"); u.setEmailVerified(true);
+        return u;
+    }
+    private Organization buildOrg(String slug, User owner) {
+        Organization o = new Organization(); o.setName(slug); o.setSlug(slug); o.setOwner(owner);
+        return o;
+    }
+    private Project buildProject(String slug, Organization org) {
+        Project p = new Project(); p.setName(slug); p.setSlug(slug); p.setOrganization(org);
+        return p;
+    }
+    private MockSchema buildSchema(String slug, Project project) {
+        MockSchema s = new MockSchema(); s.setName(slug); s.setSlug(slug);
+        s.setSchemaJson(Map.of("field", "string")); s.setProject(project);
+        return s;
+    }
+}
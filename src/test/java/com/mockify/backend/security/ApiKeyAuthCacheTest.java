@@ -0,0 +1,173 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.model.*;
+import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApiKeyAuthCacheTest {
+
+    private static final String RAW_KEY = "mk_live_" + "a".repeat(43);
+
+    private CacheInvalidationBus invalidationBus;
+    private ApiKeyAuthCache cache;
+    private Consumer<String> evictionHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new ApiKeyAuthCache(new ApiKeyConfig(), invalidationBus);
+        cache.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(ApiKeyAuthCache.CACHE_NAME), captor.capture());
+        evictionHandler = captor.getValue();
+    }
+
+    @Test
+    void testMissBeforePut() {
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testPutThenGet_ReturnsSnapshot() {
+        ApiKey key = buildKey(LocalDateTime.now().plusDays(1));
+
+        cache.put(RAW_KEY, key, cache.generation());
+        ApiKeyAuthCache.VerifiedKey hit = cache.get(RAW_KEY);
+
+        assertNotNull(hit);
+        assertEquals(key.getId(), hit.apiKeyId());
+        assertEquals(key.getOrganization().getId(), hit.organizationId());
+        assertEquals(key.getCreatedBy().getId(), hit.ownerId());
+        assertNull(hit.projectId());
+        assertEquals(1, hit.permissions().size());
+        assertEquals(250, hit.rateLimitPerMinute());
+    }
+
+    @Test
+    void testSnapshotIsDetachedFromEntity() {
+        ApiKey key = buildKey(null);
+        cache.put(RAW_KEY, key, cache.generation());
+
+        key.getPermissions().clear();
+
+        assertEquals(1, cache.get(RAW_KEY).permissions().size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> cache.get(RAW_KEY).permissions().clear());
+    }
+
+    @Test
+    void testDifferentKeyMisses() {
+        cache.put(RAW_KEY, buildKey(null), cache.generation());
+
+        assertNull(cache.get("mk_live_" + "b".repeat(43)));
+    }
+
+    @Test
+    void testExpiredKeyIsDropped() {
+        cache.put(RAW_KEY, buildKey(LocalDateTime.now().minusSeconds(1)), cache.generation());
+
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testInvalidatePublishesAndHandlerEvicts() {
+        ApiKey key = buildKey(null);
+        cache.put(RAW_KEY, key, cache.generation());
+
+        cache.invalidate(key.getId());
+        verify(invalidationBus).publish(ApiKeyAuthCache.CACHE_NAME, key.getId().toString());
+
+        // Simulate the broadcast arriving on this node
+        evictionHandler.accept(key.getId().toString());
+
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testPutAfterConcurrentEvictionIsNotCached() {
+        ApiKey key = buildKey(null);
+        long generation = cache.generation();
+
+        // Revoke committed and was broadcast while the request was loading the key
+        evictionHandler.accept(key.getId().toString());
+
+        ApiKeyAuthCache.VerifiedKey snapshot = cache.put(RAW_KEY, key, generation);
+
+        assertEquals(key.getId(), snapshot.apiKeyId());
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testInvalidateOrganizationEvictsItsKeys() {
+        ApiKey key = buildKey(null);
+        cache.put(RAW_KEY, key, cache.generation());
+
+        cache.invalidateOrganization(key.getOrganization().getId());
+        verify(invalidationBus).publish(ApiKeyAuthCache.CACHE_NAME, "organization:" + key.getOrganization().getId());
+
+        evictionHandler.accept("organization:" + key.getOrganization().getId());
+
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testInvalidateProjectKeepsOrgLevelKeys() {
+        cache.put(RAW_KEY, buildKey(null), cache.generation());
+
+        evictionHandler.accept("project:" + UUID.randomUUID());
+
+        assertNotNull(cache.get(RAW_KEY));
+    }
+
+    @Test
+    void testInvalidateOwnerEvictsKeysTheyCreated() {
+        ApiKey key = buildKey(null);
+        cache.put(RAW_KEY, key, cache.generation());
+
+        cache.invalidateOwner(key.getCreatedBy().getId());
+        verify(invalidationBus).publish(ApiKeyAuthCache.CACHE_NAME, "owner:" + key.getCreatedBy().getId());
+
+        evictionHandler.accept("owner:" + UUID.randomUUID());
+        assertNotNull(cache.get(RAW_KEY));
+
+        evictionHandler.accept("owner:" + key.getCreatedBy().getId());
+        assertNull(cache.get(RAW_KEY));
+    }
+
+    private ApiKey buildKey(LocalDateTime expiresAt) {
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+
+        Organization org = new Organization();
+        org.setId(UUID.randomUUID());
+
+        ApiKey key = ApiKey.builder()
+                .id(UUID.randomUUID())
+                .organization(org)
+                .createdBy(owner)
+                .expiresAt(expiresAt)
+                .rateLimitPerMinute(250)
+                .build();
+
+        key.addPermission(ApiKeyPermission.builder()
+                .permission(ApiPermission.READ)
+                .resourceType(ApiResourceType.RECORD)
+                .build());
+        return key;
+    }
+}
@@ -0,0 +1,95 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.model.ApiKeyPermission;
+import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiKeyAuthenticationTokenTest {
+
+    private static ApiKeyPermission grant(ApiPermission level, ApiResourceType type, UUID resourceId) {
+        return ApiKeyPermission.builder()
+                .permission(level)
+                .resourceType(type)
+                .resourceId(resourceId)
+                .build();
+    }
+
+    private static ApiKeyAuthenticationToken token(ApiKeyPermission... grants) {
+        return new ApiKeyAuthenticationToken(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null,
+                List.of(grants), List.of());
+    }
+
+    @Test
+    void testWildcardGrant_RespectsHierarchy() {
+        ApiKeyAuthenticationToken token = token(grant(ApiPermission.DELETE, ApiResourceType.SCHEMA, null));
+
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, null));
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.WRITE, UUID.randomUUID()));
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.DELETE, null));
+        assertFalse(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.ADMIN, null));
+        assertFalse(token.hasPermission(ApiResourceType.RECORD, ApiPermission.READ, null));
+    }
+
+    @Test
+    void testScopedGrant_OnlyMatchesItsResource() {
+        UUID schemaId = UUID.randomUUID();
+        ApiKeyAuthenticationToken token = token(grant(ApiPermission.WRITE, ApiResourceType.SCHEMA, schemaId));
+
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.WRITE, schemaId));
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, schemaId));
+        assertFalse(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.DELETE, schemaId));
+        assertFalse(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, UUID.randomUUID()));
+        // Collection ops pass a null ID and need a wildcard grant
+        assertFalse(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, null));
+        // Same ID under another type does not match
+        assertFalse(token.hasPermission(ApiResourceType.RECORD, ApiPermission.READ, schemaId));
+    }
+
+    @Test
+    void testMultipleGrants_HighestLevelWins() {
+        UUID recordId = UUID.randomUUID();
+        ApiKeyAuthenticationToken token = token(
+                grant(ApiPermission.READ, ApiResourceType.RECORD, null),
+                grant(ApiPermission.ADMIN, ApiResourceType.RECORD, recordId),
+                grant(ApiPermission.WRITE, ApiResourceType.RECORD, recordId),
+                grant(ApiPermission.WRITE, ApiResourceType.RECORD, null)
+        );
+
+        assertTrue(token.hasPermission(ApiResourceType.RECORD, ApiPermission.WRITE, null));
+        assertFalse(token.hasPermission(ApiResourceType.RECORD, ApiPermission.DELETE, null));
+        assertTrue(token.hasPermission(ApiResourceType.RECORD, ApiPermission.ADMIN, recordId));
+    }
+
+    @Test
+    void testNoPermissions_DeniesEverything() {
+        ApiKeyAuthenticationToken token = token();
+
+        for (ApiResourceType type : ApiResourceType.values()) {
+            assertFalse(token.hasPermission(type, ApiPermission.READ, null));
+            assertFalse(token.hasPermission(type, ApiPermission.READ, UUID.randomUUID()));
+        }
+    }
+
+    @Test
+    void testVerifiedKeyToken_UsesSnapshotGrants() {
+        UUID schemaId = UUID.randomUUID();
+        List<ApiKeyPermission> permissions = List.of(grant(ApiPermission.WRITE, ApiResourceType.SCHEMA, schemaId));
+        ApiKeyAuthCache.VerifiedKey verified = new ApiKeyAuthCache.VerifiedKey(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), null,
+                permissions, ApiKeyGrants.compile(permissions), 250, null);
+
+        ApiKeyAuthenticationToken token = new ApiKeyAuthenticationToken(verified, List.of());
+
+        assertEquals(verified.apiKeyId().toString(), token.getPrincipal());
+        assertEquals(250, token.getRateLimitPerMinute());
+        assertTrue(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, schemaId));
+        assertFalse(token.hasPermission(ApiResourceType.SCHEMA, ApiPermission.READ, UUID.randomUUID()));
+    }
+}
@@ -162,6 +162,51 @@ class ApiKeyCryptoServiceTest {
         assertFalse(cryptoService.verifyApiKey(apiKey, hash, null));
     }
 
+    @Test
+    void testVerifyApiKey_MalformedStoredHash() {
+        String apiKey = cryptoService.generateApiKey(false);
+
+        assertFalse(cryptoService.verifyApiKey(apiKey, "not-a-hex-hash", TEST_SECRET));
+        assertFalse(cryptoService.verifyApiKey(apiKey, "z".repeat(64), TEST_SECRET));
+        assertFalse(cryptoService.verifyApiKey(apiKey, "", TEST_SECRET));
+    }
+
+    @Test
+    void testVerifyApiKey_AlternatingSecretsOnSameThread() {
+        // The per-thread Mac is re-keyed only when the secret changes
+        String apiKey = cryptoService.generateApiKey(false);
+        String hash1 = cryptoService.hashApiKey(apiKey, "secret1");
+        String hash2 = cryptoService.hashApiKey(apiKey, "secret2");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cryptoService.verifyApiKey(apiKey, hash1, "secret1"));
+            assertTrue(cryptoService.verifyApiKey(apiKey, hash2, "secret2"));
+            assertFalse(cryptoService.verifyApiKey(apiKey, hash1, "secret2"));
+        }
+    }
+
+    @Test
+    void testHashApiKey_ConsistentAcrossThreads() throws Exception {
+        String apiKey = cryptoService.generateApiKey(false);
+        String expected = cryptoService.hashApiKey(apiKey, TEST_SECRET);
+
+        String[] fromOtherThread = new String[1];
+        Thread thread = new Thread(() ->
+                fromOtherThread[0] = cryptoService.hashApiKey(apiKey, TEST_SECRET));
+        thread.start();
+        thread.join();
+
+        assertEquals(expected, fromOtherThread[0]);
+    }
+
+    @Test
+    void testHashApiKey_NonAsciiInput() {
+        String hash = cryptoService.hashApiKey("clé-ü", TEST_SECRET);
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, cryptoService.hashApiKey("clé-ü", TEST_SECRET));
+    }
+
     // -------------------------------
     // Prefix Extraction Tests
     // -------------------------------
@@ -273,6 +318,28 @@ class ApiKeyCryptoServiceTest {
         assertNotEquals(secret1, secret2);
     }
 
+    @Test
+    void testGenerateOrgSecret_DifferentGlobalSecrets() {
+        String orgId = "550e8400-e29b-41d4-a716-446655440000";
+
+        String secret1 = cryptoService.generateOrgSecret(orgId, "global1");
+        String secret2 = cryptoService.generateOrgSecret(orgId, "global2");
+
+        assertNotEquals(secret1, secret2);
+    }
+
+    @Test
+    void testGenerateOrgSecret_MatchesUncachedDerivation() {
+        String orgId = "550e8400-e29b-41d4-a716-446655440000";
+
+        cryptoService.generateOrgSecret(orgId, TEST_SECRET); // warm the cache
+
+        assertEquals(
+                cryptoService.hashApiKey(orgId + ":api-key", TEST_SECRET),
+                cryptoService.generateOrgSecret(orgId, TEST_SECRET)
+        );
+    }
+
     // -------------------------------
     // End-to-End Workflow
     // -------------------------------
@@ -0,0 +1,92 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.exception.JwtTokenExpiredException;
+import com.mockify.backend.exception.JwtTokenInvalidException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "af84c6a92b8d5f4e1c7d92a6e6a1c56a4e9f45bba782cd51e2e1f67a9c34b12f";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "verifyCacheTtl", Duration.ofSeconds(5));
+        provider.init();
+    }
+
+    @Test
+    void testVerifyAccessToken_ReturnsTypedClaims() {
+        UUID userId = UUID.randomUUID();
+        String token = provider.generateAccessToken(userId, UserRole.ADMIN);
+
+        JwtClaims claims = provider.verifyAccessToken(token);
+
+        assertEquals(userId, claims.userId());
+        assertEquals(UserRole.ADMIN, claims.role());
+        assertEquals("access", claims.type());
+        assertEquals(provider.getJti(token), claims.jti());
+        assertTrue(claims.expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void testVerifyAccessToken_CachedResultIsReused() {
+        String token = provider.generateAccessToken(UUID.randomUUID(), UserRole.USER);
+
+        assertSame(provider.verifyAccessToken(token), provider.verifyAccessToken(token));
+    }
+
+    @Test
+    void testVerifyAccessToken_RejectsRefreshToken() {
+        String refresh = provider.generateRefreshToken(UUID.randomUUID(), UserRole.USER);
+
+        assertThrows(JwtTokenInvalidException.class, () -> provider.verifyAccessToken(refresh));
+        assertNotNull(provider.verifyRefreshToken(refresh));
+    }
+
+    @Test
+    void testVerifyAccessToken_RejectsTamperedToken() {
+        String token = provider.generateAccessToken(UUID.randomUUID(), UserRole.USER);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(JwtTokenInvalidException.class, () -> provider.verifyAccessToken(tampered));
+        assertThrows(JwtTokenInvalidException.class, () -> provider.verifyAccessToken("not.a.jwt"));
+    }
+
+    @Test
+    void testVerifyAccessToken_RejectsExpiredToken() {
+        Instant past = Instant.now().minus(Duration.ofHours(1));
+        String expired = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer("mockify-api")
+                .audience().add("mockify-web").and()
+                .issuedAt(Date.from(past))
+                .expiration(Date.from(past.plusSeconds(60)))
+                .id(UUID.randomUUID().toString())
+                .claim("type", "access")
+                .claim("role", UserRole.USER.name())
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        assertThrows(JwtTokenExpiredException.class, () -> provider.verifyAccessToken(expired));
+        assertFalse(provider.validateAccessToken(expired));
+    }
+}
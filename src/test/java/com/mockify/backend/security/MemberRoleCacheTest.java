@@ -0,0 +1,94 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MemberRoleCacheTest {
+
+    private CacheInvalidationBus invalidationBus;
+    private MemberRoleCache cache;
+    private Consumer<String> evictionHandler;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new MemberRoleCache(invalidationBus);
+        cache.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(MemberRoleCache.CACHE_NAME), captor.capture());
+        evictionHandler = captor.getValue();
+    }
+
+    @Test
+    void testHit_DoesNotCallLoader() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Optional.of(MemberRole.ADMIN), cache.get(orgId, userId, () -> {
+                loads.incrementAndGet();
+                return Optional.of(MemberRole.ADMIN);
+            }));
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testNonMember_IsCachedAsNegativeEntry() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(orgId, userId, () -> { loads.incrementAndGet(); return Optional.empty(); });
+        Optional<MemberRole> second =
+                cache.get(orgId, userId, () -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertTrue(second.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvict_PublishesAndHandlerDropsEntry() {
+        cache.get(orgId, userId, () -> Optional.of(MemberRole.ADMIN));
+
+        cache.evict(orgId, userId);
+        verify(invalidationBus).publish(MemberRoleCache.CACHE_NAME, orgId + ":" + userId);
+
+        evictionHandler.accept(orgId + ":" + userId);
+
+        assertEquals(Optional.of(MemberRole.VIEWER),
+                cache.get(orgId, userId, () -> Optional.of(MemberRole.VIEWER)));
+    }
+
+    @Test
+    void testEvictOrganization_DropsOnlyThatOrganization() {
+        UUID otherUser = UUID.randomUUID();
+        UUID otherOrg = UUID.randomUUID();
+        cache.get(orgId, userId, () -> Optional.of(MemberRole.ADMIN));
+        cache.get(orgId, otherUser, () -> Optional.of(MemberRole.DEVELOPER));
+        cache.get(otherOrg, userId, () -> Optional.of(MemberRole.OWNER));
+
+        cache.evictOrganization(orgId);
+        verify(invalidationBus).publish(MemberRoleCache.CACHE_NAME, orgId + ":*");
+        evictionHandler.accept(orgId + ":*");
+
+        assertTrue(cache.get(orgId, userId, Optional::empty).isEmpty());
+        assertTrue(cache.get(orgId, otherUser, Optional::empty).isEmpty());
+        assertEquals(Optional.of(MemberRole.OWNER), cache.get(otherOrg, userId, Optional::empty));
+    }
+}
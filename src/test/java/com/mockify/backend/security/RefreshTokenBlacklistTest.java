@@ -0,0 +1,157 @@
+package com.mockify.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenBlacklistTest {
+
+    private StringRedisTemplate redis;
+    private RedisMessageListenerContainer listenerContainer;
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenBlacklist blacklist;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        when(redis.opsForValue()).thenReturn(mock(ValueOperations.class));
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        when(listenerContainer.isListening()).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+
+        blacklist = new RefreshTokenBlacklist(redis, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(blacklist, "bloomEnabled", true);
+        ReflectionTestUtils.setField(blacklist, "bucketWidth", Duration.ofHours(6));
+        ReflectionTestUtils.setField(blacklist, "expectedPerBucket", 1000L);
+        ReflectionTestUtils.setField(blacklist, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(blacklist, "resyncMs", 300_000L);
+        blacklist.init();
+    }
+
+    @Test
+    void beforeFirstSeed_everyLookupGoesToRedis() {
+        when(redis.hasKey("blacklist:refresh:jti-1")).thenReturn(true);
+
+        assertTrue(blacklist.isBlacklisted("jti-1"));
+        verify(redis).hasKey("blacklist:refresh:jti-1");
+    }
+
+    @Test
+    void unknownJti_skipsRedisWhileSubscribedSinceResync() {
+        seedWith(List.of());
+
+        assertFalse(blacklist.isBlacklisted("never-blacklisted"));
+
+        verify(redis, never()).hasKey(anyString());
+        assertEquals(1.0, lookups("bloom_negative"));
+    }
+
+    @Test
+    void unknownJti_isCheckedInRedisAfterResubscribe() {
+        seedWith(List.of());
+        // Reconnected: broadcasts sent while disconnected were lost
+        subscriptionListener().onChannelSubscribed(RefreshTokenBlacklist.ADDED_CHANNEL.getBytes(), 1);
+        when(redis.hasKey("blacklist:refresh:missed-jti")).thenReturn(true);
+
+        assertTrue(blacklist.isBlacklisted("missed-jti"));
+        assertEquals(1.0, lookups("bloom_negative_checked"));
+
+        // The next resync picks the missed jti up and trusts the filter again
+        seedWith(List.of("blacklist:refresh:missed-jti"));
+        assertFalse(blacklist.isBlacklisted("never-blacklisted"));
+        assertEquals(1.0, lookups("bloom_negative"));
+    }
+
+    @Test
+    void unknownJti_isCheckedInRedisWhenNotListening() {
+        seedWith(List.of());
+        when(listenerContainer.isListening()).thenReturn(false);
+
+        assertFalse(blacklist.isBlacklisted("never-blacklisted"));
+
+        verify(redis).hasKey("blacklist:refresh:never-blacklisted");
+        assertEquals(0.0, lookups("bloom_negative"));
+    }
+
+    @Test
+    void unknownJti_isCheckedInRedisAfterMissedResync() {
+        seedWith(List.of());
+        ReflectionTestUtils.setField(blacklist, "lastResyncAt", System.currentTimeMillis() - 600_001L);
+
+        assertFalse(blacklist.isBlacklisted("never-blacklisted"));
+
+        verify(redis).hasKey("blacklist:refresh:never-blacklisted");
+    }
+
+    @Test
+    void seededJti_isConfirmedInRedis() {
+        seedWith(List.of("blacklist:refresh:old-jti"));
+        when(redis.hasKey("blacklist:refresh:old-jti")).thenReturn(true);
+
+        assertTrue(blacklist.isBlacklisted("old-jti"));
+        assertEquals(1.0, lookups("confirmed"));
+    }
+
+    @Test
+    void newlyBlacklistedJti_isVisibleImmediatelyAndBroadcast() {
+        seedWith(List.of());
+        when(redis.hasKey("blacklist:refresh:new-jti")).thenReturn(true);
+
+        blacklist.blacklist("new-jti", Duration.ofDays(1));
+
+        assertTrue(blacklist.isBlacklisted("new-jti"));
+        verify(redis).convertAndSend(eq(RefreshTokenBlacklist.ADDED_CHANNEL), startsWith("new-jti|"));
+    }
+
+    @Test
+    void gaugesReportMemoryAndFalsePositiveRate() {
+        seedWith(List.of("blacklist:refresh:a"));
+
+        assertTrue(meterRegistry.get("mockify.refresh_blacklist.bloom.memory").gauge().value() > 0);
+        assertTrue(meterRegistry.get("mockify.refresh_blacklist.bloom.false_positive_rate").gauge().value() >= 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void seedWith(List<String> keys) {
+        Iterator<String> it = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        doAnswer(inv -> {
+            Consumer<String> action = inv.getArgument(0);
+            it.forEachRemaining(action);
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        when(redis.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        blacklist.resync();
+    }
+
+    private SubscriptionListener subscriptionListener() {
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(ChannelTopic.class));
+        return (SubscriptionListener) captor.getValue();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("mockify.refresh_blacklist.lookups").tag("result", result).counter().count();
+    }
+}
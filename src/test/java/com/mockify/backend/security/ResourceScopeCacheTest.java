@@ -0,0 +1,148 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.dto.internal.ResourceScope;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ResourceScopeCacheTest {
+
+    private final UUID orgA = UUID.randomUUID();
+    private final UUID orgB = UUID.randomUUID();
+    private final UUID projectA1 = UUID.randomUUID();
+    private final UUID projectA2 = UUID.randomUUID();
+
+    private CacheInvalidationBus invalidationBus;
+    private ResourceScopeCache cache;
+    private Consumer<String> evictionHandler;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new ResourceScopeCache(invalidationBus);
+        cache.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(ResourceScopeCache.CACHE_NAME), captor.capture());
+        evictionHandler = captor.getValue();
+
+        // Route publishes straight to the handler, as the bus does outside a transaction
+        doAnswer(inv -> {
+            evictionHandler.accept(inv.getArgument(1));
+            return null;
+        }).when(invalidationBus).publish(eq(ResourceScopeCache.CACHE_NAME), anyString());
+
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_LoadsOnceThenHits() {
+        UUID schemaId = UUID.randomUUID();
+
+        assertEquals(new ResourceScope(orgA, projectA1), load(ApiResourceType.SCHEMA, schemaId, orgA, projectA1));
+        load(ApiResourceType.SCHEMA, schemaId, orgA, projectA1);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_MissingResourceIsNotCached() {
+        UUID id = UUID.randomUUID();
+
+        assertNull(cache.get(ApiResourceType.RECORD, id, i -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get(ApiResourceType.RECORD, id, i -> { loads.incrementAndGet(); return null; }));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictOrganization_DropsAllChildrenOfThatOrgOnly() {
+        UUID schemaA = UUID.randomUUID();
+        UUID recordA = UUID.randomUUID();
+        UUID schemaB = UUID.randomUUID();
+        load(ApiResourceType.ORGANIZATION, orgA, orgA, null);
+        load(ApiResourceType.PROJECT, projectA1, orgA, projectA1);
+        load(ApiResourceType.SCHEMA, schemaA, orgA, projectA1);
+        load(ApiResourceType.RECORD, recordA, orgA, projectA1);
+        load(ApiResourceType.SCHEMA, schemaB, orgB, UUID.randomUUID());
+
+        cache.evictOrganization(orgA);
+        loads.set(0);
+
+        load(ApiResourceType.ORGANIZATION, orgA, orgA, null);
+        load(ApiResourceType.PROJECT, projectA1, orgA, projectA1);
+        load(ApiResourceType.SCHEMA, schemaA, orgA, projectA1);
+        load(ApiResourceType.RECORD, recordA, orgA, projectA1);
+        assertEquals(4, loads.get());
+
+        load(ApiResourceType.SCHEMA, schemaB, orgB, null);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testEvictProject_KeepsSiblingProjectsAndOrg() {
+        UUID schemaA1 = UUID.randomUUID();
+        UUID schemaA2 = UUID.randomUUID();
+        load(ApiResourceType.ORGANIZATION, orgA, orgA, null);
+        load(ApiResourceType.SCHEMA, schemaA1, orgA, projectA1);
+        load(ApiResourceType.SCHEMA, schemaA2, orgA, projectA2);
+
+        cache.evictProject(projectA1);
+        loads.set(0);
+
+        load(ApiResourceType.SCHEMA, schemaA1, orgA, projectA1);
+        assertEquals(1, loads.get());
+
+        load(ApiResourceType.ORGANIZATION, orgA, orgA, null);
+        load(ApiResourceType.SCHEMA, schemaA2, orgA, projectA2);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictSchema_DoesNotTouchItsRecords() {
+        UUID schemaId = UUID.randomUUID();
+        UUID recordId = UUID.randomUUID();
+        load(ApiResourceType.SCHEMA, schemaId, orgA, projectA1);
+        load(ApiResourceType.RECORD, recordId, orgA, projectA1);
+
+        cache.evictSchema(schemaId);
+        loads.set(0);
+
+        load(ApiResourceType.RECORD, recordId, orgA, projectA1);
+        assertEquals(0, loads.get());
+        load(ApiResourceType.SCHEMA, schemaId, orgA, projectA1);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testRemoteEviction_AppliesLocally() {
+        UUID recordId = UUID.randomUUID();
+        load(ApiResourceType.RECORD, recordId, orgA, projectA1);
+
+        evictionHandler.accept("RECORD:" + recordId);
+        loads.set(0);
+
+        load(ApiResourceType.RECORD, recordId, orgA, projectA1);
+        assertEquals(1, loads.get());
+    }
+
+    private ResourceScope load(ApiResourceType type, UUID id, UUID orgId, UUID projectId) {
+        return cache.get(type, id, i -> {
+            loads.incrementAndGet();
+            return new ResourceScope(orgId, projectId);
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.mockify.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScrapeSecretEncoderTest {
+
+    private final ScrapeSecretEncoder encoder = new ScrapeSecretEncoder();
+
+    @Test
+    void testMatches_AcceptsOnlyTheEncodedSecret() {
+        String encoded = encoder.encode("scrape-secret");
+
+        assertTrue(encoder.matches("scrape-secret", encoded));
+        assertFalse(encoder.matches("scrape-secreT", encoded));
+        assertFalse(encoder.matches("", encoded));
+    }
+
+    @Test
+    void testMatches_RejectsMalformedOrMissingHash() {
+        assertFalse(encoder.matches("scrape-secret", "not-hex"));
+        assertFalse(encoder.matches("scrape-secret", null));
+        assertFalse(encoder.matches(null, encoder.encode("scrape-secret")));
+    }
+}
@@ -0,0 +1,204 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.model.*;
+import com.mockify.backend.repository.*;
+import com.mockify.backend.service.DashboardService;
+import com.mockify.backend.service.MockRecordService;
+import com.mockify.backend.service.MockSchemaService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.mockify.backend.infrastructure.SqlStatementAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Counts SQL statements prepared during secured service calls, including the
+ * permission check.
+ *
+ * <p>Permission evaluation resolves only IDs. When it reads a scope from the
+ * database it publishes it through {@link RequestResourceRegistry}, and the
+ * service body skips its own existence query. A scope served from
+ * {@link ResourceScopeCache} proves nothing about the row still existing, so
+ * the service falls back to {@code existsById}.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SecuredCallStatementCountTest {
+
+    @Autowired DashboardService dashboardService;
+    @Autowired MockSchemaService mockSchemaService;
+    @Autowired MockRecordService mockRecordService;
+    @Autowired MockRecordRepository mockRecordRepository;
+    @Autowired MockSchemaRepository mockSchemaRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired OrganizationMemberRepository memberRepository;
+    @Autowired EntityManager entityManager;
+    @MockitoSpyBean ProjectRepository projectRepository;
+    @MockitoBean com.mockify.backend.service.EndpointService endpointService;
+
+    private User owner;
+    private Organization organization;
+    private Project project;
+    private MockSchema schema;
+    private MockRecord record;
+
+    @BeforeEach
+    void setUp() {
+        owner        = userRepository.save(buildUser("count-owner@test.com"));
+        organization = organizationRepository.save(buildOrg("Count Org", owner));
+        project      = projectRepository.save(buildProject("Count Project", organization));
+        schema       = mockSchemaRepository.save(buildSchema("Count Schema", project));
+        record       = mockRecordRepository.save(buildRecord(schema));
+
+        memberRepository.save(OrganizationMember.builder()
+                .organization(organization).user(owner).role(MemberRole.OWNER).joinedAt(LocalDateTime.now()).build());
+
+        // Start every test with an empty persistence context so loads hit the database
+        entityManager.flush();
+        entityManager.clear();
+
+        startRequest();
+        authenticateAsJwt(owner.getId());
+        clearInvocations(projectRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void organizationStats_skipsExistenceQueryAfterEvaluatorLoad() throws Exception {
+        // Org existence (evaluator), member role, stats
+        assertMaxStatements(3, () -> dashboardService.organizationStats(owner.getId(), organization.getId()));
+    }
+
+    @Test
+    void projectStats_skipsExistenceQueryAfterEvaluatorLoad() throws Exception {
+        // Project scope, member role, stats
+        assertMaxStatements(3, () -> dashboardService.projectStats(owner.getId(), project.getId()));
+
+        verify(projectRepository, never()).existsById(project.getId());
+    }
+
+    @Test
+    void projectStats_cachedScope_checksExistence() throws Exception {
+        dashboardService.projectStats(owner.getId(), project.getId());
+        startRequest();
+
+        // Scope and member role are cached: existence check, stats
+        assertMaxStatements(2, () -> dashboardService.projectStats(owner.getId(), project.getId()));
+
+        verify(projectRepository).existsById(project.getId());
+    }
+
+    @Test
+    void projectStats_cachedScopeOfDeletedProject_returnsNotFound() {
+        dashboardService.projectStats(owner.getId(), project.getId());
+        startRequest();
+
+        // Deleted behind the cache's back (e.g. on another node, before the invalidation arrives)
+        entityManager.createNativeQuery("DELETE FROM projects WHERE id = :id")
+                .setParameter("id", project.getId())
+                .executeUpdate();
+
+        assertThatThrownBy(() -> dashboardService.projectStats(owner.getId(), project.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void schemaStats_staysWithinBudget() throws Exception {
+        // Schema scope, member role, stats
+        assertMaxStatements(3, () -> dashboardService.schemaStats(owner.getId(), schema.getId()));
+    }
+
+    @Test
+    void getSchemaById_staysWithinBudget() throws Exception {
+        // Schema scope, member role, schema, then project, organization and
+        // records for the detail mapping
+        assertMaxStatements(6, () -> mockSchemaService.getSchemaById(owner.getId(), schema.getId()));
+    }
+
+    @Test
+    void getRecordById_staysWithinBudget() throws Exception {
+        // Record scope, member role, record, schema for the response mapping
+        assertMaxStatements(4, () -> mockRecordService.getRecordById(owner.getId(), record.getId()));
+    }
+
+    @Test
+    void withoutRequest_fallsBackToExistenceQuery() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
+
+        // Project scope, member role, existence check, stats
+        assertMaxStatements(4, () -> dashboardService.projectStats(owner.getId(), project.getId()));
+
+        verify(projectRepository).existsById(project.getId());
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private void authenticateAsJwt(UUID userId) {
+        var principal = org.springframework.security.core.userdetails.User
+                .withUsername(userId.toString()).password("")
+                .authorities(new SimpleGrantedAuthority("ROLE_USER")).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User buildUser(String email) {
+        User u = new User(); u.setName("Test"); u.setEmail(email);
+        u.setPassword("hashed"); u.setProviderName("local"); u.setEmailVerified(true);
+        return u;
+    }
+    private Organization buildOrg(String name, User owner) {
+        Organization o = new Organization(); o.setName(name);
+        o.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID()); o.setOwner(owner);
+        return o;
+    }
+    private Project buildProject(String name, Organization org) {
+        Project p = new Project(); p.setName(name);
+        p.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID()); p.setOrganization(org);
+        return p;
+    }
+    private MockSchema buildSchema(String name, Project project) {
+        MockSchema s = new MockSchema(); s.setName(name);
+        s.setSlug(name.toLowerCase().replace(" ","-")+"-"+UUID.randomUUID());
+        s.setSchemaJson(Map.of("field", "string")); s.setProject(project);
+        return s;
+    }
+    private MockRecord buildRecord(MockSchema schema) {
+        MockRecord r = new MockRecord();
+        r.setData(Map.of("field", "value"));
+        r.setMockSchema(schema);
+        r.setCreatedAt(LocalDateTime.now());
+        r.setExpiresAt(LocalDateTime.now().plusDays(7));
+        return r;
+    }
+}
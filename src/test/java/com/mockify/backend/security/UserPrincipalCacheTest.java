@@ -0,0 +1,81 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.infrastructure.CacheInvalidationBus;
+import com.mockify.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserPrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private CacheInvalidationBus invalidationBus;
+    private UserPrincipalCache cache;
+    private Consumer<String> evictionHandler;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new UserPrincipalCache(userRepository, invalidationBus);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofSeconds(60));
+        cache.init();
+
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(UserPrincipalCache.CACHE_NAME), captor.capture());
+        evictionHandler = captor.getValue();
+    }
+
+    @Test
+    void testGet_LoadsRoleOnceAndBuildsUserDetails() {
+        when(userRepository.findRoleById(userId)).thenReturn(Optional.of(UserRole.ADMIN));
+
+        cache.get(userId);
+        UserDetails details = cache.get(userId).toUserDetails();
+
+        verify(userRepository, times(1)).findRoleById(userId);
+        verifyNoMoreInteractions(userRepository);
+        assertEquals(userId.toString(), details.getUsername());
+        assertTrue(details.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    void testGet_MissingUserIsNotCached() {
+        when(userRepository.findRoleById(userId)).thenReturn(Optional.empty());
+
+        assertNull(cache.get(userId));
+        assertNull(cache.get(userId));
+
+        verify(userRepository, times(2)).findRoleById(userId);
+    }
+
+    @Test
+    void testEvict_PublishesAndHandlerReloads() {
+        when(userRepository.findRoleById(userId))
+                .thenReturn(Optional.of(UserRole.ADMIN))
+                .thenReturn(Optional.of(UserRole.USER));
+        cache.get(userId);
+
+        cache.evict(userId);
+        verify(invalidationBus).publish(UserPrincipalCache.CACHE_NAME, userId.toString());
+        evictionHandler.accept(userId.toString());
+
+        assertEquals(UserRole.USER, cache.get(userId).role());
+    }
+}
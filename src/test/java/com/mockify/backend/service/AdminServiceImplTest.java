@@ -0,0 +1,110 @@
+package com.mockify.backend.service.impl;
+
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.common.pagination.KeysetCursor;
+import com.mockify.backend.dto.response.admin.AdminUserResponse;
+import com.mockify.backend.dto.response.page.CursorPageResponse;
+import com.mockify.backend.exception.BadRequestException;
+import com.mockify.backend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private MockSchemaRepository mockSchemaRepository;
+
+    @Mock
+    private MockRecordRepository mockRecordRepository;
+
+    @Mock
+    private TableStatsRepository tableStatsRepository;
+
+    private AdminServiceImpl adminService;
+
+    @BeforeEach
+    void setUp() {
+        adminService = new AdminServiceImpl(userRepository, organizationRepository, projectRepository,
+                mockSchemaRepository, mockRecordRepository, tableStatsRepository);
+    }
+
+    @Test
+    void testListUsers_FirstPageFetchesOneExtraRowForNextCursor() {
+        List<AdminUserResponse> rows = List.of(user(3), user(2), user(1));
+        when(userRepository.findAdminPage(KeysetCursor.START.createdAt(), KeysetCursor.START.id(), Limit.of(3)))
+                .thenReturn(rows);
+        when(tableStatsRepository.estimateRowCount("users")).thenReturn(OptionalLong.of(1_000_000));
+
+        CursorPageResponse<AdminUserResponse> page = adminService.listUsers(null, null, null, 2, true);
+
+        assertEquals(rows.subList(0, 2), page.data());
+        assertEquals(1_000_000L, page.approximateTotal());
+        KeysetCursor next = KeysetCursor.decode(page.nextCursor());
+        assertEquals(rows.get(1).createdAt(), next.createdAt());
+        assertEquals(rows.get(1).id(), next.id());
+    }
+
+    @Test
+    void testListUsers_LastPageHasNoNextCursor() {
+        AdminUserResponse last = user(1);
+        KeysetCursor after = new KeysetCursor(last.createdAt().plusDays(1), UUID.randomUUID());
+        when(userRepository.findAdminPage(after.createdAt(), after.id(), Limit.of(21)))
+                .thenReturn(List.of(last));
+
+        CursorPageResponse<AdminUserResponse> page = adminService.listUsers(null, null, after.encode(), 20, false);
+
+        assertEquals(List.of(last), page.data());
+        assertNull(page.nextCursor());
+        assertNull(page.approximateTotal());
+        verifyNoInteractions(tableStatsRepository);
+    }
+
+    @Test
+    void testListUsers_EmailSearchEscapesWildcardsAndSkipsEstimate() {
+        when(userRepository.findAdminPageByEmailAndRole(
+                eq("%50\\%\\_off\\\\%"), eq(UserRole.USER), any(), any(), eq(Limit.of(21))))
+                .thenReturn(List.of());
+
+        CursorPageResponse<AdminUserResponse> page =
+                adminService.listUsers("50%_off\\", UserRole.USER, null, 20, true);
+
+        assertTrue(page.data().isEmpty());
+        assertNull(page.approximateTotal());
+        verifyNoInteractions(tableStatsRepository);
+    }
+
+    @Test
+    void testListUsers_RejectsTamperedCursor() {
+        assertThrows(BadRequestException.class,
+                () -> adminService.listUsers(null, null, "not-a-cursor", 20, false));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static AdminUserResponse user(int day) {
+        return new AdminUserResponse(UUID.randomUUID(), "User " + day, "user" + day + "@test.com",
+                true, UserRole.USER, "local", "user" + day, LocalDateTime.of(2025, 1, day, 12, 0));
+    }
+}
@@ -5,11 +5,13 @@ import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.HotPathMetrics;
 import com.mockify.backend.mapper.MockRecordMapper;
 import com.mockify.backend.model.MockRecord;
 import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.repository.MockRecordRepository;
 import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.security.ResourceScopeCache;
 import com.mockify.backend.service.MockAutoGenerateService;
 import com.mockify.backend.service.MockValidatorService;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +47,12 @@ class MockRecordServiceImplTest {
     @Mock
     private MockAutoGenerateService autoGenerateService;
 
+    @Mock
+    private ResourceScopeCache resourceScopeCache;
+
+    @Mock
+    private HotPathMetrics hotPathMetrics;
+
     @InjectMocks
     private MockRecordServiceImpl mockRecordService;
 
@@ -315,6 +323,7 @@ class MockRecordServiceImplTest {
         mockRecordService.deleteRecord(userId, recordId);
 
         verify(mockRecordRepository).delete(record);
+        verify(resourceScopeCache).evictRecord(recordId);
     }
 
     @Test
@@ -0,0 +1,141 @@
+package com.mockify.backend.service.impl;
+
+import com.mockify.backend.dto.internal.SystemTemplate;
+import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.SchemaTemplateCatalog;
+import com.mockify.backend.mapper.MockSchemaMapper;
+import com.mockify.backend.mapper.SchemaTemplateMapper;
+import com.mockify.backend.model.MockSchema;
+import com.mockify.backend.model.Project;
+import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.repository.ProjectRepository;
+import com.mockify.backend.service.EndpointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaTemplateServiceImplTest {
+
+    @Mock
+    private SchemaTemplateCatalog schemaTemplateCatalog;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private MockSchemaRepository mockSchemaRepository;
+
+    @Mock
+    private SchemaTemplateMapper schemaTemplateMapper;
+
+    @Mock
+    private MockSchemaMapper mockSchemaMapper;
+
+    @Mock
+    private EndpointService endpointService;
+
+    private SchemaTemplateServiceImpl schemaTemplateService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final SystemTemplate userProfile = template("User Profile", "user-profile");
+    private final SystemTemplate product = template("Product", "product");
+
+    @BeforeEach
+    void setUp() {
+        schemaTemplateService = new SchemaTemplateServiceImpl(
+                schemaTemplateCatalog, projectRepository, mockSchemaRepository,
+                schemaTemplateMapper, mockSchemaMapper, new SlugServiceImpl(), endpointService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyTemplatesToProjects_OneSlugQueryPerProjectAndBatchedInserts() {
+        Project first = project();
+        Project second = project();
+
+        when(schemaTemplateCatalog.find("user-profile")).thenReturn(Optional.of(userProfile));
+        when(schemaTemplateCatalog.find("product")).thenReturn(Optional.of(product));
+        when(projectRepository.findAllById(any())).thenReturn(List.of(first, second));
+        when(mockSchemaRepository.findSlugsByProjectId(first.getId()))
+                .thenReturn(List.of("user-profile", "user-profile-1"));
+        when(mockSchemaRepository.findSlugsByProjectId(second.getId())).thenReturn(List.of());
+
+        schemaTemplateService.applyTemplatesToProjects(
+                userId,
+                List.of(first.getId(), second.getId()),
+                List.of("user-profile", "product", "user-profile"));
+
+        ArgumentCaptor<List<MockSchema>> saved = ArgumentCaptor.forClass(List.class);
+        verify(mockSchemaRepository, times(1)).saveAll(saved.capture());
+        verify(mockSchemaRepository, times(2)).findSlugsByProjectId(any());
+        verify(mockSchemaRepository, never()).existsBySlugAndProjectId(anyString(), any());
+        verify(endpointService, times(2)).createEndpoints(anyList());
+
+        List<String> slugs = saved.getValue().stream().map(MockSchema::getSlug).toList();
+        assertEquals(List.of("user-profile-2", "product", "user-profile", "product"), slugs);
+
+        // Template JSON is shared, not deep-copied
+        assertSame(userProfile.schemaJson(), saved.getValue().getFirst().getSchemaJson());
+    }
+
+    @Test
+    void applyTemplatesToProjects_UnknownTemplateWritesNothing() {
+        when(schemaTemplateCatalog.find("missing")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> schemaTemplateService.applyTemplatesToProjects(
+                userId, List.of(UUID.randomUUID()), List.of("missing")));
+
+        verify(mockSchemaRepository, never()).saveAll(anyList());
+        verifyNoInteractions(endpointService);
+    }
+
+    @Test
+    void applyTemplatesToProjects_MissingProjectWritesNothing() {
+        when(schemaTemplateCatalog.find("product")).thenReturn(Optional.of(product));
+        when(projectRepository.findAllById(any())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> schemaTemplateService.applyTemplatesToProjects(
+                userId, List.of(UUID.randomUUID()), List.of("product")));
+
+        verify(mockSchemaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void applyTemplateToProject_PicksFirstFreeSlugFromOneQuery() {
+        Project project = project();
+
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(schemaTemplateCatalog.find("product")).thenReturn(Optional.of(product));
+        when(mockSchemaRepository.findSlugsByProjectId(project.getId())).thenReturn(List.of("product"));
+        when(mockSchemaRepository.save(any(MockSchema.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        schemaTemplateService.applyTemplateToProject(userId, project.getId(), "product");
+
+        ArgumentCaptor<MockSchema> saved = ArgumentCaptor.forClass(MockSchema.class);
+        verify(mockSchemaRepository).save(saved.capture());
+        assertEquals("product-1", saved.getValue().getSlug());
+        verify(mockSchemaRepository, never()).existsBySlugAndProjectId(anyString(), any());
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        return project;
+    }
+
+    private static SystemTemplate template(String name, String slug) {
+        return new SystemTemplate(UUID.randomUUID(), name, slug, null,
+                Map.of("id", "uuid", "name", "string"), null, null);
+    }
+}
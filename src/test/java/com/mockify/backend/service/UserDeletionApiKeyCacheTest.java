@@ -0,0 +1,79 @@
+package com.mockify.backend.service;
+
+import com.mockify.backend.dto.request.apikey.CreateApiKeyRequest;
+import com.mockify.backend.dto.response.apikey.CreateApiKeyResult;
+import com.mockify.backend.model.*;
+import com.mockify.backend.model.ApiKeyPermission.*;
+import com.mockify.backend.repository.*;
+import com.mockify.backend.security.ApiKeyAuthCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deleting a user cascades to their organizations and to every API key they
+ * created; a key cached by the auth filter must stop authenticating with them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserDeletionApiKeyCacheTest {
+
+    @Autowired UserService userService;
+    @Autowired ApiKeyService apiKeyService;
+    @Autowired ApiKeyAuthCache apiKeyAuthCache;
+    @Autowired UserRepository userRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired ApiKeyRepository apiKeyRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void deleteUser_evictsCachedKeysTheyCreated() {
+        User owner = userRepository.save(buildUser("key-owner-" + UUID.randomUUID() + "@test.com"));
+        Organization org = organizationRepository.save(buildOrg("keys-" + UUID.randomUUID(), owner));
+
+        CreateApiKeyResult created = apiKeyService.createApiKey(owner.getId(), org.getId(),
+                CreateApiKeyRequest.builder()
+                        .name("Cached key")
+                        .rateLimitPerMinute(1000)
+                        .permissions(List.of(new CreateApiKeyRequest.PermissionRequest(
+                                ApiPermission.READ, ApiResourceType.RECORD, null)))
+                        .build());
+
+        // What the auth filter caches after a successful verification
+        ApiKey key = apiKeyRepository.findById(created.getKeyInfo().getId()).orElseThrow();
+        apiKeyAuthCache.put(created.getApiKey(), key, apiKeyAuthCache.generation());
+        assertNotNull(apiKeyAuthCache.get(created.getApiKey()));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        userService.deleteUser(owner.getId());
+
+        // Evictions are published after commit; the user, org and key are all gone afterwards
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertNull(apiKeyAuthCache.get(created.getApiKey()));
+        assertFalse(apiKeyRepository.existsById(created.getKeyInfo().getId()));
+    }
+
+    private User buildUser(String email) {
+        User u = new User(); u.setName("Test"); u.setEmail(email);
+        u.setPassword("hashed"); u.setProviderName("local"); u.setEmailVerified(true);
+        return u;
+    }
+    private Organization buildOrg(String slug, User owner) {
+        Organization o = new Organization(); o.setName(slug); o.setSlug(slug); o.setOwner(owner);
+        return o;
+    }
+}
@@ -1,16 +1,22 @@
 package com.mockify.backend.service.open_api_import;
 
+import com.mockify.backend.dto.internal.ExtractedSpec;
 import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
-import com.mockify.backend.dto.request.schema.CreateMockSchemaRequest;
+import com.mockify.backend.dto.internal.SchemaIdentity;
 import com.mockify.backend.dto.response.imports.OpenApiImportResponse;
 import com.mockify.backend.dto.response.schema.MockSchemaResponse;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.InvalidOpenApiException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.OpenApiSpecCache;
+import com.mockify.backend.mapper.MockSchemaMapper;
+import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.model.Project;
+import com.mockify.backend.repository.MockSchemaRepository;
 import com.mockify.backend.repository.ProjectRepository;
 import com.mockify.backend.service.*;
 import com.mockify.backend.service.impl.OpenApiImportServiceImpl;
+import com.mockify.backend.service.impl.SlugServiceImpl;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
@@ -22,12 +28,21 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -50,8 +65,12 @@ class OpenApiImportServiceTest {
     private OpenApiParserService parserService;
     private OpenApiValidatorService validatorService;
     private SchemaExtractorService extractorService;
-    private MockSchemaService mockSchemaService;
+    private OpenApiSpecCache specCache;
+    private MockValidatorService mockValidatorService;
+    private EndpointService endpointService;
+    private MockSchemaRepository mockSchemaRepository;
     private ProjectRepository projectRepository;
+    private MockSchemaMapper mockSchemaMapper;
 
     private OpenApiImportService importService;
 
@@ -60,22 +79,60 @@ class OpenApiImportServiceTest {
     private Project project;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
 
         parserService = mock(OpenApiParserService.class);
         validatorService = mock(OpenApiValidatorService.class);
         extractorService = mock(SchemaExtractorService.class);
-        mockSchemaService = mock(MockSchemaService.class);
+        mockValidatorService = mock(MockValidatorService.class);
+        specCache = mock(OpenApiSpecCache.class);
+        endpointService = mock(EndpointService.class);
+        mockSchemaRepository = mock(MockSchemaRepository.class);
         projectRepository = mock(ProjectRepository.class);
+        mockSchemaMapper = mock(MockSchemaMapper.class);
 
         importService = new OpenApiImportServiceImpl(
                 parserService,
                 validatorService,
                 extractorService,
-                mockSchemaService,
-                projectRepository
+                specCache,
+                mockValidatorService,
+                new SlugServiceImpl(),
+                endpointService,
+                mockSchemaRepository,
+                projectRepository,
+                mockSchemaMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
         );
 
+        ReflectionTestUtils.setField(importService, "maxFileSize", DataSize.ofMegabytes(2));
+
+        // Handler runs on whatever the single-argument parse is stubbed to return
+        when(parserService.parse(any(MultipartFile.class), any()))
+                .thenAnswer(invocation -> ((Function<ParsedOpenApiSpec, ?>) invocation.getArgument(1))
+                        .apply(parserService.parse((MultipartFile) invocation.getArgument(0))));
+
+        // Cache always misses here; OpenApiSpecCacheTest covers hits
+        when(specCache.getOrCompute(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<ExtractedSpec>) invocation.getArgument(1)).get());
+
+        // Batch insert returns what it was given
+        when(mockSchemaRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(mockSchemaMapper.toResponse(any(MockSchema.class)))
+                .thenAnswer(invocation -> {
+                    MockSchema schema = invocation.getArgument(0);
+
+                    MockSchemaResponse response =
+                            new MockSchemaResponse();
+
+                    response.setName(schema.getName());
+
+                    return response;
+                });
+
         userId = UUID.randomUUID();
         projectId = UUID.randomUUID();
 
@@ -163,28 +220,12 @@ class OpenApiImportServiceTest {
                         );
                     });
 
-            when(mockSchemaService.createSchema(
-                    eq(userId),
-                    eq(projectId),
-                    any(CreateMockSchemaRequest.class)
-            )).thenAnswer(invocation -> {
-
-                CreateMockSchemaRequest req =
-                        invocation.getArgument(2);
-
-                MockSchemaResponse response =
-                        new MockSchemaResponse();
-
-                response.setName(req.getName());
-
-                return response;
-            });
-
             OpenApiImportResponse response =
                     importService.importOpenApi(
                             userId,
                             projectId,
-                            file
+                            file,
+                            false
                     );
 
             assertNotNull(response);
@@ -202,18 +243,17 @@ class OpenApiImportServiceTest {
             verify(parserService).parse(file);
             verify(validatorService).validate(parsedSpec);
 
-            verify(mockSchemaService, times(2))
-                    .createSchema(
-                            eq(userId),
-                            eq(projectId),
-                            any(CreateMockSchemaRequest.class)
-                    );
+            // One batch for schemas and one for endpoints
+            verify(mockSchemaRepository, times(1)).saveAll(anyList());
+            verify(endpointService, times(1)).createEndpoints(anyList());
+            verify(endpointService, never()).createEndpoint(any(MockSchema.class));
         }
 
 
         @Test
-        @DisplayName("Should build correct schema creation request")
-        void shouldBuildCorrectSchemaCreationRequest() {
+        @DisplayName("Should build schemas with name, slug, project and schemaJson")
+        @SuppressWarnings("unchecked")
+        void shouldBuildCorrectSchemas() {
 
             MultipartFile file = buildValidFile();
             ParsedOpenApiSpec parsedSpec = buildParsedSpec();
@@ -232,37 +272,182 @@ class OpenApiImportServiceTest {
                             )
                     );
 
-            when(mockSchemaService.createSchema(
-                    any(),
-                    any(),
-                    any()
-            )).thenReturn(
-                    new MockSchemaResponse()
-            );
-
             importService.importOpenApi(
                     userId,
                     projectId,
-                    file
+                    file,
+                    false
             );
 
-            ArgumentCaptor<CreateMockSchemaRequest> captor =
-                    ArgumentCaptor.forClass(
-                            CreateMockSchemaRequest.class
+            ArgumentCaptor<List<MockSchema>> captor =
+                    ArgumentCaptor.forClass(List.class);
+
+            verify(mockSchemaRepository)
+                    .saveAll(captor.capture());
+
+            MockSchema user = captor.getValue().getFirst();
+
+            assertEquals("User", user.getName());
+            assertEquals("user", user.getSlug());
+            assertSame(project, user.getProject());
+            assertNotNull(user.getSchemaJson());
+        }
+
+
+        @Test
+        @DisplayName("Should check conflicts in one query and skip existing names")
+        void shouldSkipExistingNamesAndSuffixTakenSlugs() {
+
+            MultipartFile file = buildValidFile();
+            ParsedOpenApiSpec parsedSpec = buildParsedSpec();
+
+            when(projectRepository.findById(projectId))
+                    .thenReturn(Optional.of(project));
+
+            when(parserService.parse(file))
+                    .thenReturn(parsedSpec);
+
+            when(extractorService.extractSchema(anyString(), any()))
+                    .thenReturn(
+                            Map.of(
+                                    "id",
+                                    "uuid"
+                            )
+                    );
+
+            // "User" exists by name, another schema already owns slug "product"
+            when(mockSchemaRepository.findConflicting(eq(projectId), anyCollection(), anyCollection()))
+                    .thenReturn(List.of(
+                            new SchemaIdentity("User", "user"),
+                            new SchemaIdentity("Products", "product")
+                    ));
+
+            OpenApiImportResponse response =
+                    importService.importOpenApi(
+                            userId,
+                            projectId,
+                            file,
+                            false
+                    );
+
+            assertEquals(1, response.getTotalImported());
+            assertEquals(1, response.getTotalSkipped());
+            assertEquals("User", response.getSkipped().getFirst().component());
+
+            verify(mockSchemaRepository, times(1))
+                    .findConflicting(eq(projectId), anyCollection(), anyCollection());
+            verify(mockSchemaRepository, never())
+                    .existsBySlugAndProjectId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should skip components whose endpoint path or suffixed slug is taken")
+        @SuppressWarnings("unchecked")
+        void shouldSkipTakenEndpointPathsAndSuffixedSlugs() {
+
+            MultipartFile file = buildValidFile();
+            ParsedOpenApiSpec parsedSpec = buildParsedSpec();
+
+            when(projectRepository.findById(projectId))
+                    .thenReturn(Optional.of(project));
+
+            when(parserService.parse(file))
+                    .thenReturn(parsedSpec);
+
+            when(extractorService.extractSchema(anyString(), any()))
+                    .thenReturn(Map.of("id", "uuid"));
+
+            // "product" is taken, so Product gets a random suffix...
+            when(mockSchemaRepository.findConflicting(eq(projectId), anyCollection(), anyCollection()))
+                    .thenReturn(List.of(new SchemaIdentity("Products", "product")));
+
+            // ...which collides as well
+            when(mockSchemaRepository.findExistingSlugs(eq(projectId), anyCollection()))
+                    .thenAnswer(invocation -> List.copyOf((Collection<String>) invocation.getArgument(1)));
+
+            // An endpoint path is left over for "user" without a schema row
+            when(endpointService.findTakenSchemaSlugs(eq(projectId), anyCollection()))
+                    .thenReturn(Set.of("user"));
+
+            OpenApiImportResponse response =
+                    importService.importOpenApi(
+                            userId,
+                            projectId,
+                            file,
+                            false
                     );
 
-            verify(mockSchemaService, atLeastOnce())
-                    .createSchema(
-                            eq(userId),
-                            eq(projectId),
-                            captor.capture()
+            assertEquals(0, response.getTotalImported());
+            assertEquals(2, response.getTotalSkipped());
+            assertTrue(response.getSkipped().stream()
+                    .allMatch(skipped -> skipped.reason().contains("already in use")));
+
+            verify(endpointService, never()).createEndpoints(argThat(list -> !list.isEmpty()));
+        }
+    }
+
+
+    @Nested
+    @DisplayName("Re-import Tests")
+    class ReimportTests {
+
+        @Test
+        @DisplayName("Should update changed schemas and leave unchanged ones untouched")
+        void shouldUpdateOnlyChangedSchemas() {
+
+            MultipartFile file = buildValidFile();
+            ParsedOpenApiSpec parsedSpec = buildParsedSpec();
+
+            when(projectRepository.findById(projectId))
+                    .thenReturn(Optional.of(project));
+
+            when(parserService.parse(file))
+                    .thenReturn(parsedSpec);
+
+            Map<String, Object> userJson = new LinkedHashMap<>();
+            userJson.put("id", "uuid");
+            userJson.put("age", Map.of("type", "number", "min", 1));
+
+            when(extractorService.extractSchema(eq("User"), any()))
+                    .thenReturn(userJson);
+
+            when(extractorService.extractSchema(eq("Product"), any()))
+                    .thenReturn(Map.of("name", "string", "price", "number"));
+
+            // Same structure as extracted, different key order and number type
+            Map<String, Object> storedUserJson = new LinkedHashMap<>();
+            storedUserJson.put("age", Map.of("min", 1.0, "type", "number"));
+            storedUserJson.put("id", "uuid");
+
+            MockSchema user = new MockSchema();
+            user.setName("User");
+            user.setSchemaJson(storedUserJson);
+
+            MockSchema product = new MockSchema();
+            product.setName("Product");
+            product.setSchemaJson(Map.of("name", "string"));
+
+            when(mockSchemaRepository.findByProjectIdAndNameIn(eq(projectId), anyCollection()))
+                    .thenReturn(List.of(user, product));
+
+            OpenApiImportResponse response =
+                    importService.importOpenApi(
+                            userId,
+                            projectId,
+                            file,
+                            true
                     );
 
-            CreateMockSchemaRequest request =
-                    captor.getValue();
+            assertEquals(List.of("Product"), response.getUpdated());
+            assertEquals(List.of("User"), response.getUnchanged());
+            assertEquals(0, response.getTotalImported());
+            assertEquals(0, response.getTotalSkipped());
 
-            assertNotNull(request.getName());
-            assertNotNull(request.getSchemaJson());
+            assertSame(storedUserJson, user.getSchemaJson());
+            assertEquals("number", product.getSchemaJson().get("price"));
+
+            verify(mockSchemaRepository, never()).saveAll(anyList());
+            verify(endpointService, never()).createEndpoints(anyList());
         }
     }
 
@@ -301,19 +486,12 @@ class OpenApiImportServiceTest {
                     )
             );
 
-            when(mockSchemaService.createSchema(
-                    any(),
-                    any(),
-                    any()
-            )).thenReturn(
-                    new MockSchemaResponse()
-            );
-
             OpenApiImportResponse response =
                     importService.importOpenApi(
                             userId,
                             projectId,
-                            file
+                            file,
+                            false
                     );
 
             assertEquals(
@@ -355,7 +533,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    file
+                                    file,
+                                    false
                             )
                     );
 
@@ -379,7 +558,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    null
+                                    null,
+                                    false
                             )
                     );
 
@@ -411,7 +591,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    file
+                                    file,
+                                    false
                             )
                     );
 
@@ -447,7 +628,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    file
+                                    file,
+                                    false
                             )
                     );
 
@@ -459,6 +641,41 @@ class OpenApiImportServiceTest {
         }
 
 
+        @Test
+        @DisplayName("Should accept file up to the configured limit")
+        void shouldAcceptFileUpToConfiguredLimit() {
+
+            ReflectionTestUtils.setField(importService, "maxFileSize", DataSize.ofMegabytes(50));
+
+            MultipartFile file =
+                    new MockMultipartFile(
+                            "file",
+                            "vendor.yaml",
+                            "application/x-yaml",
+                            new byte[3 * 1024 * 1024]
+                    );
+
+            when(projectRepository.findById(projectId))
+                    .thenReturn(Optional.of(project));
+
+            when(parserService.parse(file))
+                    .thenReturn(buildParsedSpec());
+
+            when(extractorService.extractSchema(anyString(), any()))
+                    .thenReturn(Map.of("id", "uuid"));
+
+            OpenApiImportResponse response =
+                    importService.importOpenApi(
+                            userId,
+                            projectId,
+                            file,
+                            false
+                    );
+
+            assertEquals(2, response.getTotalImported());
+        }
+
+
         @Test
         @DisplayName("Should propagate parser failure")
         void shouldPropagateParserFailure() {
@@ -481,7 +698,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    file
+                                    file,
+                                    false
                             )
                     );
 
@@ -518,7 +736,8 @@ class OpenApiImportServiceTest {
                             () -> importService.importOpenApi(
                                     userId,
                                     projectId,
-                                    file
+                                    file,
+                                    false
                             )
                     );
 
@@ -2,6 +2,7 @@ package com.mockify.backend.service.open_api_import;
 
 import com.mockify.backend.dto.internal.ParsedOpenApiSpec;
 import com.mockify.backend.exception.InvalidOpenApiException;
+import com.mockify.backend.infrastructure.OpenApiParseGuard;
 import com.mockify.backend.service.OpenApiParserService;
 import com.mockify.backend.service.impl.OpenApiParserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -38,9 +41,17 @@ class OpenApiParserServiceTest {
     private static final String RESOURCE_PATH =
             "/openApi-import-files/";
 
+    private OpenApiParseGuard parseGuard;
+
     @BeforeEach
     void setUp() {
-        parserService = new OpenApiParserServiceImpl();
+        parseGuard = new OpenApiParseGuard(
+                DataSize.ofMegabytes(50),
+                Duration.ofSeconds(30),
+                DataSize.ofMegabytes(256),
+                12
+        );
+        parserService = new OpenApiParserServiceImpl(parseGuard);
     }
 
     /**
@@ -101,6 +112,24 @@ class OpenApiParserServiceTest {
         }
 
 
+        @Test
+        @DisplayName("Should hold the parse memory reservation while the handler runs")
+        void shouldHoldReservationWhileHandlerRuns()
+                throws Exception {
+
+            MultipartFile file = loadFile(
+                    "basic-valid.yaml",
+                    "application/x-yaml"
+            );
+
+            int availableDuringHandler =
+                    parserService.parse(file, spec -> parseGuard.availableMb());
+
+            assertTrue(availableDuringHandler < 256);
+            assertEquals(256, parseGuard.availableMb());
+        }
+
+
         @Test
         @DisplayName("Should parse enterprise large OpenAPI YAML successfully")
         void shouldParseEnterpriseLargeYamlSuccessfully()
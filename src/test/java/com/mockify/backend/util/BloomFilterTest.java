@@ -0,0 +1,60 @@
+package com.mockify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void inserted_values_are_always_found() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            values.add(jti);
+            filter.put(jti);
+        }
+
+        values.forEach(v -> assertTrue(filter.mightContain(v)));
+    }
+
+    @Test
+    void false_positive_rate_stays_near_target() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < 0.02, "observed false-positive rate " + observed);
+        assertEquals(0.01, filter.estimatedFalsePositiveRate(), 0.01);
+    }
+
+    @Test
+    void empty_filter_contains_nothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("anything"));
+        assertEquals(0.0, filter.estimatedFalsePositiveRate());
+        assertTrue(filter.sizeInBytes() > 0);
+    }
+
+    @Test
+    void invalid_parameters_are_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
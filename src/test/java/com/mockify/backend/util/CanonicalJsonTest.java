@@ -0,0 +1,32 @@
+package com.mockify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalJsonTest {
+
+    @Test
+    void key_order_and_number_representation_are_ignored() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("id", "uuid");
+        a.put("price", Map.of("type", "number", "min", 1));
+
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("price", Map.of("min", 1.0, "type", "number"));
+        b.put("id", "uuid");
+
+        assertEquals(CanonicalJson.hash(a), CanonicalJson.hash(b));
+    }
+
+    @Test
+    void list_order_types_and_nesting_are_significant() {
+        assertNotEquals(CanonicalJson.hash(List.of("a", "b")), CanonicalJson.hash(List.of("b", "a")));
+        assertNotEquals(CanonicalJson.hash(Map.of("n", 1)), CanonicalJson.hash(Map.of("n", "1")));
+        assertNotEquals(CanonicalJson.hash(Map.of("a", Map.of("b", "c"))), CanonicalJson.hash(Map.of("a", "bc")));
+    }
+}
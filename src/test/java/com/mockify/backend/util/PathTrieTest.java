@@ -0,0 +1,102 @@
+package com.mockify.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathTrieTest {
+
+    @Test
+    void get_matches_whole_paths_only() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "org");
+        trie.put("google/admin-backend", "project");
+
+        assertEquals("org", trie.get("google"));
+        assertEquals("project", trie.get("google/admin-backend"));
+        assertNull(trie.get("goo"));
+        assertNull(trie.get("googlex"));
+        assertNull(trie.get("google/admin"));
+        assertNull(trie.get("google/admin-backend/users"));
+    }
+
+    @Test
+    void removeSubtree_drops_path_and_descendants_only() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "org");
+        trie.put("google/admin-backend", "project");
+        trie.put("google/admin-backend/users", "schema");
+        trie.put("google/billing", "project");
+        assertEquals(4, trie.size());
+
+        trie.removeSubtree("google/admin-backend");
+
+        assertNull(trie.get("google/admin-backend"));
+        assertNull(trie.get("google/admin-backend/users"));
+        assertEquals("project", trie.get("google/billing"));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void replaceSubtree_swaps_in_new_subtree() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "org");
+        trie.put("google/admin-backend", "project");
+        trie.put("google/admin-backend/users", "schema");
+        trie.put("google/admin-backend/orders", "schema");
+        trie.put("google/billing", "project");
+
+        trie.replaceSubtree("google/admin-backend", Map.of(
+                "google/admin-backend", "project-v2",
+                "google/admin-backend/users", "schema-v2"));
+
+        assertEquals("project-v2", trie.get("google/admin-backend"));
+        assertEquals("schema-v2", trie.get("google/admin-backend/users"));
+        assertNull(trie.get("google/admin-backend/orders"));
+        assertEquals("project", trie.get("google/billing"));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    void replaceSubtree_with_no_entries_removes_it() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "org");
+        trie.put("google/admin-backend", "project");
+
+        trie.replaceSubtree("google", Map.of());
+
+        assertNull(trie.get("google"));
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    void replaceSubtree_adds_missing_path() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "org");
+
+        trie.replaceSubtree("google/new-project", Map.of("google/new-project", "project"));
+
+        assertEquals("project", trie.get("google/new-project"));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void replaceSubtree_rejects_paths_outside_it() {
+        PathTrie<String> trie = new PathTrie<>();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> trie.replaceSubtree("google", Map.of("googlex", "org")));
+    }
+
+    @Test
+    void put_overwrites_without_growing() {
+        PathTrie<String> trie = new PathTrie<>();
+        trie.put("google", "a");
+        trie.put("google", "b");
+
+        assertEquals("b", trie.get("google"));
+        assertEquals(1, trie.size());
+    }
+}